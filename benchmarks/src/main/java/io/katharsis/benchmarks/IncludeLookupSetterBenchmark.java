@@ -0,0 +1,96 @@
+package io.katharsis.benchmarks;
+
+import io.katharsis.benchmarks.model.Task;
+import io.katharsis.benchmarks.repository.InMemoryStore;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.resource.include.IncludeLookupSetter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup of the project and the related projects of a collection of tasks from the relationship repository, resolved
+ * sequentially or with the first relationships of the paths loaded concurrently. The tasks are copied without their
+ * relationships before each invocation, so each invocation loads the relationships with bulk repository calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IncludeLookupSetterBenchmark {
+
+    private static final int PROJECT_COUNT = 100;
+
+    @Param({"10", "1000"})
+    public int size;
+
+    /**
+     * <i>sequential</i> resolves the paths in the calling thread, <i>concurrent</i> loads the two relationships in
+     * two tasks.
+     */
+    @Param({"sequential", "concurrent"})
+    public String mode;
+
+    private ExecutorService executor;
+    private IncludeLookupSetter includeLookupSetter;
+    private List<Task> tasks;
+    private QueryParams queryParams;
+
+    @Setup
+    public void setUp() throws Exception {
+        InMemoryStore.populate(PROJECT_COUNT, size);
+        KatharsisFixture fixture = KatharsisFixture.create();
+        if ("sequential".equals(mode)) {
+            includeLookupSetter = new IncludeLookupSetter(fixture.getResourceRegistry());
+        } else if ("concurrent".equals(mode)) {
+            executor = Executors.newFixedThreadPool(1);
+            includeLookupSetter = new IncludeLookupSetter(fixture.getResourceRegistry(), executor, 2);
+        } else {
+            throw new IllegalArgumentException("Unknown mode: " + mode);
+        }
+        // a key holds a single inclusion, empty brackets make the second key unique
+        Map<String, Set<String>> inclusions = new HashMap<>();
+        inclusions.put("include[tasks]", Collections.singleton("project"));
+        inclusions.put("include[tasks][]", Collections.singleton("relatedProjects"));
+        queryParams = fixture.getQueryParamsBuilder().buildQueryParams(inclusions);
+    }
+
+    @Setup(Level.Invocation)
+    public void copyTasks() {
+        tasks = InMemoryStore.copyTasksWithoutRelationships();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Benchmark
+    public List<Task> setIncludedElements() throws Exception {
+        includeLookupSetter.setIncludedElements("tasks", tasks, queryParams, null);
+        return tasks;
+    }
+}
@@ -0,0 +1,96 @@
+package io.katharsis.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.RequestDispatcher;
+import io.katharsis.dispatcher.registry.ControllerRegistry;
+import io.katharsis.dispatcher.registry.ControllerRegistryBuilder;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistryBuilder;
+import io.katharsis.jackson.JsonApiModuleBuilder;
+import io.katharsis.locator.SampleJsonServiceLocator;
+import io.katharsis.queryParams.DefaultQueryParamsParser;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.queryParams.QueryParamsBuilder;
+import io.katharsis.request.path.PathBuilder;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.ResourceRegistryBuilder;
+import io.katharsis.utils.parser.TypeParser;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Katharsis wired the way an integration does it, against the in-memory repositories of this module.
+ */
+public final class KatharsisFixture {
+
+    public static final String RESOURCE_PACKAGE = "io.katharsis.benchmarks";
+    public static final String SERVICE_URL = "https://service.local";
+
+    private final ResourceRegistry resourceRegistry;
+    private final ObjectMapper objectMapper;
+    private final PathBuilder pathBuilder;
+    private final QueryParamsBuilder queryParamsBuilder;
+    private final RequestDispatcher requestDispatcher;
+
+    private KatharsisFixture() throws Exception {
+        ResourceRegistryBuilder registryBuilder = new ResourceRegistryBuilder(new SampleJsonServiceLocator(),
+            new ResourceInformationBuilder(new ResourceFieldNameTransformer()));
+        resourceRegistry = registryBuilder.build(RESOURCE_PACKAGE, SERVICE_URL);
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JsonApiModuleBuilder().build(resourceRegistry));
+        pathBuilder = new PathBuilder(resourceRegistry);
+        queryParamsBuilder = new QueryParamsBuilder(new DefaultQueryParamsParser());
+        ControllerRegistry controllerRegistry = new ControllerRegistryBuilder(resourceRegistry, new TypeParser(),
+            objectMapper).build();
+        ExceptionMapperRegistry exceptionMapperRegistry = new ExceptionMapperRegistryBuilder().build(RESOURCE_PACKAGE);
+        requestDispatcher = new RequestDispatcher(controllerRegistry, exceptionMapperRegistry);
+    }
+
+    public static KatharsisFixture create() throws Exception {
+        return new KatharsisFixture();
+    }
+
+    public ResourceRegistry getResourceRegistry() {
+        return resourceRegistry;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public PathBuilder getPathBuilder() {
+        return pathBuilder;
+    }
+
+    public QueryParamsBuilder getQueryParamsBuilder() {
+        return queryParamsBuilder;
+    }
+
+    public RequestDispatcher getRequestDispatcher() {
+        return requestDispatcher;
+    }
+
+    /**
+     * @param variant one of <i>plain</i>, <i>include</i> including the project of a task or <i>fields</i> limiting
+     *                tasks to their name and project
+     * @return query parameters of the variant
+     */
+    public QueryParams buildQueryParams(String variant) {
+        Map<String, Set<String>> queryParams = new HashMap<>();
+        if ("include".equals(variant)) {
+            queryParams.put("include[tasks]", Collections.singleton("project"));
+        } else if ("fields".equals(variant)) {
+            queryParams.put("fields[tasks]", new LinkedHashSet<>(Arrays.asList("name", "project")));
+        } else if (!"plain".equals(variant)) {
+            throw new IllegalArgumentException("Unknown query parameters variant: " + variant);
+        }
+        return queryParamsBuilder.buildQueryParams(queryParams);
+    }
+}
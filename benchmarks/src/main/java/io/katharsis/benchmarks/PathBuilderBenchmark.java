@@ -0,0 +1,44 @@
+package io.katharsis.benchmarks;
+
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of request paths into {@link JsonPath} instances.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PathBuilderBenchmark {
+
+    @Param({"/tasks", "/tasks/1", "/tasks/1,2,3", "/tasks/1/project", "/tasks/1/relationships/project"})
+    public String path;
+
+    private PathBuilder pathBuilder;
+
+    @Setup
+    public void setUp() throws Exception {
+        pathBuilder = KatharsisFixture.create().getPathBuilder();
+    }
+
+    @Benchmark
+    public JsonPath buildPath() {
+        return pathBuilder.buildPath(path);
+    }
+}
@@ -0,0 +1,71 @@
+package io.katharsis.benchmarks;
+
+import io.katharsis.queryParams.DefaultQueryParamsParser;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.queryParams.QueryParamsBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building of {@link QueryParams} from the raw query parameters of a request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class QueryParamsBuilderBenchmark {
+
+    /**
+     * <i>none</i> for a request without parameters, <i>typical</i> for an include and a page, <i>full</i> for
+     * parameters of every kind.
+     */
+    @Param({"none", "typical", "full"})
+    public String parameters;
+
+    private QueryParamsBuilder queryParamsBuilder;
+    private Map<String, Set<String>> queryParams;
+
+    @Setup
+    public void setUp() {
+        queryParamsBuilder = new QueryParamsBuilder(new DefaultQueryParamsParser());
+        queryParams = new HashMap<>();
+        if ("typical".equals(parameters) || "full".equals(parameters)) {
+            queryParams.put("include[tasks]", Collections.singleton("project"));
+            queryParams.put("page[offset]", Collections.singleton("0"));
+            queryParams.put("page[limit]", Collections.singleton("20"));
+        }
+        if ("full".equals(parameters)) {
+            queryParams.put("filter[tasks][name]", Collections.singleton("task 1"));
+            queryParams.put("filter[tasks][project][name]", Collections.singleton("project 1"));
+            queryParams.put("sort[tasks][name]", Collections.singleton("asc"));
+            queryParams.put("sort[tasks][priority]", Collections.singleton("desc"));
+            queryParams.put("group[tasks]", Collections.singleton("completed"));
+            queryParams.put("fields[tasks]", new LinkedHashSet<>(Arrays.asList("name", "priority", "project")));
+            queryParams.put("fields[projects]", Collections.singleton("name"));
+        }
+    }
+
+    @Benchmark
+    public QueryParams buildQueryParams() {
+        return queryParamsBuilder.buildQueryParams(queryParams);
+    }
+}
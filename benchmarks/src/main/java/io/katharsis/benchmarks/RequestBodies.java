@@ -0,0 +1,32 @@
+package io.katharsis.benchmarks;
+
+/**
+ * Request bodies used by the benchmarks.
+ */
+final class RequestBodies {
+
+    private RequestBodies() {
+    }
+
+    /**
+     * @param projectCount   number of stored projects, the linkages reference projects within this range
+     * @param linkageCount   number of linkages of the to-many relationship
+     * @return body of a request creating a task with a project and related projects
+     */
+    static String newTask(int projectCount, int linkageCount) {
+        StringBuilder body = new StringBuilder(128 + linkageCount * 40);
+        body.append("{\"data\":{\"type\":\"tasks\",")
+            .append("\"attributes\":{\"name\":\"new task\",\"description\":\"description of a new task\",")
+            .append("\"completed\":false,\"priority\":3},")
+            .append("\"relationships\":{\"project\":{\"data\":{\"type\":\"projects\",\"id\":\"1\"}},")
+            .append("\"relatedProjects\":{\"data\":[");
+        for (int i = 0; i < linkageCount; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"type\":\"projects\",\"id\":\"").append(i % projectCount + 1).append("\"}");
+        }
+        body.append("]}}}}");
+        return body.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package io.katharsis.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.katharsis.request.dto.RequestBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization of POST bodies with a growing number of linkages in a to-many relationship.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RequestBodyBenchmark {
+
+    private static final int PROJECT_COUNT = 100;
+
+    @Param({"1", "100", "10000"})
+    public int linkageCount;
+
+    private ObjectReader reader;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        reader = KatharsisFixture.create().getObjectMapper().readerFor(RequestBody.class);
+        body = RequestBodies.newTask(PROJECT_COUNT, linkageCount).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public RequestBody deserialize() throws Exception {
+        return reader.readValue(body);
+    }
+}
@@ -0,0 +1,81 @@
+package io.katharsis.benchmarks;
+
+import io.katharsis.benchmarks.repository.InMemoryStore;
+import io.katharsis.dispatcher.RequestDispatcher;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.response.BaseResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatching of parsed requests to the controllers and repositories, without path parsing and serialization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RequestDispatcherBenchmark {
+
+    private static final int PROJECT_COUNT = 100;
+    private static final int TASK_COUNT = 1000;
+
+    private RequestDispatcher requestDispatcher;
+    private JsonPath taskPath;
+    private JsonPath tasksPath;
+    private JsonPath taskProjectPath;
+    private QueryParams plainQueryParams;
+    private QueryParams includeQueryParams;
+    private RequestBody newTaskBody;
+
+    @Setup
+    public void setUp() throws Exception {
+        InMemoryStore.populate(PROJECT_COUNT, TASK_COUNT);
+        KatharsisFixture fixture = KatharsisFixture.create();
+        requestDispatcher = fixture.getRequestDispatcher();
+        taskPath = fixture.getPathBuilder().buildPath("/tasks/1");
+        tasksPath = fixture.getPathBuilder().buildPath("/tasks");
+        taskProjectPath = fixture.getPathBuilder().buildPath("/tasks/1/project");
+        plainQueryParams = fixture.buildQueryParams("plain");
+        includeQueryParams = fixture.buildQueryParams("include");
+        newTaskBody = fixture.getObjectMapper().readValue(RequestBodies.newTask(PROJECT_COUNT, 2), RequestBody.class);
+    }
+
+    @Benchmark
+    public BaseResponse<?> getResource() throws Exception {
+        return requestDispatcher.dispatchRequest(taskPath, "GET", plainQueryParams, null, null);
+    }
+
+    @Benchmark
+    public BaseResponse<?> getResourceWithInclude() throws Exception {
+        return requestDispatcher.dispatchRequest(taskPath, "GET", includeQueryParams, null, null);
+    }
+
+    @Benchmark
+    public BaseResponse<?> getCollection() throws Exception {
+        return requestDispatcher.dispatchRequest(tasksPath, "GET", plainQueryParams, null, null);
+    }
+
+    @Benchmark
+    public BaseResponse<?> getRelatedResource() throws Exception {
+        return requestDispatcher.dispatchRequest(taskProjectPath, "GET", plainQueryParams, null, null);
+    }
+
+    @Benchmark
+    public BaseResponse<?> postResource() throws Exception {
+        return requestDispatcher.dispatchRequest(tasksPath, "POST", plainQueryParams, null, newTaskBody);
+    }
+}
@@ -0,0 +1,94 @@
+package io.katharsis.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.katharsis.benchmarks.repository.InMemoryStore;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.response.CollectionResponse;
+import io.katharsis.response.ResourceResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of a single resource and of collections of resources, with the included project of each task or a
+ * sparse fieldset depending on the query parameters variant. Only the collection benchmark depends on the number of
+ * stored tasks, so the benchmarks use separate states.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final int PROJECT_COUNT = 100;
+
+    @State(Scope.Benchmark)
+    public static class ResourceState {
+
+        /**
+         * @see KatharsisFixture#buildQueryParams(String)
+         */
+        @Param({"plain", "include", "fields"})
+        public String variant;
+
+        private ObjectWriter writer;
+        private ResourceResponse resourceResponse;
+
+        @Setup
+        public void setUp() throws Exception {
+            InMemoryStore.populate(PROJECT_COUNT, 1);
+            KatharsisFixture fixture = KatharsisFixture.create();
+            writer = fixture.getObjectMapper().writer();
+            JsonPath taskPath = fixture.getPathBuilder().buildPath("/tasks/1");
+            resourceResponse = new ResourceResponse(InMemoryStore.getTask(1), taskPath,
+                fixture.buildQueryParams(variant), null, null);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CollectionState {
+
+        @Param({"1000", "10000"})
+        public int size;
+
+        /**
+         * @see KatharsisFixture#buildQueryParams(String)
+         */
+        @Param({"plain", "include", "fields"})
+        public String variant;
+
+        private ObjectWriter writer;
+        private CollectionResponse collectionResponse;
+
+        @Setup
+        public void setUp() throws Exception {
+            InMemoryStore.populate(PROJECT_COUNT, size);
+            KatharsisFixture fixture = KatharsisFixture.create();
+            writer = fixture.getObjectMapper().writer();
+            JsonPath tasksPath = fixture.getPathBuilder().buildPath("/tasks");
+            collectionResponse = new CollectionResponse(InMemoryStore.getTasks(), tasksPath,
+                fixture.buildQueryParams(variant), null, null);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeResource(ResourceState state) throws Exception {
+        return state.writer.writeValueAsBytes(state.resourceResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeCollection(CollectionState state) throws Exception {
+        return state.writer.writeValueAsBytes(state.collectionResponse);
+    }
+}
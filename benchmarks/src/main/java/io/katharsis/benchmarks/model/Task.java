@@ -0,0 +1,88 @@
+package io.katharsis.benchmarks.model;
+
+import io.katharsis.resource.annotations.JsonApiId;
+import io.katharsis.resource.annotations.JsonApiLookupIncludeAutomatically;
+import io.katharsis.resource.annotations.JsonApiResource;
+import io.katharsis.resource.annotations.JsonApiToMany;
+import io.katharsis.resource.annotations.JsonApiToOne;
+
+import java.util.List;
+
+@JsonApiResource(type = "tasks")
+public class Task {
+
+    @JsonApiId
+    private Long id;
+
+    private String name;
+
+    private String description;
+
+    private boolean completed;
+
+    private int priority;
+
+    @JsonApiToOne
+    @JsonApiLookupIncludeAutomatically
+    private Project project;
+
+    @JsonApiToMany(lazy = false)
+    @JsonApiLookupIncludeAutomatically
+    private List<Project> relatedProjects;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    public List<Project> getRelatedProjects() {
+        return relatedProjects;
+    }
+
+    public void setRelatedProjects(List<Project> relatedProjects) {
+        this.relatedProjects = relatedProjects;
+    }
+}
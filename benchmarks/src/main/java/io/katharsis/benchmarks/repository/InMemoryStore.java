@@ -0,0 +1,92 @@
+package io.katharsis.benchmarks.repository;
+
+import io.katharsis.benchmarks.model.Project;
+import io.katharsis.benchmarks.model.Task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resources shared by the in-memory repositories. Repositories are instantiated by the service locator, so the data
+ * is kept in static maps populated by the benchmark states.
+ */
+public final class InMemoryStore {
+
+    static final ConcurrentMap<Long, Project> PROJECTS = new ConcurrentHashMap<>();
+    static final ConcurrentMap<Long, Task> TASKS = new ConcurrentHashMap<>();
+
+    private InMemoryStore() {
+    }
+
+    /**
+     * Replaces the stored resources. Every task references one of the projects as its project and two others as
+     * related projects.
+     *
+     * @param projectCount number of projects
+     * @param taskCount    number of tasks
+     */
+    public static void populate(int projectCount, int taskCount) {
+        PROJECTS.clear();
+        TASKS.clear();
+        List<Project> projects = new ArrayList<>(projectCount);
+        for (long id = 1; id <= projectCount; id++) {
+            Project project = new Project();
+            project.setId(id);
+            project.setName("project " + id);
+            project.setDescription("description of project " + id);
+            projects.add(project);
+            PROJECTS.put(id, project);
+        }
+        for (long id = 1; id <= taskCount; id++) {
+            Task task = new Task();
+            task.setId(id);
+            task.setName("task " + id);
+            task.setDescription("description of task " + id);
+            task.setPriority((int) (id % 5));
+            task.setCompleted(id % 2 == 0);
+            task.setProject(projects.get((int) (id % projectCount)));
+            List<Project> relatedProjects = new ArrayList<>(2);
+            relatedProjects.add(projects.get((int) ((id + 1) % projectCount)));
+            relatedProjects.add(projects.get((int) ((id + 2) % projectCount)));
+            task.setRelatedProjects(relatedProjects);
+            TASKS.put(id, task);
+        }
+    }
+
+    /**
+     * @return stored tasks ordered by id
+     */
+    public static List<Task> getTasks() {
+        List<Task> tasks = new ArrayList<>(TASKS.size());
+        for (long id = 1; id <= TASKS.size(); id++) {
+            tasks.add(TASKS.get(id));
+        }
+        return Collections.unmodifiableList(tasks);
+    }
+
+    /**
+     * @return copies of the stored tasks ordered by id without their relationships, so the relationships are looked up
+     * from the relationship repository when included
+     */
+    public static List<Task> copyTasksWithoutRelationships() {
+        List<Task> tasks = new ArrayList<>(TASKS.size());
+        for (long id = 1; id <= TASKS.size(); id++) {
+            Task storedTask = TASKS.get(id);
+            Task task = new Task();
+            task.setId(storedTask.getId());
+            task.setName(storedTask.getName());
+            task.setDescription(storedTask.getDescription());
+            task.setPriority(storedTask.getPriority());
+            task.setCompleted(storedTask.isCompleted());
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    public static Task getTask(long id) {
+        return TASKS.get(id);
+    }
+}
@@ -0,0 +1,49 @@
+package io.katharsis.benchmarks.repository;
+
+import io.katharsis.benchmarks.model.Project;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.resource.exception.ResourceNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProjectRepository implements ResourceRepository<Project, Long> {
+
+    @Override
+    public Project findOne(Long id, QueryParams queryParams) {
+        Project project = InMemoryStore.PROJECTS.get(id);
+        if (project == null) {
+            throw new ResourceNotFoundException("projects/" + id, false);
+        }
+        return project;
+    }
+
+    @Override
+    public Iterable<Project> findAll(QueryParams queryParams) {
+        return InMemoryStore.PROJECTS.values();
+    }
+
+    @Override
+    public Iterable<Project> findAll(Iterable<Long> ids, QueryParams queryParams) {
+        List<Project> projects = new ArrayList<>();
+        for (Long id : ids) {
+            Project project = InMemoryStore.PROJECTS.get(id);
+            if (project != null) {
+                projects.add(project);
+            }
+        }
+        return projects;
+    }
+
+    @Override
+    public <S extends Project> S save(S entity) {
+        InMemoryStore.PROJECTS.put(entity.getId(), entity);
+        return entity;
+    }
+
+    @Override
+    public void delete(Long id) {
+        InMemoryStore.PROJECTS.remove(id);
+    }
+}
@@ -0,0 +1,57 @@
+package io.katharsis.benchmarks.repository;
+
+import io.katharsis.benchmarks.model.Task;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.resource.exception.ResourceNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TaskRepository implements ResourceRepository<Task, Long> {
+
+    private static final AtomicLong ID_SEQUENCE = new AtomicLong(Long.MAX_VALUE / 2);
+
+    @Override
+    public Task findOne(Long id, QueryParams queryParams) {
+        Task task = InMemoryStore.TASKS.get(id);
+        if (task == null) {
+            throw new ResourceNotFoundException("tasks/" + id, false);
+        }
+        return task;
+    }
+
+    @Override
+    public Iterable<Task> findAll(QueryParams queryParams) {
+        return InMemoryStore.getTasks();
+    }
+
+    @Override
+    public Iterable<Task> findAll(Iterable<Long> ids, QueryParams queryParams) {
+        List<Task> tasks = new ArrayList<>();
+        for (Long id : ids) {
+            Task task = InMemoryStore.TASKS.get(id);
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Assigns an id to a new task without storing it, so repeated saves do not grow the store.
+     */
+    @Override
+    public <S extends Task> S save(S entity) {
+        if (entity.getId() == null) {
+            entity.setId(ID_SEQUENCE.incrementAndGet());
+        }
+        return entity;
+    }
+
+    @Override
+    public void delete(Long id) {
+        InMemoryStore.TASKS.remove(id);
+    }
+}
@@ -0,0 +1,73 @@
+package io.katharsis.benchmarks.repository;
+
+import io.katharsis.benchmarks.model.Project;
+import io.katharsis.benchmarks.model.Task;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.BulkRelationshipRepository;
+import io.katharsis.repository.RelationshipRepository;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads relationships from the stored tasks, updates are ignored so benchmarked writes do not change the store.
+ */
+public class TaskToProjectRepository implements RelationshipRepository<Task, Long, Project, Long>,
+    BulkRelationshipRepository<Task, Long, Project, Long> {
+
+    private static final String RELATED_PROJECTS_FIELD_NAME = "relatedProjects";
+
+    @Override
+    public void setRelation(Task source, Long targetId, String fieldName) {
+    }
+
+    @Override
+    public void setRelations(Task source, Iterable<Long> targetIds, String fieldName) {
+    }
+
+    @Override
+    public void addRelations(Task source, Iterable<Long> targetIds, String fieldName) {
+    }
+
+    @Override
+    public void removeRelations(Task source, Iterable<Long> targetIds, String fieldName) {
+    }
+
+    @Override
+    public Project findOneTarget(Long sourceId, String fieldName, QueryParams queryParams) {
+        Task task = InMemoryStore.TASKS.get(sourceId);
+        return task != null ? task.getProject() : null;
+    }
+
+    @Override
+    public Iterable<Project> findManyTargets(Long sourceId, String fieldName, QueryParams queryParams) {
+        Task task = InMemoryStore.TASKS.get(sourceId);
+        if (task == null || !RELATED_PROJECTS_FIELD_NAME.equals(fieldName)) {
+            return Collections.emptyList();
+        }
+        return task.getRelatedProjects();
+    }
+
+    @Override
+    public Map<Long, Project> findBulkOneTargets(Iterable<Long> sourceIds, String fieldName, QueryParams queryParams) {
+        Map<Long, Project> targets = new HashMap<>();
+        for (Long sourceId : sourceIds) {
+            Project target = findOneTarget(sourceId, fieldName, queryParams);
+            if (target != null) {
+                targets.put(sourceId, target);
+            }
+        }
+        return targets;
+    }
+
+    @Override
+    public Map<Long, Iterable<Project>> findBulkManyTargets(Iterable<Long> sourceIds, String fieldName,
+                                                            QueryParams queryParams) {
+        Map<Long, Iterable<Project>> targets = new HashMap<>();
+        for (Long sourceId : sourceIds) {
+            targets.put(sourceId, findManyTargets(sourceId, fieldName, queryParams));
+        }
+        return targets;
+    }
+}
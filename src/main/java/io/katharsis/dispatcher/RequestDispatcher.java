@@ -1,5 +1,10 @@
 package io.katharsis.dispatcher;
 
+import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.metrics.NoOpRequestListener;
+import io.katharsis.dispatcher.metrics.RequestListener;
+import io.katharsis.dispatcher.metrics.RequestPhase;
+import io.katharsis.dispatcher.metrics.RequestTags;
 import io.katharsis.dispatcher.registry.ControllerRegistry;
 import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
 import io.katharsis.errorhandling.mapper.JsonApiExceptionMapper;
@@ -13,6 +18,10 @@ import io.katharsis.utils.java.Optional;
 /**
  * A class that can be used to integrate Katharsis with external frameworks like Jersey, Spring etc. See katharsis-rs
  * and katharsis-servlet for usage.
+ * <p>
+ * The controller lookup is timed and reported to the {@link RequestListener} of the {@link ControllerRegistry}. An
+ * integration reports the phases it performs around dispatching, building the path and writing the response, with
+ * {@link #startPhase()} and {@link #endPhase(RequestPhase, JsonPath, String, long)}.
  */
 public class RequestDispatcher {
 
@@ -41,9 +50,18 @@ public class RequestDispatcher {
         Exception {
 
         try {
-            return controllerRegistry
-                .getController(jsonPath, requestType)
-                .handle(jsonPath, queryParams, parameterProvider, requestBody);
+            RequestListener requestListener = controllerRegistry.getRequestListener();
+            BaseController controller;
+            if (requestListener == NoOpRequestListener.INSTANCE) {
+                controller = controllerRegistry.getController(jsonPath, requestType);
+            } else {
+                long start = System.nanoTime();
+                controller = controllerRegistry.getController(jsonPath, requestType);
+                requestListener.onPhase(RequestPhase.CONTROLLER_LOOKUP,
+                    new RequestTags(jsonPath.getResourceName(), requestType, controller.getClass()),
+                    System.nanoTime() - start);
+            }
+            return controller.handle(jsonPath, queryParams, parameterProvider, requestBody);
         } catch (Exception e) {
             Optional<JsonApiExceptionMapper> exceptionMapper = exceptionMapperRegistry.findMapperFor(e.getClass());
             if (exceptionMapper.isPresent()) {
@@ -55,4 +73,28 @@ public class RequestDispatcher {
             }
         }
     }
+
+    /**
+     * @return start of a phase performed by an integration in nanoseconds, 0 if no listener is set
+     */
+    public long startPhase() {
+        return controllerRegistry.getRequestListener() == NoOpRequestListener.INSTANCE ? 0L : System.nanoTime();
+    }
+
+    /**
+     * Reports a phase performed by an integration, i.e. {@link RequestPhase#PATH_BUILD} or
+     * {@link RequestPhase#SERIALIZATION}. The phase is reported without a controller class.
+     *
+     * @param phase       the completed phase
+     * @param jsonPath    path of the request
+     * @param requestType type of the request e.g. POST, GET, PATCH
+     * @param startNanos  start of the phase returned by {@link #startPhase()}
+     */
+    public void endPhase(RequestPhase phase, JsonPath jsonPath, String requestType, long startNanos) {
+        RequestListener requestListener = controllerRegistry.getRequestListener();
+        if (requestListener != NoOpRequestListener.INSTANCE) {
+            requestListener.onPhase(phase, new RequestTags(jsonPath.getResourceName(), requestType, null),
+                System.nanoTime() - startNanos);
+        }
+    }
 }
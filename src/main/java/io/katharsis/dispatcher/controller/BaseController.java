@@ -1,8 +1,14 @@
 package io.katharsis.dispatcher.controller;
 
+import io.katharsis.dispatcher.metrics.NoOpRequestListener;
+import io.katharsis.dispatcher.metrics.RequestListener;
+import io.katharsis.dispatcher.metrics.RequestPhase;
+import io.katharsis.dispatcher.metrics.RequestTags;
+import io.katharsis.dispatcher.metrics.TimedRelationshipRepository;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.LinksRepository;
 import io.katharsis.repository.MetaRepository;
+import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.repository.adapter.RepositoryAdapter;
 import io.katharsis.request.dto.RequestBody;
@@ -17,10 +23,17 @@ import io.katharsis.response.MetaInformation;
  * Represents a controller contract. There can be many kinds of requests that can be send to the framework. The
  * initial process of checking if a request is acceptable is managed by
  * {@link BaseController#isAcceptable(io.katharsis.request.path.JsonPath, String)} method. If the method returns
- * true, the matched controller is used to handle the request.
+ * true, the matched controller is used to handle the request. A controller whose acceptance depends only on a kind of
+ * a path and an HTTP method should also expose it using {@link BaseController#getRoute()}, so it can be found without
+ * asking each controller.
+ * <p>
+ * Controllers report the timings of repository calls, inclusion and meta and links information to the
+ * {@link RequestListener} set by the {@link io.katharsis.dispatcher.registry.ControllerRegistry} they are registered in.
  */
 public abstract class BaseController {
 
+    private RequestListener requestListener = NoOpRequestListener.INSTANCE;
+
     /**
      * Checks if requested resource method is acceptable.
      *
@@ -30,6 +43,17 @@ public abstract class BaseController {
      */
     public abstract boolean isAcceptable(JsonPath jsonPath, String requestType);
 
+    /**
+     * Returns a route served by this controller. Requests matching the route must be accepted by
+     * {@link BaseController#isAcceptable(JsonPath, String)} as well. Controllers which return <i>null</i> are matched
+     * using {@link BaseController#isAcceptable(JsonPath, String)} only.
+     *
+     * @return a route of the controller or <i>null</i>
+     */
+    public ControllerRoute getRoute() {
+        return null;
+    }
+
     /**
      * Passes the request to controller method.
      *
@@ -45,27 +69,41 @@ public abstract class BaseController {
                            RequestBody requestBody) throws Exception;
 
     public MetaInformation getMetaInformation(Object repository, Iterable<?> resources, QueryParams queryParams) {
-        if (repository instanceof RepositoryAdapter) {
-            if (((RepositoryAdapter) repository).metaRepositoryAvailable()) {
-                return ((MetaRepository) repository).getMetaInformation(resources, queryParams);
-            }
-        } else if (repository instanceof MetaRepository) {
+        if (isMetaRepository(repository)) {
             return ((MetaRepository) repository).getMetaInformation(resources, queryParams);
         }
         return null;
     }
 
     public LinksInformation getLinksInformation(Object repository, Iterable<?> resources, QueryParams queryParams) {
-        if (repository instanceof RepositoryAdapter) {
-            if (((RepositoryAdapter) repository).linksRepositoryAvailable()) {
-                return ((LinksRepository) repository).getLinksInformation(resources, queryParams);
-            }
-        } else if (repository instanceof LinksRepository) {
+        if (isLinksRepository(repository)) {
             return ((LinksRepository) repository).getLinksInformation(resources, queryParams);
         }
         return null;
     }
 
+    /**
+     * @param repository a resource or relationship repository
+     * @return true if the repository provides meta information about the returned resources
+     */
+    protected boolean isMetaRepository(Object repository) {
+        if (repository instanceof RepositoryAdapter) {
+            return ((RepositoryAdapter) repository).metaRepositoryAvailable();
+        }
+        return repository instanceof MetaRepository;
+    }
+
+    /**
+     * @param repository a resource or relationship repository
+     * @return true if the repository provides links information about the returned resources
+     */
+    protected boolean isLinksRepository(Object repository) {
+        if (repository instanceof RepositoryAdapter) {
+            return ((RepositoryAdapter) repository).linksRepositoryAvailable();
+        }
+        return repository instanceof LinksRepository;
+    }
+
     public void verifyTypes(HttpMethod methodType, String resourceEndpointName, RegistryEntry endpointRegistryEntry,
                              RegistryEntry bodyRegistryEntry) {
         if (endpointRegistryEntry.equals(bodyRegistryEntry)) {
@@ -74,7 +112,56 @@ public abstract class BaseController {
         if (bodyRegistryEntry == null || !bodyRegistryEntry.isParent(endpointRegistryEntry)) {
             String message = String.format("Inconsistent type definition between path and body: body type: " +
                 "%s, request type: %s", methodType, resourceEndpointName);
-            throw new RequestBodyException(methodType, resourceEndpointName, message);
+            throw new RequestBodyException(methodType, resourceEndpointName, message, false);
+        }
+    }
+
+    /**
+     * Sets the listener the controller reports phase timings to. Should be called at initialization time.
+     *
+     * @param requestListener listener of the phase timings
+     */
+    public void setRequestListener(RequestListener requestListener) {
+        this.requestListener = requestListener;
+    }
+
+    /**
+     * @return start of a phase in nanoseconds, 0 if no listener is set
+     */
+    protected long startPhase() {
+        return requestListener == NoOpRequestListener.INSTANCE ? 0L : System.nanoTime();
+    }
+
+    /**
+     * Reports a completed phase to the listener.
+     *
+     * @param phase      the completed phase
+     * @param jsonPath   path of the request
+     * @param method     HTTP method of the request
+     * @param startNanos start of the phase returned by {@link #startPhase()}
+     */
+    protected void endPhase(RequestPhase phase, JsonPath jsonPath, HttpMethod method, long startNanos) {
+        if (requestListener != NoOpRequestListener.INSTANCE) {
+            requestListener.onPhase(phase, new RequestTags(jsonPath.getResourceName(), method.name(), getClass()),
+                System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Wraps a relationship repository, so each of its calls is reported as a {@link RequestPhase#REPOSITORY} phase.
+     *
+     * @param relationshipRepository repository to be timed
+     * @param jsonPath               path of the request
+     * @param method                 HTTP method of the request
+     * @return the timed repository, the repository itself if no listener is set
+     */
+    protected RelationshipRepository timeRepository(RelationshipRepository relationshipRepository, JsonPath jsonPath,
+                                                    HttpMethod method) {
+        if (requestListener == NoOpRequestListener.INSTANCE) {
+            return relationshipRepository;
         }
+        //noinspection unchecked
+        return new TimedRelationshipRepository(relationshipRepository, requestListener,
+            new RequestTags(jsonPath.getResourceName(), method.name(), getClass()));
     }
 }
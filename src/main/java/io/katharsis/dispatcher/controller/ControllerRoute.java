@@ -0,0 +1,42 @@
+package io.katharsis.dispatcher.controller;
+
+import io.katharsis.request.path.PathKind;
+
+import java.util.Objects;
+
+/**
+ * A kind of a path and an HTTP method served by a controller. It allows
+ * {@link io.katharsis.dispatcher.registry.ControllerRegistry} to resolve a controller without asking each registered
+ * controller whether a request is acceptable.
+ */
+public final class ControllerRoute {
+    private final PathKind pathKind;
+    private final HttpMethod httpMethod;
+
+    public ControllerRoute(PathKind pathKind, HttpMethod httpMethod) {
+        this.pathKind = pathKind;
+        this.httpMethod = httpMethod;
+    }
+
+    public PathKind getPathKind() {
+        return pathKind;
+    }
+
+    public HttpMethod getHttpMethod() {
+        return httpMethod;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ControllerRoute that = (ControllerRoute) o;
+        return pathKind == that.pathKind &&
+            httpMethod == that.httpMethod;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pathKind, httpMethod);
+    }
+}
@@ -1,12 +1,15 @@
 package io.katharsis.dispatcher.controller.collection;
 
+import io.katharsis.dispatcher.controller.ControllerRoute;
 import io.katharsis.dispatcher.controller.HttpMethod;
 import io.katharsis.dispatcher.controller.resource.ResourceIncludeField;
+import io.katharsis.dispatcher.metrics.RequestPhase;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.ResourceRepository;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathKind;
 import io.katharsis.request.path.ResourcePath;
 import io.katharsis.resource.exception.ResourceNotFoundException;
 import io.katharsis.resource.include.IncludeLookupSetter;
@@ -22,7 +25,9 @@ import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 public class CollectionGet extends ResourceIncludeField {
@@ -43,6 +48,11 @@ public class CollectionGet extends ResourceIncludeField {
                 && HttpMethod.GET.name().equals(requestType);
     }
 
+    @Override
+    public ControllerRoute getRoute() {
+        return new ControllerRoute(PathKind.COLLECTION, HttpMethod.GET);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public BaseResponse<?> handle(JsonPath jsonPath, QueryParams queryParams, RepositoryMethodParameterProvider 
@@ -51,30 +61,53 @@ public class CollectionGet extends ResourceIncludeField {
         String resourceName = jsonPath.getElementName();
         RegistryEntry registryEntry = resourceRegistry.getEntry(resourceName);
         if (registryEntry == null) {
-            throw new ResourceNotFoundException(resourceName);
+            throw new ResourceNotFoundException(resourceName, false);
         }
         Iterable<?> resources;
         ResourceRepository resourceRepository = registryEntry.getResourceRepository(parameterProvider);
+        long phaseStart;
         if (jsonPath.getIds() == null || jsonPath.getIds().getIds().isEmpty()) {
+            phaseStart = startPhase();
             resources = resourceRepository.findAll(queryParams);
         } else {
             Class<? extends Serializable> idType = (Class<? extends Serializable>)registryEntry
                 .getResourceInformation().getIdField().getType();
             Iterable<? extends Serializable> parsedIds = typeParser.parse((Iterable<String>) jsonPath.getIds().getIds(),
                 idType);
+            phaseStart = startPhase();
             resources = resourceRepository.findAll(parsedIds, queryParams);
         }
+        endPhase(RequestPhase.REPOSITORY, jsonPath, HttpMethod.GET, phaseStart);
 
-        List containers = new LinkedList();
         if (resources != null) {
-            includeFieldSetter.setIncludedElements(resourceName, resources, queryParams, parameterProvider);
-            for (Object element : resources) {
-                containers.add(element);
+            if (!(resources instanceof Collection) && !isSinglePass(resourceName, resourceRepository, queryParams)) {
+                List<Object> resourceList = new ArrayList<>();
+                for (Object element : resources) {
+                    resourceList.add(element);
+                }
+                resources = resourceList;
             }
+            phaseStart = startPhase();
+            includeFieldSetter.setIncludedElements(resourceName, resources, queryParams, parameterProvider);
+            endPhase(RequestPhase.INCLUSION, jsonPath, HttpMethod.GET, phaseStart);
         }
+        phaseStart = startPhase();
         MetaInformation metaInformation = getMetaInformation(resourceRepository, resources, queryParams);
         LinksInformation linksInformation = getLinksInformation(resourceRepository, resources, queryParams);
+        endPhase(RequestPhase.META_AND_LINKS, jsonPath, HttpMethod.GET, phaseStart);
 
-        return new CollectionResponse(containers, jsonPath, queryParams, metaInformation, linksInformation);
+        Iterable<?> data = resources != null ? resources : Collections.emptyList();
+        return new CollectionResponse(data, jsonPath, queryParams, metaInformation, linksInformation);
+    }
+
+    /**
+     * Checks if the resources returned by a repository are iterated over only once, that is by the response
+     * serializer. In such a case a one-time iterable, e.g. a database cursor, is streamed to the response without
+     * being copied.
+     */
+    private boolean isSinglePass(String resourceName, Object resourceRepository, QueryParams queryParams) {
+        boolean inclusionRequested = queryParams.getIncludedRelations() != null
+            && queryParams.getIncludedRelations().getParams().containsKey(resourceName);
+        return !inclusionRequested && !isMetaRepository(resourceRepository) && !isLinksRepository(resourceRepository);
     }
 }
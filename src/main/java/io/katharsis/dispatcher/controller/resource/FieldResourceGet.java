@@ -1,6 +1,8 @@
 package io.katharsis.dispatcher.controller.resource;
 
+import io.katharsis.dispatcher.controller.ControllerRoute;
 import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.metrics.RequestPhase;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
@@ -8,6 +10,7 @@ import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.FieldPath;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.PathIds;
+import io.katharsis.request.path.PathKind;
 import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.exception.ResourceFieldNotFoundException;
 import io.katharsis.resource.include.IncludeLookupSetter;
@@ -34,6 +37,11 @@ public class FieldResourceGet extends ResourceIncludeField {
                 && HttpMethod.GET.name().equals(requestType);
     }
 
+    @Override
+    public ControllerRoute getRoute() {
+        return new ControllerRoute(PathKind.FIELD, HttpMethod.GET);
+    }
+
     @Override
     public BaseResponse handle(JsonPath jsonPath, QueryParams queryParams, RepositoryMethodParameterProvider 
         parameterProvider, RequestBody requestBody)
@@ -46,7 +54,7 @@ public class FieldResourceGet extends ResourceIncludeField {
         String elementName = jsonPath.getElementName();
         ResourceField relationshipField = registryEntry.getResourceInformation().findRelationshipFieldByName(elementName);
         if (relationshipField == null) {
-            throw new ResourceFieldNotFoundException(elementName);
+            throw new ResourceFieldNotFoundException(elementName, false);
         }
 
         Class<?> baseRelationshipFieldClass = relationshipField.getType();
@@ -55,21 +63,33 @@ public class FieldResourceGet extends ResourceIncludeField {
         RelationshipRepository relationshipRepositoryForClass = registryEntry.getRelationshipRepositoryForClass(relationshipFieldClass, parameterProvider);
         BaseResponse target;
         if (Iterable.class.isAssignableFrom(baseRelationshipFieldClass)) {
+            long phaseStart = startPhase();
             @SuppressWarnings("unchecked")
             Iterable<?> targetObjects = relationshipRepositoryForClass
                     .findManyTargets(castedResourceId, elementName, queryParams);
+            endPhase(RequestPhase.REPOSITORY, jsonPath, HttpMethod.GET, phaseStart);
+            phaseStart = startPhase();
             includeFieldSetter.setIncludedElements(resourceName, targetObjects, queryParams, parameterProvider);
+            endPhase(RequestPhase.INCLUSION, jsonPath, HttpMethod.GET, phaseStart);
+            phaseStart = startPhase();
             MetaInformation metaInformation = getMetaInformation(relationshipRepositoryForClass, targetObjects, queryParams);
             LinksInformation linksInformation = getLinksInformation(relationshipRepositoryForClass, targetObjects, queryParams);
+            endPhase(RequestPhase.META_AND_LINKS, jsonPath, HttpMethod.GET, phaseStart);
             target = new CollectionResponse(targetObjects, jsonPath, queryParams, metaInformation, linksInformation);
         } else {
+            long phaseStart = startPhase();
             @SuppressWarnings("unchecked")
             Object targetObject = relationshipRepositoryForClass.findOneTarget(castedResourceId, elementName, queryParams);
+            endPhase(RequestPhase.REPOSITORY, jsonPath, HttpMethod.GET, phaseStart);
+            phaseStart = startPhase();
             includeFieldSetter.setIncludedElements(resourceName, targetObject, queryParams, parameterProvider);
+            endPhase(RequestPhase.INCLUSION, jsonPath, HttpMethod.GET, phaseStart);
+            phaseStart = startPhase();
             MetaInformation metaInformation =
                     getMetaInformation(relationshipRepositoryForClass, Collections.singletonList(targetObject), queryParams);
             LinksInformation linksInformation =
                     getLinksInformation(relationshipRepositoryForClass, Collections.singletonList(targetObject), queryParams);
+            endPhase(RequestPhase.META_AND_LINKS, jsonPath, HttpMethod.GET, phaseStart);
             target = new ResourceResponse(targetObject, jsonPath, queryParams, metaInformation, linksInformation);
         }
 
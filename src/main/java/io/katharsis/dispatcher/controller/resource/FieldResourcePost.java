@@ -1,7 +1,9 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.controller.ControllerRoute;
 import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.metrics.RequestPhase;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
@@ -11,6 +13,7 @@ import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.FieldPath;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.PathIds;
+import io.katharsis.request.path.PathKind;
 import io.katharsis.resource.exception.RequestBodyException;
 import io.katharsis.resource.exception.RequestBodyNotFoundException;
 import io.katharsis.resource.exception.ResourceFieldNotFoundException;
@@ -49,6 +52,11 @@ public class FieldResourcePost extends ResourceUpsert {
             .equals(requestType);
     }
 
+    @Override
+    public ControllerRoute getRoute() {
+        return new ControllerRoute(PathKind.FIELD, HttpMethod.POST);
+    }
+
     @Override
     public ResourceResponse handle(JsonPath jsonPath, QueryParams queryParams,
                                    RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody)
@@ -59,20 +67,20 @@ public class FieldResourcePost extends ResourceUpsert {
         RegistryEntry endpointRegistryEntry = resourceRegistry.getEntry(resourceEndpointName);
 
         if (endpointRegistryEntry == null) {
-            throw new ResourceNotFoundException(resourceEndpointName);
+            throw new ResourceNotFoundException(resourceEndpointName, false);
         }
         if (requestBody == null) {
-            throw new RequestBodyNotFoundException(HttpMethod.POST, resourceEndpointName);
+            throw new RequestBodyNotFoundException(HttpMethod.POST, resourceEndpointName, false);
         }
         if (requestBody.isMultiple()) {
-            throw new RequestBodyException(HttpMethod.POST, resourceEndpointName, "Multiple data in body");
+            throw new RequestBodyException(HttpMethod.POST, resourceEndpointName, "Multiple data in body", false);
         }
 
         Serializable castedResourceId = getResourceId(resourceIds, endpointRegistryEntry);
         ResourceField relationshipField = endpointRegistryEntry.getResourceInformation()
             .findRelationshipFieldByName(jsonPath.getElementName());
         if (relationshipField == null) {
-            throw new ResourceFieldNotFoundException(jsonPath.getElementName());
+            throw new ResourceFieldNotFoundException(jsonPath.getElementName(), false);
         }
 
         Class<?> baseRelationshipFieldClass = relationshipField.getType();
@@ -86,8 +94,11 @@ public class FieldResourcePost extends ResourceUpsert {
         Object resource = buildNewResource(relationshipRegistryEntry, dataBody, relationshipResourceType);
         setAttributes(dataBody, resource, relationshipRegistryEntry.getResourceInformation());
         ResourceRepository resourceRepository = relationshipRegistryEntry.getResourceRepository(parameterProvider);
+        long phaseStart = startPhase();
         Object savedResource = resourceRepository.save(resource);
-        saveRelations(savedResource, relationshipRegistryEntry, dataBody, parameterProvider);
+        endPhase(RequestPhase.REPOSITORY, jsonPath, HttpMethod.POST, phaseStart);
+        saveRelations(savedResource, relationshipRegistryEntry, dataBody, parameterProvider, jsonPath,
+            HttpMethod.POST);
 
         Serializable resourceId = (Serializable) PropertyUtils
             .getProperty(savedResource, relationshipRegistryEntry.getResourceInformation()
@@ -97,6 +108,7 @@ public class FieldResourcePost extends ResourceUpsert {
         RelationshipRepository relationshipRepositoryForClass = endpointRegistryEntry
             .getRelationshipRepositoryForClass(relationshipFieldClass, parameterProvider);
 
+        phaseStart = startPhase();
         @SuppressWarnings("unchecked")
         Object parent = endpointRegistryEntry.getResourceRepository(parameterProvider)
             .findOne(castedResourceId, queryParams);
@@ -108,10 +120,13 @@ public class FieldResourcePost extends ResourceUpsert {
             //noinspection unchecked
             relationshipRepositoryForClass.setRelation(parent, resourceId, jsonPath.getElementName());
         }
+        endPhase(RequestPhase.REPOSITORY, jsonPath, HttpMethod.POST, phaseStart);
+        phaseStart = startPhase();
         MetaInformation metaInformation = getMetaInformation(resourceRepository,
             Collections.singletonList(savedResource), queryParams);
         LinksInformation linksInformation =
             getLinksInformation(resourceRepository, Collections.singletonList(savedResource), queryParams);
+        endPhase(RequestPhase.META_AND_LINKS, jsonPath, HttpMethod.POST, phaseStart);
 
         return new ResourceResponse(savedResource, jsonPath, queryParams, metaInformation, linksInformation,
             HttpStatus.CREATED_201);
@@ -1,12 +1,15 @@
 package io.katharsis.dispatcher.controller.resource;
 
+import io.katharsis.dispatcher.controller.ControllerRoute;
 import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.metrics.RequestPhase;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.PathIds;
+import io.katharsis.request.path.PathKind;
 import io.katharsis.request.path.RelationshipsPath;
 import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.exception.ResourceFieldNotFoundException;
@@ -36,6 +39,11 @@ public class RelationshipsResourceGet extends ResourceIncludeField  {
             && HttpMethod.GET.name().equals(requestType);
     }
 
+    @Override
+    public ControllerRoute getRoute() {
+        return new ControllerRoute(PathKind.RELATIONSHIPS, HttpMethod.GET);
+    }
+
     @Override
     public BaseResponse handle(JsonPath jsonPath, QueryParams queryParams, RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody)
             throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException, NoSuchFieldException {
@@ -48,7 +56,7 @@ public class RelationshipsResourceGet extends ResourceIncludeField  {
         ResourceField relationshipField = registryEntry.getResourceInformation()
             .findRelationshipFieldByName(elementName);
         if (relationshipField == null) {
-            throw new ResourceFieldNotFoundException(elementName);
+            throw new ResourceFieldNotFoundException(elementName, false);
         }
 
         Class<?> baseRelationshipFieldClass = relationshipField.getType();
@@ -62,31 +70,43 @@ public class RelationshipsResourceGet extends ResourceIncludeField  {
         if (Iterable.class.isAssignableFrom(baseRelationshipFieldClass)) {
             List<LinkageContainer> dataList = new LinkedList<>();
 
+            long phaseStart = startPhase();
             @SuppressWarnings("unchecked")
             Iterable<?> targetObjects = relationshipRepositoryForClass
                 .findManyTargets(castedResourceId, elementName, queryParams);
+            endPhase(RequestPhase.REPOSITORY, jsonPath, HttpMethod.GET, phaseStart);
+            phaseStart = startPhase();
             MetaInformation metaInformation =
                 getMetaInformation(relationshipRepositoryForClass, targetObjects, queryParams);
             LinksInformation linksInformation =
                 getLinksInformation(relationshipRepositoryForClass, targetObjects, queryParams);
+            endPhase(RequestPhase.META_AND_LINKS, jsonPath, HttpMethod.GET, phaseStart);
             if (targetObjects != null) {
+                phaseStart = startPhase();
                 includeFieldSetter.setIncludedElements(resourceName, targetObjects, queryParams, parameterProvider);
+                endPhase(RequestPhase.INCLUSION, jsonPath, HttpMethod.GET, phaseStart);
                 for (Object targetObject : targetObjects) {
                     dataList.add(new LinkageContainer(targetObject, relationshipFieldClass, relationshipFieldEntry));
                 }
             }
             target = new CollectionResponse(dataList, jsonPath, queryParams, metaInformation, linksInformation);
         } else {
+            long phaseStart = startPhase();
             @SuppressWarnings("unchecked")
             Object targetObject = relationshipRepositoryForClass.findOneTarget(castedResourceId, elementName,
                 queryParams);
+            endPhase(RequestPhase.REPOSITORY, jsonPath, HttpMethod.GET, phaseStart);
+            phaseStart = startPhase();
             MetaInformation metaInformation =
                 getMetaInformation(relationshipRepositoryForClass, Collections.singletonList(targetObject), queryParams);
             LinksInformation linksInformation =
                 getLinksInformation(relationshipRepositoryForClass, Collections.singletonList(targetObject), queryParams);
+            endPhase(RequestPhase.META_AND_LINKS, jsonPath, HttpMethod.GET, phaseStart);
             if (targetObject != null) {
                 LinkageContainer linkageContainer = new LinkageContainer(targetObject, relationshipFieldClass, relationshipFieldEntry);
+                phaseStart = startPhase();
                 includeFieldSetter.setIncludedElements(resourceName, targetObject, queryParams, parameterProvider);
+                endPhase(RequestPhase.INCLUSION, jsonPath, HttpMethod.GET, phaseStart);
                 target = new ResourceResponse(linkageContainer, jsonPath, queryParams, metaInformation, linksInformation);
             } else {
                 target = new ResourceResponse(null, jsonPath, queryParams, metaInformation, linksInformation);
@@ -1,7 +1,9 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.ControllerRoute;
 import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.metrics.RequestPhase;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
@@ -10,6 +12,7 @@ import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.PathIds;
+import io.katharsis.request.path.PathKind;
 import io.katharsis.request.path.RelationshipsPath;
 import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.exception.RequestBodyException;
@@ -73,6 +76,11 @@ public abstract class RelationshipsResourceUpsert extends BaseController {
                 && method().name().equals(requestType);
     }
 
+    @Override
+    public final ControllerRoute getRoute() {
+        return new ControllerRoute(PathKind.RELATIONSHIPS, method());
+    }
+
     @Override
     public final BaseResponse<?> handle(JsonPath jsonPath, QueryParams queryParams,
                                         RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody) throws Exception {
@@ -81,21 +89,23 @@ public abstract class RelationshipsResourceUpsert extends BaseController {
         RegistryEntry registryEntry = resourceRegistry.getEntry(resourceName);
 
         if (registryEntry == null) {
-            throw new ResourceNotFoundException(resourceName);
+            throw new ResourceNotFoundException(resourceName, false);
         }
         if (requestBody == null) {
-            throw new RequestBodyNotFoundException(HttpMethod.POST, resourceName);
+            throw new RequestBodyNotFoundException(HttpMethod.POST, resourceName, false);
         }
 
         Serializable castedResourceId = getResourceId(resourceIds, registryEntry);
         ResourceField relationshipField = registryEntry.getResourceInformation().findRelationshipFieldByName(jsonPath
             .getElementName());
         if (relationshipField == null) {
-            throw new ResourceFieldNotFoundException(jsonPath.getElementName());
+            throw new ResourceFieldNotFoundException(jsonPath.getElementName(), false);
         }
         ResourceRepository resourceRepository = registryEntry.getResourceRepository(parameterProvider);
+        long phaseStart = startPhase();
         @SuppressWarnings("unchecked")
         Object resource = resourceRepository.findOne(castedResourceId, queryParams);
+        endPhase(RequestPhase.REPOSITORY, jsonPath, method(), phaseStart);
 
         Class<?> baseRelationshipFieldClass = relationshipField.getType();
         Class<?> relationshipFieldClass = Generics
@@ -103,26 +113,28 @@ public abstract class RelationshipsResourceUpsert extends BaseController {
         @SuppressWarnings("unchecked") Class<? extends Serializable> relationshipIdType = (Class<? extends Serializable>) resourceRegistry
                 .getEntry(relationshipFieldClass).getResourceInformation().getIdField().getType();
 
-        RelationshipRepository relationshipRepositoryForClass = registryEntry
-            .getRelationshipRepositoryForClass(relationshipFieldClass, parameterProvider);
+        RelationshipRepository relationshipRepositoryForClass = timeRepository(registryEntry
+            .getRelationshipRepositoryForClass(relationshipFieldClass, parameterProvider), jsonPath, method());
         if (Iterable.class.isAssignableFrom(baseRelationshipFieldClass)) {
             if (!requestBody.isMultiple()) {
-                throw new RequestBodyException(HttpMethod.POST, resourceName, "Non-multiple data in body");
+                throw new RequestBodyException(HttpMethod.POST, resourceName, "Non-multiple data in body", false);
             }
             Iterable<DataBody> dataBodies = requestBody.getMultipleData();
             processToManyRelationship(resource, relationshipIdType, jsonPath.getElementName(), dataBodies, relationshipRepositoryForClass);
         } else {
             if (requestBody.isMultiple()) {
-                throw new RequestBodyException(HttpMethod.POST, resourceName, "Multiple data in body");
+                throw new RequestBodyException(HttpMethod.POST, resourceName, "Multiple data in body", false);
             }
             DataBody dataBody = requestBody.getSingleData();
             processToOneRelationship(resource, relationshipIdType, jsonPath.getElementName(), dataBody, relationshipRepositoryForClass);
         }
 
+        phaseStart = startPhase();
         MetaInformation metaInformation =
             getMetaInformation(resourceRepository, Collections.singletonList(resource), queryParams);
         LinksInformation linksInformation =
             getLinksInformation(resourceRepository, Collections.singletonList(resource), queryParams);
+        endPhase(RequestPhase.META_AND_LINKS, jsonPath, method(), phaseStart);
 
         return new ResourceResponse(metaInformation, linksInformation, HttpStatus.NO_CONTENT_204);
     }
@@ -1,12 +1,16 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.ControllerRoute;
 import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.metrics.RequestPhase;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.repository.ResourceRepository;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.PathIds;
+import io.katharsis.request.path.PathKind;
 import io.katharsis.request.path.ResourcePath;
 import io.katharsis.resource.exception.ResourceNotFoundException;
 import io.katharsis.resource.registry.RegistryEntry;
@@ -16,6 +20,8 @@ import io.katharsis.utils.parser.TypeParser;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class ResourceDelete extends BaseController {
 
@@ -39,6 +45,11 @@ public class ResourceDelete extends BaseController {
                 && HttpMethod.DELETE.name().equals(requestType);
     }
 
+    @Override
+    public ControllerRoute getRoute() {
+        return new ControllerRoute(PathKind.RESOURCE, HttpMethod.DELETE);
+    }
+
     @Override
     public BaseResponse<?> handle(JsonPath jsonPath, QueryParams queryParams,
                                   RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody)
@@ -48,17 +59,23 @@ public class ResourceDelete extends BaseController {
         RegistryEntry registryEntry = resourceRegistry.getEntry(resourceName);
         if (registryEntry == null) {
             //TODO: Add JsonPath toString and provide to exception?
-            throw new ResourceNotFoundException(resourceName);
+            throw new ResourceNotFoundException(resourceName, false);
         }
+        @SuppressWarnings("unchecked") Class<? extends Serializable> idClass = (Class<? extends Serializable>) registryEntry
+                .getResourceInformation()
+                .getIdField()
+                .getType();
+        List<Serializable> castedIds = new ArrayList<>();
         for (String id : resourceIds.getIds()) {
-            @SuppressWarnings("unchecked") Class<? extends Serializable> idClass = (Class<? extends Serializable>) registryEntry
-                    .getResourceInformation()
-                    .getIdField()
-                    .getType();
-            Serializable castedId = typeParser.parse(id, idClass);
+            castedIds.add(typeParser.parse(id, idClass));
+        }
+        ResourceRepository resourceRepository = registryEntry.getResourceRepository(parameterProvider);
+        long phaseStart = startPhase();
+        for (Serializable castedId : castedIds) {
             //noinspection unchecked
-            registryEntry.getResourceRepository(parameterProvider).delete(castedId);
+            resourceRepository.delete(castedId);
         }
+        endPhase(RequestPhase.REPOSITORY, jsonPath, HttpMethod.DELETE, phaseStart);
 
         //TODO: Avoid nulls - use optional
         return null;
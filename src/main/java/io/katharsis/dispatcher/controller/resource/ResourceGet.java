@@ -1,12 +1,15 @@
 package io.katharsis.dispatcher.controller.resource;
 
+import io.katharsis.dispatcher.controller.ControllerRoute;
 import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.metrics.RequestPhase;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.ResourceRepository;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.PathIds;
+import io.katharsis.request.path.PathKind;
 import io.katharsis.request.path.ResourcePath;
 import io.katharsis.resource.exception.ResourceNotFoundException;
 import io.katharsis.resource.include.IncludeLookupSetter;
@@ -40,6 +43,11 @@ public class ResourceGet extends ResourceIncludeField {
                 && HttpMethod.GET.name().equals(requestType);
     }
 
+    @Override
+    public ControllerRoute getRoute() {
+        return new ControllerRoute(PathKind.RESOURCE, HttpMethod.GET);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -53,7 +61,7 @@ public class ResourceGet extends ResourceIncludeField {
         PathIds resourceIds = jsonPath.getIds();
         RegistryEntry registryEntry = resourceRegistry.getEntry(resourceName);
         if (registryEntry == null) {
-            throw new ResourceNotFoundException(resourceName);
+            throw new ResourceNotFoundException(resourceName, false);
         }
         String id = resourceIds.getIds().get(0);
 
@@ -63,13 +71,19 @@ public class ResourceGet extends ResourceIncludeField {
                 .getType();
         Serializable castedId = typeParser.parse(id, idClass);
         ResourceRepository resourceRepository = registryEntry.getResourceRepository(parameterProvider);
+        long phaseStart = startPhase();
         @SuppressWarnings("unchecked")
         Object entity = resourceRepository.findOne(castedId, queryParams);
+        endPhase(RequestPhase.REPOSITORY, jsonPath, HttpMethod.GET, phaseStart);
+        phaseStart = startPhase();
         MetaInformation metaInformation =
             getMetaInformation(resourceRepository, Collections.singletonList(entity), queryParams);
         LinksInformation linksInformation =
             getLinksInformation(resourceRepository, Collections.singletonList(entity), queryParams);
+        endPhase(RequestPhase.META_AND_LINKS, jsonPath, HttpMethod.GET, phaseStart);
+        phaseStart = startPhase();
         includeFieldSetter.setIncludedElements(resourceName, entity, queryParams, parameterProvider);
+        endPhase(RequestPhase.INCLUSION, jsonPath, HttpMethod.GET, phaseStart);
 
         return new ResourceResponse(entity, jsonPath, queryParams, metaInformation, linksInformation);
     }
@@ -1,13 +1,16 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.controller.ControllerRoute;
 import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.metrics.RequestPhase;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.repository.ResourceRepository;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathKind;
 import io.katharsis.request.path.ResourcePath;
 import io.katharsis.resource.exception.RequestBodyException;
 import io.katharsis.resource.exception.RequestBodyNotFoundException;
@@ -36,6 +39,11 @@ public class ResourcePatch extends ResourceUpsert {
                 HttpMethod.PATCH.name().equals(requestType);
     }
 
+    @Override
+    public ControllerRoute getRoute() {
+        return new ControllerRoute(PathKind.RESOURCE, HttpMethod.PATCH);
+    }
+
     @Override
     public BaseResponse<?> handle(JsonPath jsonPath, QueryParams queryParams,
                                   RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody) throws Exception {
@@ -43,20 +51,20 @@ public class ResourcePatch extends ResourceUpsert {
         String resourceEndpointName = jsonPath.getResourceName();
         RegistryEntry endpointRegistryEntry = resourceRegistry.getEntry(resourceEndpointName);
         if (endpointRegistryEntry == null) {
-            throw new ResourceNotFoundException(resourceEndpointName);
+            throw new ResourceNotFoundException(resourceEndpointName, false);
         }
         if (requestBody == null) {
-            throw new RequestBodyNotFoundException(HttpMethod.PATCH, resourceEndpointName);
+            throw new RequestBodyNotFoundException(HttpMethod.PATCH, resourceEndpointName, false);
         }
         if (requestBody.isMultiple()) {
-            throw new RequestBodyException(HttpMethod.PATCH, resourceEndpointName, "Multiple data in body");
+            throw new RequestBodyException(HttpMethod.PATCH, resourceEndpointName, "Multiple data in body", false);
         }
 
         String idString = jsonPath.getIds().getIds().get(0);
 
         DataBody dataBody = requestBody.getSingleData();
         if (dataBody == null) {
-            throw new RequestBodyException(HttpMethod.POST, resourceEndpointName, "No data field in the body.");
+            throw new RequestBodyException(HttpMethod.POST, resourceEndpointName, "No data field in the body.", false);
         }
         RegistryEntry bodyRegistryEntry = resourceRegistry.getEntry(dataBody.getType());
         verifyTypes(HttpMethod.PATCH, resourceEndpointName, endpointRegistryEntry, bodyRegistryEntry);
@@ -68,18 +76,24 @@ public class ResourcePatch extends ResourceUpsert {
         Serializable resourceId = typeParser.parse(idString, (Class<? extends Serializable>) type);
 
         ResourceRepository resourceRepository = endpointRegistryEntry.getResourceRepository(parameterProvider);
+        long phaseStart = startPhase();
         @SuppressWarnings("unchecked")
         Object resource = resourceRepository.findOne(resourceId, queryParams);
-
+        endPhase(RequestPhase.REPOSITORY, jsonPath, HttpMethod.PATCH, phaseStart);
 
         setAttributes(dataBody, resource, bodyRegistryEntry.getResourceInformation());
-        setRelations(resource, bodyRegistryEntry, dataBody, queryParams, parameterProvider);
+        setRelations(resource, bodyRegistryEntry, dataBody, queryParams, parameterProvider, jsonPath,
+            HttpMethod.PATCH);
+        phaseStart = startPhase();
         Object savedResource = resourceRepository.save(resource);
+        endPhase(RequestPhase.REPOSITORY, jsonPath, HttpMethod.PATCH, phaseStart);
 
+        phaseStart = startPhase();
         MetaInformation metaInformation =
             getMetaInformation(resourceRepository, Collections.singletonList(savedResource), queryParams);
         LinksInformation linksInformation =
             getLinksInformation(resourceRepository, Collections.singletonList(savedResource), queryParams);
+        endPhase(RequestPhase.META_AND_LINKS, jsonPath, HttpMethod.PATCH, phaseStart);
 
         return new ResourceResponse(savedResource, jsonPath, queryParams, metaInformation, linksInformation);
     }
@@ -1,13 +1,16 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.controller.ControllerRoute;
 import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.metrics.RequestPhase;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.repository.ResourceRepository;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathKind;
 import io.katharsis.request.path.ResourcePath;
 import io.katharsis.resource.exception.RequestBodyException;
 import io.katharsis.resource.exception.RequestBodyNotFoundException;
@@ -43,6 +46,11 @@ public class ResourcePost extends ResourceUpsert {
                 .equals(requestType);
     }
 
+    @Override
+    public ControllerRoute getRoute() {
+        return new ControllerRoute(PathKind.COLLECTION, HttpMethod.POST);
+    }
+
     @Override
     public ResourceResponse handle(JsonPath jsonPath, QueryParams queryParams,
                                    RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody)
@@ -51,18 +59,18 @@ public class ResourcePost extends ResourceUpsert {
         String resourceEndpointName = jsonPath.getResourceName();
         RegistryEntry endpointRegistryEntry = resourceRegistry.getEntry(resourceEndpointName);
         if (endpointRegistryEntry == null) {
-            throw new ResourceNotFoundException(resourceEndpointName);
+            throw new ResourceNotFoundException(resourceEndpointName, false);
         }
         if (requestBody == null) {
-            throw new RequestBodyNotFoundException(HttpMethod.POST, resourceEndpointName);
+            throw new RequestBodyNotFoundException(HttpMethod.POST, resourceEndpointName, false);
         }
         if (requestBody.isMultiple()) {
-            throw new RequestBodyException(HttpMethod.POST, resourceEndpointName, "Multiple data in body");
+            throw new RequestBodyException(HttpMethod.POST, resourceEndpointName, "Multiple data in body", false);
         }
 
         DataBody dataBody = requestBody.getSingleData();
         if (dataBody == null) {
-            throw new RequestBodyException(HttpMethod.POST, resourceEndpointName, "No data field in the body.");
+            throw new RequestBodyException(HttpMethod.POST, resourceEndpointName, "No data field in the body.", false);
         }
         RegistryEntry bodyRegistryEntry = resourceRegistry.getEntry(dataBody.getType());
         verifyTypes(HttpMethod.POST, resourceEndpointName, endpointRegistryEntry, bodyRegistryEntry);
@@ -73,13 +81,18 @@ public class ResourcePost extends ResourceUpsert {
         setId(dataBody, newResource, bodyRegistryEntry.getResourceInformation());
         setAttributes(dataBody, newResource, bodyRegistryEntry.getResourceInformation());
         ResourceRepository resourceRepository = endpointRegistryEntry.getResourceRepository(parameterProvider);
-        setRelations(newResource, bodyRegistryEntry, dataBody, queryParams, parameterProvider);
+        setRelations(newResource, bodyRegistryEntry, dataBody, queryParams, parameterProvider, jsonPath,
+            HttpMethod.POST);
+        long phaseStart = startPhase();
         Object savedResource = resourceRepository.save(newResource);
+        endPhase(RequestPhase.REPOSITORY, jsonPath, HttpMethod.POST, phaseStart);
 
+        phaseStart = startPhase();
         MetaInformation metaInformation =
             getMetaInformation(resourceRepository, Collections.singletonList(savedResource), queryParams);
         LinksInformation linksInformation =
             getLinksInformation(resourceRepository, Collections.singletonList(savedResource), queryParams);
+        endPhase(RequestPhase.META_AND_LINKS, jsonPath, HttpMethod.POST, phaseStart);
 
         return new ResourceResponse(savedResource, jsonPath, queryParams, metaInformation, linksInformation,
             HttpStatus.CREATED_201);
@@ -1,14 +1,23 @@
 package io.katharsis.dispatcher.controller.resource;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.metrics.RequestPhase;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.exception.RepositoryAnnotationNotFoundException;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.LinkageData;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.resource.exception.RelatedResourcesNotFoundException;
 import io.katharsis.resource.exception.ResourceException;
+import io.katharsis.resource.exception.ResourceFieldNotFoundException;
 import io.katharsis.resource.exception.ResourceNotFoundException;
 import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.information.ResourceInformation;
@@ -21,12 +30,16 @@ import io.katharsis.utils.parser.TypeParser;
 import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public abstract class ResourceUpsert extends BaseController {
     final ResourceRegistry resourceRegistry;
     final TypeParser typeParser;
     private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Type, ObjectReader> attributeReaders = new ConcurrentHashMap<>();
 
     public ResourceUpsert(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper) {
         this.resourceRegistry = resourceRegistry;
@@ -48,25 +61,61 @@ public abstract class ResourceUpsert extends BaseController {
         }
     }
 
+    /**
+     * Binds the attributes of the body to the instance. Each attribute is checked to be an attribute field of the
+     * resource and its value is read with a reader cached per field type, parsing the attributes once. Only if all of
+     * them can be read, they are assigned to the instance, so an invalid attribute leaves the instance unchanged.
+     */
     void setAttributes(DataBody dataBody, Object instance, ResourceInformation resourceInformation)
-        throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException,
-        IOException {
-        if (dataBody.getAttributes() != null) {
-            ObjectReader reader = objectMapper.readerFor(instance.getClass());
-            Object instanceWithNewFields = reader.readValue(dataBody.getAttributes());
-            Iterator<String> propertyNameIterator = dataBody.getAttributes()
-                .fieldNames();
-            while (propertyNameIterator.hasNext()) {
-                String propertyName = propertyNameIterator.next();
-                ResourceField attributeField = resourceInformation.findAttributeFieldByName(propertyName);
-                Object property = PropertyUtils.getProperty(instanceWithNewFields, attributeField.getUnderlyingName());
-                PropertyUtils.setProperty(instance, attributeField.getUnderlyingName(), property);
+        throws IOException {
+        JsonParser parser;
+        if (dataBody.getAttributesBuffer() != null) {
+            parser = dataBody.getAttributesBuffer().asParser(objectMapper);
+        } else if (dataBody.getAttributes() != null) {
+            parser = dataBody.getAttributes().traverse(objectMapper);
+        } else {
+            return;
+        }
+
+        List<ResourceField> attributeFields = new ArrayList<>();
+        List<Object> attributeValues = new ArrayList<>();
+        try {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String propertyName = parser.getCurrentName();
+                    ResourceField attributeField = resourceInformation.findAttributeFieldByName(propertyName);
+                    if (attributeField == null) {
+                        throw new ResourceFieldNotFoundException(propertyName, false);
+                    }
+                    parser.nextToken();
+                    attributeFields.add(attributeField);
+                    attributeValues.add(getAttributeReader(attributeField).readValue(parser));
+                }
+            }
+        } finally {
+            parser.close();
+        }
+        for (int i = 0; i < attributeFields.size(); i++) {
+            attributeFields.get(i).setValue(instance, attributeValues.get(i));
+        }
+    }
+
+    private ObjectReader getAttributeReader(ResourceField attributeField) {
+        Type attributeType = attributeField.getGenericType();
+        ObjectReader reader = attributeReaders.get(attributeType);
+        if (reader == null) {
+            reader = objectMapper.readerFor(objectMapper.getTypeFactory().constructType(attributeType));
+            ObjectReader existingReader = attributeReaders.putIfAbsent(attributeType, reader);
+            if (existingReader != null) {
+                reader = existingReader;
             }
         }
+        return reader;
     }
 
     protected void saveRelations(Object savedResource, RegistryEntry registryEntry, DataBody dataBody,
-                                 RepositoryMethodParameterProvider parameterProvider)
+                                 RepositoryMethodParameterProvider parameterProvider, JsonPath jsonPath,
+                                 HttpMethod method)
         throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
         if (dataBody.getRelationships() != null) {
             Map<String, Object> additionalProperties = dataBody.getRelationships()
@@ -76,11 +125,11 @@ public abstract class ResourceUpsert extends BaseController {
                     .getClass())) {
                     //noinspection unchecked
                     saveRelationsField(savedResource, registryEntry, (Map.Entry) property, registryEntry
-                        .getResourceInformation(), parameterProvider);
+                        .getResourceInformation(), parameterProvider, jsonPath, method);
                 } else {
                     //noinspection unchecked
                     saveRelationField(savedResource, registryEntry, (Map.Entry) property, registryEntry
-                        .getResourceInformation(), parameterProvider);
+                        .getResourceInformation(), parameterProvider, jsonPath, method);
                 }
 
             }
@@ -90,7 +139,8 @@ public abstract class ResourceUpsert extends BaseController {
     private void saveRelationsField(Object savedResource, RegistryEntry registryEntry,
                                     Map.Entry<String, Iterable<LinkageData>> property,
                                     ResourceInformation resourceInformation,
-                                    RepositoryMethodParameterProvider parameterProvider)
+                                    RepositoryMethodParameterProvider parameterProvider, JsonPath jsonPath,
+                                    HttpMethod method)
         throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
         if (!allTypesTheSame(property.getValue())) {
             throw new ResourceException("Not all types are the same for linkage: " + property.getKey());
@@ -112,8 +162,8 @@ public abstract class ResourceUpsert extends BaseController {
 
         Class<?> relationshipClass = relationRegistryEntry.getResourceInformation()
             .getResourceClass();
-        RelationshipRepository relationshipRepository = registryEntry
-            .getRelationshipRepositoryForClass(relationshipClass, parameterProvider);
+        RelationshipRepository relationshipRepository = timeRepository(registryEntry
+            .getRelationshipRepositoryForClass(relationshipClass, parameterProvider), jsonPath, method);
         ResourceField relationshipField = resourceInformation.findRelationshipFieldByName(property.getKey());
         //noinspection unchecked
         relationshipRepository.setRelations(savedResource, castedRelationIds, relationshipField.getUnderlyingName());
@@ -141,7 +191,8 @@ public abstract class ResourceUpsert extends BaseController {
 
     private void saveRelationField(Object savedResource, RegistryEntry registryEntry,
                                    Map.Entry<String, LinkageData> property, ResourceInformation resourceInformation,
-                                   RepositoryMethodParameterProvider parameterProvider)
+                                   RepositoryMethodParameterProvider parameterProvider, JsonPath jsonPath,
+                                   HttpMethod method)
         throws NoSuchMethodException, IllegalAccessException, InstantiationException, InvocationTargetException {
         RegistryEntry relationRegistryEntry = getRelationRegistryEntry(property.getValue()
             .getType());
@@ -156,8 +207,8 @@ public abstract class ResourceUpsert extends BaseController {
 
         Class<?> relationshipClass = relationRegistryEntry.getResourceInformation()
             .getResourceClass();
-        RelationshipRepository relationshipRepository = registryEntry
-            .getRelationshipRepositoryForClass(relationshipClass, parameterProvider);
+        RelationshipRepository relationshipRepository = timeRepository(registryEntry
+            .getRelationshipRepositoryForClass(relationshipClass, parameterProvider), jsonPath, method);
         ResourceField relationshipField = resourceInformation.findRelationshipFieldByName(property.getKey());
         //noinspection unchecked
         relationshipRepository.setRelation(savedResource, castedRelationshipId, relationshipField.getUnderlyingName());
@@ -166,7 +217,7 @@ public abstract class ResourceUpsert extends BaseController {
     private RegistryEntry getRelationRegistryEntry(String type) {
         RegistryEntry relationRegistryEntry = resourceRegistry.getEntry(type);
         if (relationRegistryEntry == null) {
-            throw new ResourceNotFoundException(type);
+            throw new ResourceNotFoundException(type, false);
         }
         return relationRegistryEntry;
     }
@@ -187,7 +238,8 @@ public abstract class ResourceUpsert extends BaseController {
 
     protected void setRelations(Object newResource, RegistryEntry registryEntry, DataBody dataBody, QueryParams
         queryParams,
-                                RepositoryMethodParameterProvider parameterProvider)
+                                RepositoryMethodParameterProvider parameterProvider, JsonPath jsonPath,
+                                HttpMethod method)
         throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
         if (dataBody.getRelationships() != null) {
             Map<String, Object> additionalProperties = dataBody.getRelationships()
@@ -196,42 +248,109 @@ public abstract class ResourceUpsert extends BaseController {
                 if (property.getValue() != null && Iterable.class.isAssignableFrom(property.getValue()
                     .getClass())) {
                     //noinspection unchecked
-                    setRelationsField(newResource, registryEntry, (Map.Entry) property, queryParams, parameterProvider);
+                    setRelationsField(newResource, registryEntry, (Map.Entry) property, queryParams, parameterProvider,
+                        jsonPath, method);
                 } else {
                     //noinspection unchecked
-                    setRelationField(newResource, registryEntry, (Map.Entry) property, queryParams, parameterProvider);
+                    setRelationField(newResource, registryEntry, (Map.Entry) property, queryParams, parameterProvider,
+                        jsonPath, method);
                 }
 
             }
         }
     }
 
+    /**
+     * Sets a to-many relationship of a resource. The related resources are fetched with a single
+     * {@link ResourceRepository#findAll(Iterable, QueryParams)} call and assigned in the order of the linkages in the
+     * body. Found resources are matched to the linkages by the string form of their ids, so id classes without
+     * <i>equals</i> and <i>hashCode</i> are supported. If any of the resources cannot be found, all missing ids are
+     * reported in one exception.
+     */
     private void setRelationsField(Object newResource, RegistryEntry registryEntry,
                                    Map.Entry<String, Iterable<LinkageData>> property, QueryParams queryParams,
-                                   RepositoryMethodParameterProvider parameterProvider) {
+                                   RepositoryMethodParameterProvider parameterProvider, JsonPath jsonPath,
+                                   HttpMethod method) {
         String propertyName = property.getKey();
         ResourceField relationshipField = registryEntry.getResourceInformation()
             .findRelationshipFieldByName(propertyName);
         Class<?> relationshipFieldClass = Generics.getResourceClass(relationshipField.getGenericType(),
             relationshipField.getType());
         RegistryEntry entry = resourceRegistry.getEntry(relationshipFieldClass);
-        Class idFieldType = entry.getResourceInformation()
-            .getIdField()
-            .getType();
+        ResourceField idField = entry.getResourceInformation()
+            .getIdField();
+        Class idFieldType = idField.getType();
 
-        List relationships = new LinkedList<>();
+        List<String> ids = new ArrayList<>();
         for (LinkageData linkageData : property.getValue()) {
-            Serializable castedRelationshipId = typeParser.parse(linkageData.getId(), idFieldType);
-            Object relationObject = entry.getResourceRepository(parameterProvider)
-                .findOne(castedRelationshipId, queryParams);
-            relationships.add(relationObject);
+            ids.add(linkageData.getId());
+        }
+        List<Object> relationships = new ArrayList<>(ids.size());
+        if (!ids.isEmpty()) {
+            //noinspection unchecked
+            Iterable<Serializable> castedRelationshipIds = typeParser.parse(ids, idFieldType);
+            Map<String, Object> relationObjects = new HashMap<>();
+            ResourceRepository resourceRepository = entry.getResourceRepository(parameterProvider);
+            long phaseStart = startPhase();
+            Iterable<Object> foundObjects = findRelationObjects(resourceRepository, castedRelationshipIds, queryParams);
+            endPhase(RequestPhase.REPOSITORY, jsonPath, method, phaseStart);
+            for (Object relationObject : foundObjects) {
+                if (relationObject != null) {
+                    relationObjects.put(String.valueOf(idField.getValue(relationObject)), relationObject);
+                }
+            }
+
+            List<String> missingIds = new ArrayList<>();
+            Iterator<String> idIterator = ids.iterator();
+            for (Serializable castedRelationshipId : castedRelationshipIds) {
+                String id = idIterator.next();
+                Object relationObject = relationObjects.get(id);
+                if (relationObject == null) {
+                    relationObject = relationObjects.get(String.valueOf(castedRelationshipId));
+                }
+                if (relationObject == null) {
+                    missingIds.add(id);
+                }
+                relationships.add(relationObject);
+            }
+            if (!missingIds.isEmpty()) {
+                throw new RelatedResourcesNotFoundException(propertyName, resourceRegistry.getResourceType(
+                    relationshipFieldClass), missingIds);
+            }
         }
         PropertyUtils.setProperty(newResource, propertyName, relationships);
     }
 
+    /**
+     * Fetches the related resources with {@link ResourceRepository#findAll(Iterable, QueryParams)}. Repositories which
+     * do not implement it, either by returning <i>null</i> or by not having the method at all, are asked for each of
+     * the resources with {@link ResourceRepository#findOne(Serializable, QueryParams)}.
+     */
+    private static Iterable<Object> findRelationObjects(ResourceRepository resourceRepository,
+                                                        Iterable<Serializable> castedRelationshipIds,
+                                                        QueryParams queryParams) {
+        Iterable<Object> foundObjects;
+        try {
+            //noinspection unchecked
+            foundObjects = resourceRepository.findAll(castedRelationshipIds, queryParams);
+        } catch (RepositoryAnnotationNotFoundException | UnsupportedOperationException e) {
+            foundObjects = null;
+        }
+        if (foundObjects == null) {
+            List<Object> relationObjects = new ArrayList<>();
+            for (Serializable castedRelationshipId : castedRelationshipIds) {
+                //noinspection unchecked
+                relationObjects.add(resourceRepository.findOne(castedRelationshipId, queryParams));
+            }
+            foundObjects = relationObjects;
+        }
+        return foundObjects;
+    }
+
     private void setRelationField(Object newResource, RegistryEntry registryEntry,
                                   Map.Entry<String, LinkageData> property, QueryParams queryParams,
-                                  RepositoryMethodParameterProvider parameterProvider) {
+                                  RepositoryMethodParameterProvider parameterProvider, JsonPath jsonPath,
+                                  HttpMethod method) {
         String propertyName = property.getKey();
 
         Object relationObject;
@@ -244,8 +363,10 @@ public abstract class ResourceUpsert extends BaseController {
                 .getType();
             Serializable castedRelationshipId = typeParser.parse(property.getValue()
                 .getId(), idFieldType);
-            relationObject = entry.getResourceRepository(parameterProvider)
-                .findOne(castedRelationshipId, queryParams);
+            ResourceRepository resourceRepository = entry.getResourceRepository(parameterProvider);
+            long phaseStart = startPhase();
+            relationObject = resourceRepository.findOne(castedRelationshipId, queryParams);
+            endPhase(RequestPhase.REPOSITORY, jsonPath, method, phaseStart);
         } else {
             relationObject = null;
         }
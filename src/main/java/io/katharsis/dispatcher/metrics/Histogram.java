@@ -0,0 +1,92 @@
+package io.katharsis.dispatcher.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations. Durations are counted in buckets of powers of two nanoseconds, so percentiles
+ * are approximated by the upper bound of the bucket they fall in, which is at most twice the exact value.
+ */
+public final class Histogram {
+
+    private static final int BUCKET_COUNT = Long.SIZE;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * @param durationNanos a duration in nanoseconds, negative durations are counted as zero
+     */
+    public void record(long durationNanos) {
+        long duration = Math.max(durationNanos, 0L);
+        buckets.incrementAndGet(bucketOf(duration));
+        count.incrementAndGet();
+        totalNanos.addAndGet(duration);
+        long max = maxNanos.get();
+        while (duration > max && !maxNanos.compareAndSet(max, duration)) {
+            max = maxNanos.get();
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * @return mean duration, 0 if nothing has been recorded
+     */
+    public long getMeanNanos() {
+        long currentCount = count.get();
+        return currentCount == 0 ? 0 : totalNanos.get() / currentCount;
+    }
+
+    /**
+     * @param percentile a percentile between 0 and 100
+     * @return upper bound of the bucket containing the percentile, 0 if nothing has been recorded
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Bucket 0 holds 0, bucket <i>i</i> holds durations from 2<sup>i-1</sup> to 2<sup>i</sup>-1. Durations are never
+     * negative, so the last bucket is 63.
+     */
+    private static int bucketOf(long duration) {
+        return Long.SIZE - Long.numberOfLeadingZeros(duration);
+    }
+
+    private static long upperBoundOf(int bucket) {
+        return bucket >= BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
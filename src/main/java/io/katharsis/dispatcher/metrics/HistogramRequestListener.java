@@ -0,0 +1,63 @@
+package io.katharsis.dispatcher.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps a {@link Histogram} of the durations of each phase per {@link RequestTags} in memory, e.g. to check timings in
+ * tests or to expose them from an application without a metrics library.
+ */
+public class HistogramRequestListener implements RequestListener {
+
+    private final ConcurrentMap<RequestPhase, ConcurrentMap<RequestTags, Histogram>> histograms =
+        new ConcurrentHashMap<>();
+
+    @Override
+    public void onPhase(RequestPhase phase, RequestTags tags, long durationNanos) {
+        ConcurrentMap<RequestTags, Histogram> phaseHistograms = histograms.get(phase);
+        if (phaseHistograms == null) {
+            ConcurrentMap<RequestTags, Histogram> newPhaseHistograms = new ConcurrentHashMap<>();
+            phaseHistograms = histograms.putIfAbsent(phase, newPhaseHistograms);
+            if (phaseHistograms == null) {
+                phaseHistograms = newPhaseHistograms;
+            }
+        }
+        Histogram histogram = phaseHistograms.get(tags);
+        if (histogram == null) {
+            Histogram newHistogram = new Histogram();
+            histogram = phaseHistograms.putIfAbsent(tags, newHistogram);
+            if (histogram == null) {
+                histogram = newHistogram;
+            }
+        }
+        histogram.record(durationNanos);
+    }
+
+    /**
+     * @param phase a phase
+     * @param tags  tags of requests
+     * @return histogram of the phase of the requests or <i>null</i> if the phase has not been reported for them
+     */
+    public Histogram getHistogram(RequestPhase phase, RequestTags tags) {
+        Map<RequestTags, Histogram> phaseHistograms = histograms.get(phase);
+        return phaseHistograms != null ? phaseHistograms.get(tags) : null;
+    }
+
+    /**
+     * @param phase a phase
+     * @return a copy of the histograms of the phase by the tags of the requests
+     */
+    public Map<RequestTags, Histogram> getHistograms(RequestPhase phase) {
+        Map<RequestTags, Histogram> phaseHistograms = histograms.get(phase);
+        return phaseHistograms != null ? new HashMap<>(phaseHistograms) : new HashMap<RequestTags, Histogram>();
+    }
+
+    /**
+     * Removes all recorded histograms.
+     */
+    public void reset() {
+        histograms.clear();
+    }
+}
@@ -0,0 +1,17 @@
+package io.katharsis.dispatcher.metrics;
+
+/**
+ * The default listener ignoring all phases. The dispatcher and the controllers check for this instance and do not
+ * measure time at all when it is used.
+ */
+public final class NoOpRequestListener implements RequestListener {
+
+    public static final NoOpRequestListener INSTANCE = new NoOpRequestListener();
+
+    private NoOpRequestListener() {
+    }
+
+    @Override
+    public void onPhase(RequestPhase phase, RequestTags tags, long durationNanos) {
+    }
+}
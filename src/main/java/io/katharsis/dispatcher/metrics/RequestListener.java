@@ -0,0 +1,20 @@
+package io.katharsis.dispatcher.metrics;
+
+/**
+ * Receives timings of the phases of request processing, e.g. to publish them to a metrics library. A phase is
+ * reported when it completes, a phase interrupted by an exception is not reported. A phase can be reported several
+ * times for a single request, e.g. a repository is called for the resource and for the relationships in a body.
+ * Implementations are called on the request threads and must be thread-safe.
+ *
+ * @see NoOpRequestListener
+ * @see HistogramRequestListener
+ */
+public interface RequestListener {
+
+    /**
+     * @param phase         completed phase
+     * @param tags          the request the phase belongs to
+     * @param durationNanos duration of the phase in nanoseconds
+     */
+    void onPhase(RequestPhase phase, RequestTags tags, long durationNanos);
+}
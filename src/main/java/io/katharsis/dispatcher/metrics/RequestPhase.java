@@ -0,0 +1,36 @@
+package io.katharsis.dispatcher.metrics;
+
+/**
+ * Phases of processing a request reported to a {@link RequestListener}. {@link #CONTROLLER_LOOKUP} is reported by
+ * {@link io.katharsis.dispatcher.RequestDispatcher}, {@link #REPOSITORY}, {@link #INCLUSION} and
+ * {@link #META_AND_LINKS} by the controllers. Path building and serialization happen in an integration before and
+ * after dispatching, so {@link #PATH_BUILD} and {@link #SERIALIZATION} are reported by the integration with
+ * {@link io.katharsis.dispatcher.RequestDispatcher#endPhase(RequestPhase, io.katharsis.request.path.JsonPath, String,
+ * long)}.
+ */
+public enum RequestPhase {
+    /**
+     * Building a {@link io.katharsis.request.path.JsonPath} from the request path.
+     */
+    PATH_BUILD,
+    /**
+     * Finding the controller handling the request.
+     */
+    CONTROLLER_LOOKUP,
+    /**
+     * Calling a resource or relationship repository, reported for each call or batch of calls.
+     */
+    REPOSITORY,
+    /**
+     * Resolving the included relationships.
+     */
+    INCLUSION,
+    /**
+     * Reading meta and links information from the repository.
+     */
+    META_AND_LINKS,
+    /**
+     * Writing the response.
+     */
+    SERIALIZATION
+}
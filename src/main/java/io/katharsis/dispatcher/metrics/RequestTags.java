@@ -0,0 +1,61 @@
+package io.katharsis.dispatcher.metrics;
+
+import java.util.Objects;
+
+/**
+ * Identifies the kind of a request a phase is reported for: the resource type of the path, the HTTP method and the
+ * class of the controller handling the request.
+ */
+public final class RequestTags {
+
+    private final String resourceType;
+    private final String method;
+    private final Class<?> controllerClass;
+
+    /**
+     * @param resourceType    resource type of the request path
+     * @param method          HTTP method of the request
+     * @param controllerClass class of the controller, <i>null</i> if the phase is not related to a controller
+     */
+    public RequestTags(String resourceType, String method, Class<?> controllerClass) {
+        this.resourceType = resourceType;
+        this.method = method;
+        this.controllerClass = controllerClass;
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public Class<?> getControllerClass() {
+        return controllerClass;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RequestTags that = (RequestTags) o;
+        return Objects.equals(resourceType, that.resourceType)
+            && Objects.equals(method, that.method)
+            && Objects.equals(controllerClass, that.controllerClass);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(resourceType, method, controllerClass);
+    }
+
+    @Override
+    public String toString() {
+        return "RequestTags{" +
+            "resourceType='" + resourceType + '\'' +
+            ", method='" + method + '\'' +
+            ", controllerClass=" + (controllerClass != null ? controllerClass.getSimpleName() : null) +
+            '}';
+    }
+}
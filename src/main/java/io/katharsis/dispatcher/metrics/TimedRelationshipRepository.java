@@ -0,0 +1,83 @@
+package io.katharsis.dispatcher.metrics;
+
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.RelationshipRepository;
+
+import java.io.Serializable;
+
+/**
+ * Reports each call of a relationship repository as a {@link RequestPhase#REPOSITORY} phase, so the time a controller
+ * spends preparing the call, e.g. parsing the ids of a body, is not counted as repository time.
+ *
+ * @param <T>    source resource type
+ * @param <T_ID> source resource id type
+ * @param <D>    target resource type
+ * @param <D_ID> target resource id type
+ */
+public class TimedRelationshipRepository<T, T_ID extends Serializable, D, D_ID extends Serializable>
+    implements RelationshipRepository<T, T_ID, D, D_ID> {
+
+    private final RelationshipRepository<T, T_ID, D, D_ID> relationshipRepository;
+    private final RequestListener requestListener;
+    private final RequestTags tags;
+
+    /**
+     * @param relationshipRepository repository the calls are delegated to
+     * @param requestListener        listener the calls are reported to
+     * @param tags                   the request the calls belong to
+     */
+    public TimedRelationshipRepository(RelationshipRepository<T, T_ID, D, D_ID> relationshipRepository,
+                                       RequestListener requestListener, RequestTags tags) {
+        this.relationshipRepository = relationshipRepository;
+        this.requestListener = requestListener;
+        this.tags = tags;
+    }
+
+    @Override
+    public void setRelation(T source, D_ID targetId, String fieldName) {
+        long start = System.nanoTime();
+        relationshipRepository.setRelation(source, targetId, fieldName);
+        report(start);
+    }
+
+    @Override
+    public void setRelations(T source, Iterable<D_ID> targetIds, String fieldName) {
+        long start = System.nanoTime();
+        relationshipRepository.setRelations(source, targetIds, fieldName);
+        report(start);
+    }
+
+    @Override
+    public void addRelations(T source, Iterable<D_ID> targetIds, String fieldName) {
+        long start = System.nanoTime();
+        relationshipRepository.addRelations(source, targetIds, fieldName);
+        report(start);
+    }
+
+    @Override
+    public void removeRelations(T source, Iterable<D_ID> targetIds, String fieldName) {
+        long start = System.nanoTime();
+        relationshipRepository.removeRelations(source, targetIds, fieldName);
+        report(start);
+    }
+
+    @Override
+    public D findOneTarget(T_ID sourceId, String fieldName, QueryParams queryParams) {
+        long start = System.nanoTime();
+        D target = relationshipRepository.findOneTarget(sourceId, fieldName, queryParams);
+        report(start);
+        return target;
+    }
+
+    @Override
+    public Iterable<D> findManyTargets(T_ID sourceId, String fieldName, QueryParams queryParams) {
+        long start = System.nanoTime();
+        Iterable<D> targets = relationshipRepository.findManyTargets(sourceId, fieldName, queryParams);
+        report(start);
+        return targets;
+    }
+
+    private void report(long start) {
+        requestListener.onPhase(RequestPhase.REPOSITORY, tags, System.nanoTime() - start);
+    }
+}
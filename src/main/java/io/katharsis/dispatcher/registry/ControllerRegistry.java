@@ -1,24 +1,52 @@
 package io.katharsis.dispatcher.registry;
 
 import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.ControllerRoute;
+import io.katharsis.dispatcher.metrics.NoOpRequestListener;
+import io.katharsis.dispatcher.metrics.RequestListener;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.PathBuilder;
+import io.katharsis.request.path.PathKind;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Stores a list of controllers which are used to process the incoming requests.
+ * Stores a list of controllers which are used to process the incoming requests. Controllers exposing a
+ * {@link ControllerRoute} are additionally kept in a dispatch table keyed by HTTP method and {@link PathKind}, so
+ * they are resolved without iterating over all controllers. Other controllers are matched using
+ * {@link BaseController#isAcceptable(JsonPath, String)}. The first acceptable controller in the registration order
+ * wins, so a routed controller is returned only if no other controller registered before it accepts the request. The
+ * {@link RequestListener} of the registry receives the
+ * phase timings of the registered controllers and of the dispatcher using the registry.
  *
  * @see io.katharsis.dispatcher.RequestDispatcher
  */
 public class ControllerRegistry {
 
     private final List<BaseController> controllers = new LinkedList<>();
+    private final List<RegisteredController> unroutedControllers = new ArrayList<>();
+    private final Map<String, Map<PathKind, RegisteredController>> routes = new HashMap<>();
+    private final RequestListener requestListener;
 
     public ControllerRegistry(List<BaseController> baseControllers) {
+        this(baseControllers, NoOpRequestListener.INSTANCE);
+    }
+
+    /**
+     * @param baseControllers controllers to be added
+     * @param requestListener listener of the phase timings, set on each added controller
+     */
+    public ControllerRegistry(List<BaseController> baseControllers, RequestListener requestListener) {
+        this.requestListener = requestListener;
         if (baseControllers != null) {
-            controllers.addAll(baseControllers);
+            for (BaseController controller : baseControllers) {
+                addController(controller);
+            }
         }
     }
 
@@ -28,16 +56,53 @@ public class ControllerRegistry {
      * @param controller a controller to be added
      */
     public void addController(BaseController controller) {
+        controller.setRequestListener(requestListener);
+        RegisteredController registeredController = new RegisteredController(controller, controllers.size());
         controllers.add(controller);
+        ControllerRoute route = controller.getRoute();
+        if (route == null) {
+            unroutedControllers.add(registeredController);
+            return;
+        }
+        String methodName = route.getHttpMethod().name();
+        Map<PathKind, RegisteredController> methodRoutes = routes.get(methodName);
+        if (methodRoutes == null) {
+            methodRoutes = new EnumMap<>(PathKind.class);
+            routes.put(methodName, methodRoutes);
+        }
+        if (!methodRoutes.containsKey(route.getPathKind())) {
+            methodRoutes.put(route.getPathKind(), registeredController);
+        }
+    }
+
+    /**
+     * @return listener of the phase timings
+     */
+    public RequestListener getRequestListener() {
+        return requestListener;
     }
 
     /**
-     * Iterate over all registered controllers to get the first suitable one.
+     * Get a controller registered for the route of the request unless a controller without a route registered before
+     * it accepts the request. If there's no routed controller, iterate over all registered controllers to get the
+     * first suitable one.
      * @param jsonPath built JsonPath object mad from request path
      * @param requestType type of a HTTP request
      * @return suitable controller
      */
     public BaseController getController(JsonPath jsonPath, String requestType) {
+        RegisteredController routedController = findRoutedController(jsonPath, requestType);
+        if (routedController != null) {
+            for (RegisteredController unroutedController : unroutedControllers) {
+                if (unroutedController.index > routedController.index) {
+                    break;
+                }
+                if (unroutedController.controller.isAcceptable(jsonPath, requestType)) {
+                    return unroutedController.controller;
+                }
+            }
+            return routedController.controller;
+        }
         for (BaseController controller : controllers) {
             if (controller.isAcceptable(jsonPath, requestType)) {
                 return controller;
@@ -45,4 +110,33 @@ public class ControllerRegistry {
         }
         throw new MethodNotFoundException(PathBuilder.buildPath(jsonPath), requestType);
     }
+
+    private RegisteredController findRoutedController(JsonPath jsonPath, String requestType) {
+        Map<PathKind, RegisteredController> methodRoutes = routes.get(requestType);
+        if (methodRoutes == null) {
+            return null;
+        }
+        PathKind pathKind = PathKind.of(jsonPath);
+        if (pathKind == null) {
+            return null;
+        }
+        RegisteredController registeredController = methodRoutes.get(pathKind);
+        if (registeredController != null && registeredController.controller.isAcceptable(jsonPath, requestType)) {
+            return registeredController;
+        }
+        return null;
+    }
+
+    /**
+     * A controller with its position in the registration order.
+     */
+    private static final class RegisteredController {
+        private final BaseController controller;
+        private final int index;
+
+        private RegisteredController(BaseController controller, int index) {
+            this.controller = controller;
+            this.index = index;
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package io.katharsis.dispatcher.registry;
 
 import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.metrics.NoOpRequestListener;
+import io.katharsis.dispatcher.metrics.RequestListener;
 import io.katharsis.errorhandling.mapper.DefaultExceptionMapperLookup;
 import io.katharsis.resource.include.IncludeLookupSetter;
 import io.katharsis.resource.registry.ResourceRegistry;
@@ -21,13 +23,39 @@ public class ControllerRegistryBuilder {
     private final TypeParser typeParser;
     private final ObjectMapper objectMapper;
     private final IncludeLookupSetter includeFieldSetter;
+    private final RequestListener requestListener;
 
     public ControllerRegistryBuilder(@SuppressWarnings("SameParameterValue") ResourceRegistry resourceRegistry, @SuppressWarnings("SameParameterValue") TypeParser typeParser,
                                      @SuppressWarnings("SameParameterValue") ObjectMapper objectMapper) {
+        this(resourceRegistry, typeParser, objectMapper, new IncludeLookupSetter(resourceRegistry));
+    }
+
+    /**
+     * @param resourceRegistry   registry of the resources
+     * @param typeParser         parser of the ids
+     * @param objectMapper       mapper used by the controllers
+     * @param includeFieldSetter setter of the included relationships, e.g. one resolving inclusion paths concurrently
+     */
+    public ControllerRegistryBuilder(ResourceRegistry resourceRegistry, TypeParser typeParser,
+                                     ObjectMapper objectMapper, IncludeLookupSetter includeFieldSetter) {
+        this(resourceRegistry, typeParser, objectMapper, includeFieldSetter, NoOpRequestListener.INSTANCE);
+    }
+
+    /**
+     * @param resourceRegistry   registry of the resources
+     * @param typeParser         parser of the ids
+     * @param objectMapper       mapper used by the controllers
+     * @param includeFieldSetter setter of the included relationships
+     * @param requestListener    listener of the phase timings of the dispatcher and the controllers
+     */
+    public ControllerRegistryBuilder(ResourceRegistry resourceRegistry, TypeParser typeParser,
+                                     ObjectMapper objectMapper, IncludeLookupSetter includeFieldSetter,
+                                     RequestListener requestListener) {
         this.resourceRegistry = resourceRegistry;
         this.typeParser = typeParser;
         this.objectMapper = objectMapper;
-        this.includeFieldSetter = new IncludeLookupSetter(resourceRegistry);
+        this.includeFieldSetter = includeFieldSetter;
+        this.requestListener = requestListener;
     }
 
     /**
@@ -50,6 +78,6 @@ public class ControllerRegistryBuilder {
     private ControllerRegistry build(ControllerLookup lookup) throws Exception {
         List<BaseController> controllers = new LinkedList<>();
         controllers.addAll(lookup.getControllers());
-        return new ControllerRegistry(controllers);
+        return new ControllerRegistry(controllers, requestListener);
     }
 }
@@ -8,4 +8,14 @@ public abstract class KatharsisException extends RuntimeException {
     public KatharsisException(String message) {
         super(message);
     }
+
+    /**
+     * @param message            the detail message
+     * @param writableStackTrace if <i>false</i>, the stack trace is neither captured nor can be set. It is meant for
+     *                           exceptions signalling expected request failures, e.g. a not found resource, for which
+     *                           the stack trace is never used.
+     */
+    protected KatharsisException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
\ No newline at end of file
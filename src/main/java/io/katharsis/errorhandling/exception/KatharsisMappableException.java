@@ -11,7 +11,11 @@ public abstract class KatharsisMappableException extends KatharsisException {
     private final int httpStatus;
 
     protected KatharsisMappableException(int httpStatus, ErrorData errorData) {
-        super(errorData.getDetail());
+        this(httpStatus, errorData, true);
+    }
+
+    protected KatharsisMappableException(int httpStatus, ErrorData errorData, boolean writableStackTrace) {
+        super(errorData.getDetail(), writableStackTrace);
         this.httpStatus = httpStatus;
         this.errorData = errorData;
     }
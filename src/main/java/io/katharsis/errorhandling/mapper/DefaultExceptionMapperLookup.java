@@ -27,8 +27,10 @@ public class DefaultExceptionMapperLookup implements ExceptionMapperLookup {
 		} else {
 			reflections = new Reflections(resourceSearchPackage);
 		}
-		Set<Class<?>> exceptionMapperClasses = reflections.getTypesAnnotatedWith(ExceptionMapperProvider.class);
+		return createExceptionMappers(reflections.getTypesAnnotatedWith(ExceptionMapperProvider.class));
+	}
 
+	static Set<JsonApiExceptionMapper> createExceptionMappers(Set<Class<?>> exceptionMapperClasses) {
 		Set<JsonApiExceptionMapper> exceptionMappers = new HashSet<>();
 		for (Class<?> exceptionMapperClazz : exceptionMapperClasses) {
 			if (!JsonApiExceptionMapper.class.isAssignableFrom(exceptionMapperClazz)) {
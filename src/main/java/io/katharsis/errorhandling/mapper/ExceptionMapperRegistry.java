@@ -3,10 +3,19 @@ package io.katharsis.errorhandling.mapper;
 import io.katharsis.utils.java.Optional;
 
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Holds registered exception mappers. The closest mapper found for an exception class, including the lack of a
+ * mapper, is cached per class in a map owned by the registry, so the class hierarchy is compared with the mappers only
+ * once for each exception class.
+ */
 public final class ExceptionMapperRegistry {
 
     private final Set<ExceptionMapperType> exceptionMappers;
+    private final ConcurrentMap<Class<?>, Optional<JsonApiExceptionMapper>> resolvedMappers =
+        new ConcurrentHashMap<>();
 
     ExceptionMapperRegistry(Set<ExceptionMapperType> exceptionMappers) {
         this.exceptionMappers = exceptionMappers;
@@ -17,6 +26,15 @@ public final class ExceptionMapperRegistry {
     }
 
     public Optional<JsonApiExceptionMapper> findMapperFor(Class<? extends Throwable> exceptionClass) {
+        Optional<JsonApiExceptionMapper> mapper = resolvedMappers.get(exceptionClass);
+        if (mapper == null) {
+            mapper = resolveMapperFor(exceptionClass);
+            resolvedMappers.putIfAbsent(exceptionClass, mapper);
+        }
+        return mapper;
+    }
+
+    private Optional<JsonApiExceptionMapper> resolveMapperFor(Class<?> exceptionClass) {
         int currentDistance = Integer.MAX_VALUE;
         JsonApiExceptionMapper closestExceptionMapper = null;
         for (ExceptionMapperType mapperType : exceptionMappers) {
@@ -0,0 +1,30 @@
+package io.katharsis.errorhandling.mapper;
+
+import io.katharsis.resource.registry.index.ClassIndex;
+
+import java.util.Set;
+
+/**
+ * Exception mapper lookup which finds exception mappers annotated with the {@link ExceptionMapperProvider} annotation
+ * in the {@link ClassIndex} written at compile time, so no classpath scanning is performed.
+ */
+public class IndexedExceptionMapperLookup implements ExceptionMapperLookup {
+    private final ClassIndex classIndex;
+
+    /**
+     * @param resourceSearchPackage comma separated names of packages containing exception mappers, <i>null</i> to
+     *                              accept all indexed classes
+     */
+    public IndexedExceptionMapperLookup(String resourceSearchPackage) {
+        this(resourceSearchPackage, ClassIndex.getDefaultClassLoader());
+    }
+
+    public IndexedExceptionMapperLookup(String resourceSearchPackage, ClassLoader classLoader) {
+        this.classIndex = new ClassIndex(resourceSearchPackage, classLoader);
+    }
+
+    @Override
+    public Set<JsonApiExceptionMapper> getExceptionMappers() {
+        return DefaultExceptionMapperLookup.createExceptionMappers(classIndex.getClasses(ClassIndex.EXCEPTION_MAPPERS));
+    }
+}
@@ -22,10 +22,11 @@ public class JsonApiModuleBuilder {
         SimpleModule simpleModule = new SimpleModule(JSON_API_MODULE_NAME,
                 new Version(1, 0, 0, null, null, null));
 
-        simpleModule.addSerializer(new ContainerSerializer(resourceRegistry))
+        SerializationPlans serializationPlans = new SerializationPlans(resourceRegistry);
+        simpleModule.addSerializer(new ContainerSerializer(serializationPlans))
                 .addSerializer(new DataLinksContainerSerializer(resourceRegistry))
-                .addSerializer(new RelationshipContainerSerializer(resourceRegistry))
-                .addSerializer(new LinkageContainerSerializer(resourceRegistry))
+                .addSerializer(new RelationshipContainerSerializer(resourceRegistry, serializationPlans))
+                .addSerializer(new LinkageContainerSerializer(serializationPlans))
                 .addSerializer(new BaseResponseSerializer(resourceRegistry))
                 .addSerializer(new ErrorResponseSerializer());
 
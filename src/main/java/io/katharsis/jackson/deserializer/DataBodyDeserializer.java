@@ -0,0 +1,65 @@
+package io.katharsis.jackson.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.katharsis.request.dto.DataBody;
+
+import java.io.IOException;
+
+/**
+ * Reads a resource object directly from the token stream. Attributes are not bound at this point, their tokens are
+ * copied to a {@link TokenBuffer} which is read when the attributes are set on a resource, so the body is parsed once
+ * and no tree of the attributes is built unless requested. Unknown members are handled according to the
+ * deserialization features of the mapper, as they would be by a bean deserializer.
+ *
+ * @see DataBody
+ */
+public class DataBodyDeserializer extends StdDeserializer<DataBody> {
+    private static final String ID_FIELD_NAME = "id";
+    private static final String TYPE_FIELD_NAME = "type";
+    private static final String RELATIONSHIPS_FIELD_NAME = "relationships";
+    private static final String ATTRIBUTES_FIELD_NAME = "attributes";
+
+    private final ResourceRelationshipsDeserializer relationshipsDeserializer = new ResourceRelationshipsDeserializer();
+
+    public DataBodyDeserializer() {
+        super(DataBody.class);
+    }
+
+    @Override
+    public DataBody deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jp.nextToken();
+        }
+        if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            throw ctxt.mappingException(DataBody.class, token);
+        }
+        DataBody dataBody = new DataBody();
+        for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String fieldName = jp.getCurrentName();
+            JsonToken valueToken = jp.nextToken();
+            if (ID_FIELD_NAME.equals(fieldName)) {
+                dataBody.setId(LinkageDataDeserializer.readString(jp, ctxt));
+            } else if (TYPE_FIELD_NAME.equals(fieldName)) {
+                dataBody.setType(LinkageDataDeserializer.readString(jp, ctxt));
+            } else if (RELATIONSHIPS_FIELD_NAME.equals(fieldName)) {
+                if (valueToken != JsonToken.VALUE_NULL) {
+                    dataBody.setRelationships(relationshipsDeserializer.deserialize(jp, ctxt));
+                }
+            } else if (ATTRIBUTES_FIELD_NAME.equals(fieldName)) {
+                if (valueToken != JsonToken.VALUE_NULL) {
+                    TokenBuffer attributes = new TokenBuffer(jp, ctxt);
+                    attributes.copyCurrentStructure(jp);
+                    dataBody.setAttributesBuffer(attributes);
+                }
+            } else {
+                handleUnknownProperty(jp, ctxt, dataBody, fieldName);
+            }
+        }
+        return dataBody;
+    }
+}
@@ -0,0 +1,61 @@
+package io.katharsis.jackson.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.katharsis.request.dto.LinkageData;
+
+import java.io.IOException;
+
+/**
+ * Reads a resource identifier object directly from the token stream. Unknown members are handled according to the
+ * deserialization features of the mapper, as they would be by a bean deserializer.
+ *
+ * @see LinkageData
+ */
+public class LinkageDataDeserializer extends StdDeserializer<LinkageData> {
+    private static final String TYPE_FIELD_NAME = "type";
+    private static final String ID_FIELD_NAME = "id";
+
+    public LinkageDataDeserializer() {
+        super(LinkageData.class);
+    }
+
+    @Override
+    public LinkageData deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jp.nextToken();
+        }
+        if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            throw ctxt.mappingException(LinkageData.class, token);
+        }
+        LinkageData linkageData = new LinkageData();
+        for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String fieldName = jp.getCurrentName();
+            jp.nextToken();
+            if (TYPE_FIELD_NAME.equals(fieldName)) {
+                linkageData.setType(readString(jp, ctxt));
+            } else if (ID_FIELD_NAME.equals(fieldName)) {
+                linkageData.setId(readString(jp, ctxt));
+            } else {
+                handleUnknownProperty(jp, ctxt, linkageData, fieldName);
+            }
+        }
+        return linkageData;
+    }
+
+    /**
+     * Reads a scalar value as a string, so a numeric id is accepted the same way it is by a bean deserializer.
+     */
+    static String readString(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        } else if (token.isScalarValue()) {
+            return jp.getText();
+        }
+        throw ctxt.mappingException(String.class, token);
+    }
+}
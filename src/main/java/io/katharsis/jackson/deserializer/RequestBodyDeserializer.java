@@ -1,47 +1,66 @@
 package io.katharsis.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.RequestBody;
 
 import java.io.IOException;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Reads a request document directly from the token stream, each resource object of the <i>data</i> member is read
+ * by {@link DataBodyDeserializer} as it is encountered. Other top-level members are skipped.
+ */
 public class RequestBodyDeserializer extends JsonDeserializer<RequestBody> {
+    private static final String DATA_FIELD_NAME = "data";
+
+    private final DataBodyDeserializer dataBodyDeserializer = new DataBodyDeserializer();
+
     @Override
     public RequestBody deserialize(JsonParser jp, DeserializationContext deserializationContext) throws IOException {
-        JsonNode node = jp.readValueAsTree();
-        if (node == null) {
-            return null;
-        }
         RequestBody requestBody = new RequestBody();
-        JsonNode data = node.get("data");
-        Object value;
-        if (data != null) {
-            if (data.isArray()) {
-                Iterator<JsonNode> nodeIterator = data.iterator();
-                List<DataBody> dataBodies = new LinkedList<>();
-
-                while (nodeIterator.hasNext()) {
-                    DataBody newLinkage = jp.getCodec().treeToValue(nodeIterator.next(), DataBody.class);
-                    dataBodies.add(newLinkage);
-                }
-                value = dataBodies;
-            } else if (data.isObject()) {
-                value = jp.getCodec().treeToValue(data, DataBody.class);
-            } else if (data.isNull()) {
-                value = null;
+        JsonToken token = jp.getCurrentToken();
+        if (token != JsonToken.START_OBJECT) {
+            jp.skipChildren();
+            return requestBody;
+        }
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            JsonToken valueToken = jp.nextToken();
+            if (DATA_FIELD_NAME.equals(fieldName)) {
+                requestBody.setData(readData(jp, deserializationContext, valueToken));
             } else {
-                throw new RuntimeException("data field has wrong type: " + data.toString());
+                jp.skipChildren();
             }
-            requestBody.setData(value);
         }
-
         return requestBody;
     }
+
+    private Object readData(JsonParser jp, DeserializationContext deserializationContext, JsonToken token)
+        throws IOException {
+        if (token == JsonToken.START_ARRAY) {
+            List<DataBody> dataBodies = new ArrayList<>();
+            while (jp.nextToken() != JsonToken.END_ARRAY) {
+                dataBodies.add(readDataBody(jp, deserializationContext));
+            }
+            return dataBodies;
+        } else if (token == JsonToken.START_OBJECT) {
+            return dataBodyDeserializer.deserialize(jp, deserializationContext);
+        } else if (token == JsonToken.VALUE_NULL) {
+            return null;
+        } else {
+            throw new RuntimeException("data field has wrong type: " + jp.getText());
+        }
+    }
+
+    private DataBody readDataBody(JsonParser jp, DeserializationContext deserializationContext) throws IOException {
+        if (jp.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return dataBodyDeserializer.deserialize(jp, deserializationContext);
+    }
 }
@@ -1,59 +1,76 @@
 package io.katharsis.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
-import io.katharsis.jackson.exception.ParametersDeserializationException;
 import io.katharsis.request.dto.LinkageData;
 import io.katharsis.request.dto.ResourceRelationships;
 
 import java.io.IOException;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Deserialize ResourceLinks field which can contain either a list of {@link LinkageData} or a single {@link LinkageData}.
+ * Linkages are read directly from the token stream, members of a relationship other than <i>data</i> are skipped.
  *
  * @see LinkageData
  */
 public class ResourceRelationshipsDeserializer extends JsonDeserializer<ResourceRelationships> {
     private static final String DATA_FIELD_NAME = "data";
 
+    private final LinkageDataDeserializer linkageDataDeserializer = new LinkageDataDeserializer();
+
     @Override
     public ResourceRelationships deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-        JsonNode node = jp.readValueAsTree();
-        if (node == null) {
-            return null;
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jp.nextToken();
         }
         ResourceRelationships resourceRelationships = new ResourceRelationships();
+        if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            jp.skipChildren();
+            return resourceRelationships;
+        }
+        for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String fieldName = jp.getCurrentName();
+            jp.nextToken();
+            resourceRelationships.setAdditionalProperty(fieldName, readRelationship(jp, ctxt));
+        }
+        return resourceRelationships;
+    }
 
-        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
-        while (fields.hasNext()) {
-            Map.Entry<String, JsonNode> field = fields.next();
-            Object value;
-            if (field.getValue() == null) {
-                throw new ParametersDeserializationException("Attribute field cannot be null for: " + field.getKey());
-            } else if (field.getValue().get(DATA_FIELD_NAME) == null) {
-                value = null;
-            } else if (field.getValue().get(DATA_FIELD_NAME).isArray()) {
-                JsonNode fieldData = field.getValue().get(DATA_FIELD_NAME);
-                Iterator<JsonNode> nodeIterator = fieldData.iterator();
-                List<LinkageData> linkageDatas = new LinkedList<>();
-
-                while (nodeIterator.hasNext()) {
-                    LinkageData newLinkageData = jp.getCodec().treeToValue(nodeIterator.next(), LinkageData.class);
-                    linkageDatas.add(newLinkageData);
+    private Object readRelationship(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        if (jp.getCurrentToken() != JsonToken.START_OBJECT) {
+            jp.skipChildren();
+            return null;
+        }
+        Object value = null;
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            JsonToken valueToken = jp.nextToken();
+            if (DATA_FIELD_NAME.equals(fieldName)) {
+                if (valueToken == JsonToken.START_ARRAY) {
+                    List<LinkageData> linkageDatas = new ArrayList<>();
+                    while (jp.nextToken() != JsonToken.END_ARRAY) {
+                        linkageDatas.add(readLinkageData(jp, ctxt));
+                    }
+                    value = linkageDatas;
+                } else {
+                    value = readLinkageData(jp, ctxt);
                 }
-                value = linkageDatas;
             } else {
-                value = jp.getCodec().treeToValue(field.getValue().get(DATA_FIELD_NAME), LinkageData.class);
+                jp.skipChildren();
             }
-            resourceRelationships.setAdditionalProperty(field.getKey(), value);
         }
+        return value;
+    }
 
-        return resourceRelationships;
+    private LinkageData readLinkageData(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        if (jp.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return linkageDataDeserializer.deserialize(jp, ctxt);
     }
 }
@@ -1,117 +1,134 @@
 package io.katharsis.jackson.serializer;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.*;
 
 import java.io.IOException;
-import java.util.*;
 
 /**
  * Serializes top-level JSON object and provides ability to include compound documents
  */
 public class BaseResponseSerializer extends JsonSerializer<BaseResponse> {
 
-    private static final String INCLUDED_FIELD_NAME = "included";
-    private static final String DATA_FIELD_NAME = "data";
-    private static final String META_FIELD_NAME = "meta";
-    private static final String LINKS_FIELD_NAME = "links";
+    private static final SerializableString INCLUDED_FIELD_NAME = new SerializedString("included");
+    private static final SerializableString DATA_FIELD_NAME = new SerializedString("data");
+    private static final SerializableString META_FIELD_NAME = new SerializedString("meta");
+    private static final SerializableString LINKS_FIELD_NAME = new SerializedString("links");
 
+    private final ResourceRegistry resourceRegistry;
     private final IncludedRelationshipExtractor includedRelationshipExtractor;
 
     public BaseResponseSerializer(ResourceRegistry resourceRegistry) {
+        this.resourceRegistry = resourceRegistry;
         includedRelationshipExtractor = new IncludedRelationshipExtractor(resourceRegistry);
     }
 
     @Override
     public void serialize(BaseResponse value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
-        Set<?> includedResources = new HashSet<>();
-
         gen.writeStartObject();
 
-        if (isLinkageContainer(value)) {
-            gen.writeObjectField(DATA_FIELD_NAME, value.getData());
+        if (value instanceof ResourceResponse) {
+            serializeSingle((ResourceResponse) value, gen);
+        } else if (value instanceof CollectionResponse) {
+            serializeResourceCollection((CollectionResponse) value, gen);
         } else {
-            writeResponseWithResources(value, gen, includedResources);
+            throw new IllegalArgumentException(String.format("Response can be either %s or %s. Got %s",
+                ResourceResponse.class, CollectionResponse.class, value.getClass()));
         }
 
         if (value.getMetaInformation() != null) {
-            gen.writeObjectField(META_FIELD_NAME, value.getMetaInformation());
+            gen.writeFieldName(META_FIELD_NAME);
+            gen.writeObject(value.getMetaInformation());
         }
         if (value.getLinksInformation() != null) {
-            gen.writeObjectField(LINKS_FIELD_NAME, value.getLinksInformation());
+            gen.writeFieldName(LINKS_FIELD_NAME);
+            gen.writeObject(value.getLinksInformation());
         }
 
         gen.writeEndObject();
     }
 
-    private boolean isLinkageContainer(BaseResponse value) {
-        if (value instanceof ResourceResponse) {
-            return value.getData() instanceof LinkageContainer;
-        } else if (value instanceof CollectionResponse) {
-            Iterable data = ((CollectionResponse) value).getData();
-            if (data == null) {
-                return false;
-            } else {
-                Iterator iterator = data.iterator();
-                return iterator.hasNext() && iterator.next() instanceof LinkageContainer;
-            }
-        } else {
-            throw new IllegalArgumentException(String.format("Response can be either %s or %s. Got %s",
-                ResourceResponse.class, CollectionResponse.class, value.getClass()));
-        }
-    }
-
-    private void writeResponseWithResources(BaseResponse value, JsonGenerator gen, Set<?> includedResources) throws IOException {
-        if (value instanceof ResourceResponse) {
-            Set included = serializeSingle((ResourceResponse) value, gen);
-            //noinspection unchecked
-            includedResources.addAll(included);
-        } else if (value instanceof CollectionResponse) {
-            Set included = serializeResourceCollection((CollectionResponse) value, gen);
-            //noinspection unchecked
-            includedResources.addAll(included);
-        } else {
-            throw new IllegalArgumentException(String.format("Response can be either %s or %s. Got %s",
-                    ResourceResponse.class, CollectionResponse.class, value.getClass()));
+    private void serializeSingle(ResourceResponse resourceResponse, JsonGenerator gen) throws IOException {
+        Object value = resourceResponse.getData();
+        if (value instanceof LinkageContainer) {
+            gen.writeFieldName(DATA_FIELD_NAME);
+            gen.writeObject(value);
+            return;
         }
 
-        gen.writeObjectField(INCLUDED_FIELD_NAME, includedResources);
-    }
-
-    private Set<?> serializeSingle(ResourceResponse resourceResponse, JsonGenerator gen) throws IOException {
-        Object value = resourceResponse.getData();
-        gen.writeObjectField(DATA_FIELD_NAME, new Container(value, resourceResponse));
+        gen.writeFieldName(DATA_FIELD_NAME);
+        gen.writeObject(new Container(value, resourceResponse));
 
-        if (value != null) {
-            return includedRelationshipExtractor.extractIncludedResources(value, resourceResponse);
-        } else {
-            return Collections.EMPTY_SET;
+        IncludedResources includedResources = new IncludedResources(resourceRegistry);
+        if (includedRelationshipExtractor.hasIncludedResources(value, resourceResponse)) {
+            includedResources.addPrimaryResource(value);
+            includedRelationshipExtractor.extractIncludedResources(value, resourceResponse, includedResources);
         }
+        writeIncluded(gen, includedResources);
     }
 
-    private Set serializeResourceCollection(CollectionResponse collectionResponse, JsonGenerator gen) throws IOException {
+    /**
+     * Writes the resources while iterating over the data only once, so the data can be a one-time iterable, e.g. a
+     * database cursor. The included resources are collected along the way and written after the data. If the data
+     * consists of {@link LinkageContainer}s, they are written as they are without the included resources. A resource
+     * of the data is not included even if it is referenced by a resource preceding it.
+     * <p>
+     * The type and id of the resources are kept only from the first resource which can have included resources, so a
+     * collection without inclusions is not retained. Resources preceding it have no relationships included by default
+     * and no inclusions are requested, so they can be included only by a resource of another class.
+     */
+    private void serializeResourceCollection(CollectionResponse collectionResponse, JsonGenerator gen)
+        throws IOException {
         Iterable values = collectionResponse.getData();
-        Set includedFields = new HashSet<>();
+        IncludedResources includedResources = new IncludedResources(resourceRegistry);
+        boolean linkageContainers = false;
+        boolean trackPrimaryResources = false;
+
+        gen.writeFieldName(DATA_FIELD_NAME);
+        gen.writeStartArray();
         if (values != null) {
+            boolean firstValue = true;
             for (Object value : values) {
-                //noinspection unchecked
-                includedFields.addAll(includedRelationshipExtractor.extractIncludedResources(value, collectionResponse));
+                if (firstValue) {
+                    linkageContainers = value instanceof LinkageContainer;
+                    firstValue = false;
+                }
+                if (linkageContainers) {
+                    gen.writeObject(value);
+                } else {
+                    gen.writeObject(new Container(value, collectionResponse));
+                    boolean hasIncludedResources =
+                        includedRelationshipExtractor.hasIncludedResources(value, collectionResponse);
+                    trackPrimaryResources |= hasIncludedResources;
+                    if (trackPrimaryResources && value != null) {
+                        includedResources.addPrimaryResource(value);
+                    }
+                    if (hasIncludedResources) {
+                        includedRelationshipExtractor.extractIncludedResources(value, collectionResponse,
+                            includedResources);
+                    }
+                }
             }
-        } else {
-            values = Collections.emptyList();
         }
+        gen.writeEndArray();
 
-        List<Container> containers = new LinkedList<>();
-        for (Object value : values) {
-            containers.add(new Container(value, collectionResponse));
+        if (!linkageContainers) {
+            writeIncluded(gen, includedResources);
         }
+    }
 
-        gen.writeObjectField(DATA_FIELD_NAME, containers);
-
-        return includedFields;
+    private void writeIncluded(JsonGenerator gen, IncludedResources includedResources) throws IOException {
+        gen.writeFieldName(INCLUDED_FIELD_NAME);
+        gen.writeStartArray();
+        for (Container container : includedResources.getContainers()) {
+            gen.writeObject(container);
+        }
+        gen.writeEndArray();
     }
 
     public Class<BaseResponse> handledType() {
@@ -0,0 +1,101 @@
+package io.katharsis.jackson.serializer;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.registry.ResourceRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Everything {@link ContainerSerializer} needs to write a resource of a class with a set of included fields: the
+ * resource type, also encoded as a JSON string, the template of the resource links and the attribute and
+ * relationship fields to be written. A plan is immutable and can be shared between requests.
+ */
+final class ContainerSerializationPlan {
+
+    private final String resourceType;
+    private final SerializableString serializedResourceType;
+    private final ResourceLinkTemplate linkTemplate;
+    private final ResourceField[] attributeFields;
+    private final Set<ResourceField> relationshipFields;
+    private final Set<String> includedFieldNames;
+
+    private ContainerSerializationPlan(String resourceType, SerializableString serializedResourceType,
+                                       ResourceLinkTemplate linkTemplate, List<ResourceField> attributeFields,
+                                       Set<ResourceField> relationshipFields, Set<String> includedFieldNames) {
+        this.resourceType = resourceType;
+        this.serializedResourceType = serializedResourceType;
+        this.linkTemplate = linkTemplate;
+        this.attributeFields = attributeFields.toArray(new ResourceField[attributeFields.size()]);
+        this.relationshipFields = Collections.unmodifiableSet(relationshipFields);
+        this.includedFieldNames = includedFieldNames;
+    }
+
+    /**
+     * @param resourceRegistry registry containing the resource
+     * @param resourceClass    class of a resource, a subclass or a proxy of a registered resource
+     * @return a plan writing all fields of the resource
+     */
+    static ContainerSerializationPlan of(ResourceRegistry resourceRegistry, Class<?> resourceClass) {
+        ResourceInformation resourceInformation = resourceRegistry.getEntry(resourceClass).getResourceInformation();
+        String resourceType = resourceRegistry.getResourceType(resourceClass);
+        return new ContainerSerializationPlan(resourceType, new SerializedString(resourceType),
+            ResourceLinkTemplate.of(resourceRegistry, resourceClass),
+            new ArrayList<>(resourceInformation.getAttributeFields()),
+            new LinkedHashSet<>(resourceInformation.getRelationshipFields()), null);
+    }
+
+    /**
+     * @param fieldNames JSON names of the fields to be written, a sparse fieldset
+     * @return a plan writing only the fields of this plan which are among the field names
+     */
+    ContainerSerializationPlan withIncludedFields(Set<String> fieldNames) {
+        List<ResourceField> includedAttributeFields = new ArrayList<>(attributeFields.length);
+        for (ResourceField attributeField : attributeFields) {
+            if (fieldNames.contains(attributeField.getJsonName())) {
+                includedAttributeFields.add(attributeField);
+            }
+        }
+        Set<ResourceField> includedRelationshipFields = new LinkedHashSet<>();
+        for (ResourceField relationshipField : relationshipFields) {
+            if (fieldNames.contains(relationshipField.getJsonName())) {
+                includedRelationshipFields.add(relationshipField);
+            }
+        }
+        return new ContainerSerializationPlan(resourceType, serializedResourceType, linkTemplate,
+            includedAttributeFields, includedRelationshipFields, fieldNames);
+    }
+
+    String getResourceType() {
+        return resourceType;
+    }
+
+    SerializableString getSerializedResourceType() {
+        return serializedResourceType;
+    }
+
+    ResourceLinkTemplate getLinkTemplate() {
+        return linkTemplate;
+    }
+
+    ResourceField[] getAttributeFields() {
+        return attributeFields;
+    }
+
+    Set<ResourceField> getRelationshipFields() {
+        return relationshipFields;
+    }
+
+    /**
+     * @return the sparse fieldset the plan was created for, <i>null</i> if the plan writes all fields
+     */
+    Set<String> getIncludedFieldNames() {
+        return includedFieldNames;
+    }
+}
@@ -1,24 +1,20 @@
 package io.katharsis.jackson.serializer;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import io.katharsis.jackson.exception.JsonSerializationException;
 import io.katharsis.queryParams.params.IncludedFieldsParams;
 import io.katharsis.queryParams.params.TypedParams;
-import io.katharsis.request.dto.Attributes;
 import io.katharsis.resource.field.ResourceField;
-import io.katharsis.resource.information.ResourceInformation;
-import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.Container;
 import io.katharsis.response.DataLinksContainer;
-import io.katharsis.utils.BeanUtils;
-import io.katharsis.utils.PropertyUtils;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -29,17 +25,29 @@ import java.util.Set;
  */
 public class ContainerSerializer extends JsonSerializer<Container> {
 
-    private static final String TYPE_FIELD_NAME = "type";
-    private static final String ID_FIELD_NAME = "id";
-    private static final String ATTRIBUTES_FIELD_NAME = "attributes";
-    private static final String RELATIONSHIPS_FIELD_NAME = "relationships";
-    private static final String LINKS_FIELD_NAME = "links";
-    private static final String SELF_FIELD_NAME = "self";
+    private static final SerializableString TYPE_FIELD_NAME = new SerializedString("type");
+    private static final SerializableString ID_FIELD_NAME = new SerializedString("id");
+    private static final SerializableString ATTRIBUTES_FIELD_NAME = new SerializedString("attributes");
+    private static final SerializableString RELATIONSHIPS_FIELD_NAME = new SerializedString("relationships");
+    private static final SerializableString LINKS_FIELD_NAME = new SerializedString("links");
+    private static final SerializableString SELF_FIELD_NAME = new SerializedString("self");
 
-    private final ResourceRegistry resourceRegistry;
+    /**
+     * Key of the per-call attribute holding plans created for sparse fieldsets of the serialized response.
+     */
+    private static final Object SPARSE_PLANS_ATTRIBUTE = new Object();
+
+    private final SerializationPlans serializationPlans;
 
     public ContainerSerializer(ResourceRegistry resourceRegistry) {
-        this.resourceRegistry = resourceRegistry;
+        this(new SerializationPlans(resourceRegistry));
+    }
+
+    /**
+     * @param serializationPlans plans of the resource classes shared by the serializers of a module
+     */
+    public ContainerSerializer(SerializationPlans serializationPlans) {
+        this.serializationPlans = serializationPlans;
     }
 
     @Override
@@ -52,7 +60,8 @@ public class ContainerSerializer extends JsonSerializer<Container> {
                 .getQueryParams()
                 .getIncludedFields();
 
-            writeData(gen, value.getData(), includedFields);
+            Object data = value.getData();
+            writeData(gen, data, getPlan(data.getClass(), includedFields, serializers), serializers);
             gen.writeEndObject();
         } else {
             gen.writeObject(null);
@@ -60,125 +69,108 @@ public class ContainerSerializer extends JsonSerializer<Container> {
     }
 
     /**
-     * Writes a value. Each serialized container must contain type field whose value is string
-     * <a href="http://jsonapi.org/format/#document-structure-resource-types"></a>.
+     * Finds a plan for a resource class and the sparse fieldsets of the request. If no sparse fieldset is requested,
+     * all fields are written. If sparse fieldsets are requested only for other types, no fields are written. Plans for
+     * requested sparse fieldsets are kept for the duration of the serialization call.
      */
-    private void writeData(JsonGenerator gen, Object data, TypedParams<IncludedFieldsParams> includedFields) throws IOException {
-        Class<?> dataClass = data.getClass();
-        String resourceType = resourceRegistry.getResourceType(dataClass);
-
-        gen.writeStringField(TYPE_FIELD_NAME, resourceType);
-
-        RegistryEntry entry = resourceRegistry.getEntry(dataClass);
-        ResourceInformation resourceInformation = entry.getResourceInformation();
-        try {
-            writeId(gen, data, resourceInformation.getIdField());
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new JsonSerializationException(
-                "Error writing id field: " + resourceInformation.getIdField().getUnderlyingName());
+    private ContainerSerializationPlan getPlan(Class<?> dataClass, TypedParams<IncludedFieldsParams> includedFields,
+                                               SerializerProvider serializers) {
+        SerializationPlans.ResourcePlans plans = serializationPlans.getResourcePlans(dataClass);
+        if (includedFields == null || includedFields.getParams().isEmpty()) {
+            return plans.getAllFieldsPlan();
         }
-
-        try {
-            writeAttributes(gen, data, resourceInformation.getAttributeFields(), includedFields);
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            StringBuilder attributeFieldNames = new StringBuilder();
-            for (ResourceField attributeField : resourceInformation.getAttributeFields()) {
-                attributeFieldNames.append(attributeField.getUnderlyingName());
-                attributeFieldNames.append(" ");
-            }
-            throw new JsonSerializationException("Error writing basic fields: " +
-                attributeFieldNames);
+        IncludedFieldsParams typeIncludedFields =
+            includedFields.getParams().get(plans.getAllFieldsPlan().getResourceType());
+        if (typeIncludedFields == null || typeIncludedFields.getParams().isEmpty()) {
+            return plans.getNoFieldsPlan();
         }
 
-        Set<ResourceField> relationshipFields = getRelationshipFields(resourceType, resourceInformation, includedFields);
-        writeRelationshipFields(gen, data, relationshipFields);
-        writeLinksField(gen, data);
-    }
-
-    private Set<ResourceField> getRelationshipFields(String resourceType, ResourceInformation resourceInformation, TypedParams<IncludedFieldsParams> includedFields) {
-        Set<ResourceField> relationshipFields = new HashSet<>();
-        for (ResourceField resourceField : resourceInformation.getRelationshipFields()) {
-            if (isIncluded(resourceType, includedFields, resourceField)) {
-                relationshipFields.add(resourceField);
-            }
+        @SuppressWarnings("unchecked")
+        Map<Class<?>, ContainerSerializationPlan> sparsePlans =
+            (Map<Class<?>, ContainerSerializationPlan>) serializers.getAttribute(SPARSE_PLANS_ATTRIBUTE);
+        if (sparsePlans == null) {
+            sparsePlans = new HashMap<>();
+            serializers.setAttribute(SPARSE_PLANS_ATTRIBUTE, sparsePlans);
+        }
+        ContainerSerializationPlan plan = sparsePlans.get(dataClass);
+        if (plan == null || plan.getIncludedFieldNames() != typeIncludedFields.getParams()) {
+            plan = plans.getAllFieldsPlan().withIncludedFields(typeIncludedFields.getParams());
+            sparsePlans.put(dataClass, plan);
         }
+        return plan;
+    }
 
-        return relationshipFields;
+    /**
+     * Writes a value. Each serialized container must contain type field whose value is string
+     * <a href="http://jsonapi.org/format/#document-structure-resource-types"></a>.
+     */
+    private void writeData(JsonGenerator gen, Object data, ContainerSerializationPlan plan,
+                           SerializerProvider serializers) throws IOException {
+        gen.writeFieldName(TYPE_FIELD_NAME);
+        gen.writeString(plan.getSerializedResourceType());
+
+        String sourceId = plan.getLinkTemplate().getId(data);
+        writeId(gen, sourceId);
+        writeAttributes(gen, data, plan.getAttributeFields(), serializers);
+        writeRelationshipFields(gen, data, plan.getRelationshipFields());
+        writeLinksField(gen, sourceId, plan, serializers);
     }
 
     /**
      * The id MUST be written as a string
      * <a href="http://jsonapi.org/format/#document-structure-resource-ids">Resource IDs</a>.
      */
-    private void writeId(JsonGenerator gen, Object data, ResourceField idField)
-        throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, IOException {
-        String sourceId = BeanUtils.getProperty(data, idField.getUnderlyingName());
-        gen.writeObjectField(ID_FIELD_NAME, sourceId);
-    }
-
-    private void writeAttributes(JsonGenerator gen, Object data, Set<ResourceField> attributeFields,
-                                 TypedParams<IncludedFieldsParams> includedFields)
-        throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, IOException {
-
-        String resourceType = resourceRegistry.getResourceType(data.getClass());
-
-        Attributes attributesObject = new Attributes();
-        for (ResourceField attributeField : attributeFields) {
-            if (isIncluded(resourceType, includedFields, attributeField)) {
-                Object basicFieldValue = PropertyUtils.getProperty(data, attributeField.getUnderlyingName());
-                attributesObject.addAttribute(attributeField.getJsonName(), basicFieldValue);
-            }
-        }
-
-        gen.writeObjectField(ATTRIBUTES_FIELD_NAME, attributesObject);
-    }
-
-    private boolean isIncluded(String resourceType, TypedParams<IncludedFieldsParams> includedFields, ResourceField attributeField) {
-        IncludedFieldsParams typeIncludedFields = findIncludedFields(includedFields, resourceType);
-        if (typeIncludedFields == null || typeIncludedFields.getParams().isEmpty()) {
-            return includedFields == null || includedFields.getParams().isEmpty();
+    private void writeId(JsonGenerator gen, String sourceId) throws IOException {
+        gen.writeFieldName(ID_FIELD_NAME);
+        if (sourceId != null) {
+            gen.writeString(sourceId);
         } else {
-            return typeIncludedFields.getParams().contains(attributeField.getJsonName());
+            gen.writeNull();
         }
     }
 
-    private IncludedFieldsParams findIncludedFields(TypedParams<IncludedFieldsParams> includedFields, String
-        elementName) {
-        IncludedFieldsParams includedFieldsParams = null;
-        if (includedFields != null) {
-            for (Map.Entry<String, IncludedFieldsParams> entry : includedFields.getParams()
-                .entrySet()) {
-                if (elementName.equals(entry.getKey())) {
-                    includedFieldsParams = entry.getValue();
+    /**
+     * Attribute values are written the way Jackson writes values of a map, that is using serializers of their runtime
+     * classes. Null values are omitted if {@link SerializationFeature#WRITE_NULL_MAP_VALUES} is disabled.
+     */
+    private void writeAttributes(JsonGenerator gen, Object data, ResourceField[] attributeFields,
+                                 SerializerProvider serializers) throws IOException {
+        boolean writeNullValues = serializers.isEnabled(SerializationFeature.WRITE_NULL_MAP_VALUES);
+
+        gen.writeFieldName(ATTRIBUTES_FIELD_NAME);
+        gen.writeStartObject();
+        for (ResourceField attributeField : attributeFields) {
+            Object basicFieldValue = attributeField.getValue(data);
+            if (basicFieldValue == null) {
+                if (writeNullValues) {
+                    gen.writeFieldName(attributeField.getSerializedJsonName());
+                    serializers.defaultSerializeNull(gen);
                 }
+            } else {
+                gen.writeFieldName(attributeField.getSerializedJsonName());
+                serializers.findValueSerializer(basicFieldValue.getClass(), null)
+                    .serialize(basicFieldValue, gen, serializers);
             }
         }
-        return includedFieldsParams;
+        gen.writeEndObject();
     }
 
     private void writeRelationshipFields(JsonGenerator gen, Object data, Set<ResourceField> relationshipFields)
         throws IOException {
         DataLinksContainer dataLinksContainer = new DataLinksContainer(data, relationshipFields);
-        gen.writeObjectField(RELATIONSHIPS_FIELD_NAME, dataLinksContainer);
+        gen.writeFieldName(RELATIONSHIPS_FIELD_NAME);
+        gen.writeObject(dataLinksContainer);
     }
 
-    private void writeLinksField(JsonGenerator gen, Object data) throws IOException {
+    private void writeLinksField(JsonGenerator gen, String sourceId, ContainerSerializationPlan plan,
+                                 SerializerProvider serializers) throws IOException {
         gen.writeFieldName(LINKS_FIELD_NAME);
         gen.writeStartObject();
-        writeSelfLink(gen, data);
+        gen.writeFieldName(SELF_FIELD_NAME);
+        plan.getLinkTemplate().writeSelfLink(gen, serializers, sourceId);
         gen.writeEndObject();
     }
 
-    private void writeSelfLink(JsonGenerator gen, Object data) throws IOException {
-        Class<?> sourceClass = data.getClass();
-        String resourceUrl = resourceRegistry.getResourceUrl(sourceClass);
-        RegistryEntry entry = resourceRegistry.getEntry(sourceClass);
-        ResourceField idField = entry.getResourceInformation().getIdField();
-
-        Object sourceId = PropertyUtils.getProperty(data, idField.getUnderlyingName());
-        gen.writeStringField(SELF_FIELD_NAME, resourceUrl + "/" + sourceId);
-    }
-
     public Class<Container> handledType() {
         return Container.class;
     }
@@ -25,7 +25,8 @@ public class DataLinksContainerSerializer extends JsonSerializer<DataLinksContai
 
         for (ResourceField field : dataLinksContainer.getRelationshipFields()) {
             RelationshipContainer relationshipContainer = new RelationshipContainer(dataLinksContainer, field);
-            gen.writeObjectField(field.getJsonName(), relationshipContainer);
+            gen.writeFieldName(field.getSerializedJsonName());
+            gen.writeObject(relationshipContainer);
         }
 
         gen.writeEndObject();
@@ -10,13 +10,16 @@ import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.BaseResponse;
-import io.katharsis.response.Container;
 import io.katharsis.utils.PropertyUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.*;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Extracts inclusions from a resource.
@@ -24,76 +27,100 @@ import java.util.*;
 public class IncludedRelationshipExtractor {
     private static final Logger logger = LoggerFactory.getLogger(IncludedRelationshipExtractor.class);
     private final ResourceRegistry resourceRegistry;
+    private final ConcurrentMap<Class<?>, Boolean> includedByDefaultClasses = new ConcurrentHashMap<>();
 
     public IncludedRelationshipExtractor(ResourceRegistry resourceRegistry) {
         this.resourceRegistry = resourceRegistry;
     }
 
-    public Set<?> extractIncludedResources(Object resource, BaseResponse response) {
-        Set includedResources = new HashSet<>();
-        //noinspection unchecked
-        includedResources.addAll(extractDefaultIncludedFields(resource, response));
-        try {
-            //noinspection unchecked
-            includedResources.addAll(extractIncludedRelationships(resource, response));
-        } catch (IllegalAccessException | NoSuchMethodException | InvocationTargetException | NoSuchFieldException e) {
-            logger.info("Exception while extracting included fields", e);
+    /**
+     * Checks if any resources can be extracted from a resource, that is if inclusions are requested for the response
+     * or the resource has relationships included by default.
+     *
+     * @param resource a resource of the response
+     * @param response the response the resource belongs to
+     * @return <i>false</i> if no included resources can be extracted from the resource
+     */
+    public boolean hasIncludedResources(Object resource, BaseResponse response) {
+        if (resource == null) {
+            return false;
         }
-
-        return includedResources;
+        IncludedRelationsParams includedRelationsParams = findInclusions(response.getQueryParams()
+            .getIncludedRelations(), response.getJsonPath().getElementName());
+        return (includedRelationsParams != null && !includedRelationsParams.getParams().isEmpty())
+            || hasIncludedByDefaultFields(resource.getClass());
     }
 
-    private List<?> extractDefaultIncludedFields(Object resource, BaseResponse response) {
-        List<?> includedResources = getIncludedByDefaultResources(resource, 1);
-        List<Container> includedResourceContainers = new ArrayList<>(includedResources.size());
-        for (Object includedResource : includedResources) {
-            includedResourceContainers.add(new Container(includedResource, response));
+    private boolean hasIncludedByDefaultFields(Class<?> resourceClass) {
+        Boolean includedByDefault = includedByDefaultClasses.get(resourceClass);
+        if (includedByDefault == null) {
+            includedByDefault = false;
+            for (ResourceField resourceField : resourceRegistry.getEntry(resourceClass).getResourceInformation()
+                .getRelationshipFields()) {
+                if (resourceField.isAnnotationPresent(JsonApiIncludeByDefault.class)) {
+                    includedByDefault = true;
+                    break;
+                }
+            }
+            includedByDefaultClasses.putIfAbsent(resourceClass, includedByDefault);
         }
+        return includedByDefault;
+    }
 
-        return includedResourceContainers;
+    public Set<?> extractIncludedResources(Object resource, BaseResponse response) {
+        IncludedResources includedResources = new IncludedResources(resourceRegistry);
+        extractIncludedResources(resource, response, includedResources);
+        return new LinkedHashSet<>(includedResources.getContainers());
     }
 
+    /**
+     * Adds resources included by default and resources of the requested inclusions to the included resources.
+     *
+     * @param resource          a resource the included resources are extracted from
+     * @param response          the response the resource belongs to
+     * @param includedResources accumulator of the included section of the response
+     */
+    public void extractIncludedResources(Object resource, BaseResponse response, IncludedResources includedResources) {
+        addIncludedByDefaultResources(resource, 1, response, includedResources);
+        try {
+            addIncludedRelationships(resource, response, includedResources);
+        } catch (IllegalAccessException | NoSuchMethodException | InvocationTargetException | NoSuchFieldException e) {
+            logger.info("Exception while extracting included fields", e);
+        }
+    }
 
-    private List<?> getIncludedByDefaultResources(Object resource, int recurrenceLevel) {
+    private void addIncludedByDefaultResources(Object resource, int recurrenceLevel, BaseResponse response,
+                                               IncludedResources includedResources) {
         if (recurrenceLevel >= 42 || resource == null) {
-            return Collections.emptyList();
+            return;
         }
 
         Set<ResourceField> relationshipFields = getRelationshipFields(resource);
-        List includedFields = new LinkedList<>();
 
-        //noinspection unchecked
         for (ResourceField resourceField : relationshipFields) {
             if (resourceField.isAnnotationPresent(JsonApiIncludeByDefault.class)) {
 
-                Object targetDataObj = PropertyUtils.getProperty(resource, resourceField.getUnderlyingName());
+                Object targetDataObj = resourceField.getValue(resource);
 
                 if (targetDataObj != null) {
                     recurrenceLevel++;
 
                     if (targetDataObj instanceof Iterable) {
                         for (Object objectItem : (Iterable) targetDataObj) {
-                            //noinspection unchecked
-                            includedFields.add(objectItem);
-                            //noinspection unchecked
-                            includedFields.addAll(getIncludedByDefaultResources(objectItem, recurrenceLevel));
+                            includedResources.add(objectItem, response);
+                            addIncludedByDefaultResources(objectItem, recurrenceLevel, response, includedResources);
                         }
                     } else {
-                        //noinspection unchecked
-                        includedFields.add(targetDataObj);
-                        //noinspection unchecked
-                        includedFields.addAll(getIncludedByDefaultResources(targetDataObj, recurrenceLevel));
+                        includedResources.add(targetDataObj, response);
+                        addIncludedByDefaultResources(targetDataObj, recurrenceLevel, response, includedResources);
                     }
                 }
             }
         }
-
-        return includedFields;
     }
 
-    private List<?> extractIncludedRelationships(Object resource, BaseResponse response)
+    private void addIncludedRelationships(Object resource, BaseResponse response, IncludedResources includedResources)
         throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, NoSuchFieldException {
-        List<?> includedResources = new LinkedList<>();
         TypedParams<IncludedRelationsParams> includedRelations = response.getQueryParams()
             .getIncludedRelations();
         String elementName = response.getJsonPath()
@@ -101,60 +128,48 @@ public class IncludedRelationshipExtractor {
         IncludedRelationsParams includedRelationsParams = findInclusions(includedRelations, elementName);
         if (includedRelationsParams != null) {
             for (Inclusion inclusion : includedRelationsParams.getParams()) {
-                //noinspection unchecked
-                includedResources.addAll(extractIncludedRelationship(resource, inclusion, response));
+                addIncludedRelationship(resource, inclusion, response, includedResources);
             }
         }
-        return includedResources;
     }
 
     private IncludedRelationsParams findInclusions(TypedParams<IncludedRelationsParams> queryParams,
                                                    String resourceName) {
         if (queryParams != null && queryParams.getParams() != null) {
-            for (Map.Entry<String, IncludedRelationsParams> entry : queryParams.getParams()
-                .entrySet()) {
-                if (resourceName.equals(entry.getKey())) {
-                    return entry.getValue();
-                }
-            }
+            return queryParams.getParams().get(resourceName);
         }
         return null;
     }
 
-    private Set extractIncludedRelationship(Object resource, Inclusion inclusion, BaseResponse response)
+    private void addIncludedRelationship(Object resource, Inclusion inclusion, BaseResponse response,
+                                         IncludedResources includedResources)
         throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, NoSuchFieldException {
         List<String> pathList = inclusion.getPathList();
         if (resource == null || pathList.isEmpty()) {
-            return Collections.emptySet();
+            return;
         }
         if (!(response.getJsonPath() instanceof ResourcePath)) { // the first property name is the resource itself
             pathList = pathList.subList(1, pathList.size());
             if (pathList.isEmpty()) {
-                return Collections.emptySet();
+                return;
             }
         }
-        return getElements(resource, pathList, response);
+        addElements(resource, pathList, response, includedResources);
     }
 
-    private Set getElements(Object resource, List<String> pathList, BaseResponse response)
+    private void addElements(Object resource, List<String> pathList, BaseResponse response,
+                             IncludedResources includedResources)
         throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, NoSuchFieldException {
-        Set elements = new HashSet();
-
         Object property = PropertyUtils.getProperty(resource, pathList.get(0));
         if (property != null) {
             if (Iterable.class.isAssignableFrom(property.getClass())) {
                 for (Object o : ((Iterable) property)) {
-                    //noinspection unchecked
-                    elements.add(new Container(o, response));
+                    includedResources.add(o, response);
                 }
             } else {
-                //noinspection unchecked
-                elements.add(new Container(property, response));
+                includedResources.add(property, response);
             }
-        } else {
-            return Collections.emptySet();
         }
-        return elements;
     }
 
     private Set<ResourceField> getRelationshipFields(Object resource) {
@@ -0,0 +1,102 @@
+package io.katharsis.jackson.serializer;
+
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.response.BaseResponse;
+import io.katharsis.response.Container;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Accumulates resources of the <i>included</i> section of a response. A resource is identified by its type and id, so
+ * each type and id pair is included once regardless of the <i>equals</i> implementation of the resource classes, and
+ * resources of the primary data are not included at all. Resources without an id are identified by their identity.
+ * Resources are kept in the order they were first added. Only the type and id of a primary resource are kept, so the
+ * primary data is not retained unless its resources lack an id.
+ */
+public final class IncludedResources {
+
+    private final ResourceRegistry resourceRegistry;
+    private final Set<ResourceKey> primaryResources = new HashSet<>();
+    private final Map<ResourceKey, Container> includedResources = new LinkedHashMap<>();
+
+    public IncludedResources(ResourceRegistry resourceRegistry) {
+        this.resourceRegistry = resourceRegistry;
+    }
+
+    /**
+     * Marks a resource as a part of the primary data, so it will not be included. If the resource has already been
+     * added as an included resource, it is removed.
+     *
+     * @param resource a resource of the primary data
+     */
+    public void addPrimaryResource(Object resource) {
+        ResourceKey key = createKey(resource);
+        primaryResources.add(key);
+        includedResources.remove(key);
+    }
+
+    /**
+     * Adds a resource if neither the resource nor another resource of the same type and id has been added yet.
+     * <i>null</i> is ignored.
+     *
+     * @param resource a resource to be included
+     * @param response the response the resource is included in
+     */
+    public void add(Object resource, BaseResponse response) {
+        if (resource == null) {
+            return;
+        }
+        ResourceKey key = createKey(resource);
+        if (!primaryResources.contains(key) && !includedResources.containsKey(key)) {
+            includedResources.put(key, new Container(resource, response));
+        }
+    }
+
+    /**
+     * @return containers of the included resources in the order of addition
+     */
+    public Collection<Container> getContainers() {
+        return includedResources.values();
+    }
+
+    private ResourceKey createKey(Object resource) {
+        Class<?> resourceClass = resource.getClass();
+        String resourceType = resourceRegistry.getResourceType(resourceClass);
+        Object id = resourceRegistry.getEntry(resourceClass).getResourceInformation().getIdField().getValue(resource);
+        return id != null ? new ResourceKey(resourceType, id.toString(), null)
+            : new ResourceKey(resourceType, null, resource);
+    }
+
+    private static final class ResourceKey {
+        private final String type;
+        private final String id;
+        private final Object resource;
+
+        private ResourceKey(String type, String id, Object resource) {
+            this.type = type;
+            this.id = id;
+            this.resource = resource;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ResourceKey that = (ResourceKey) o;
+            if (!Objects.equals(type, that.type)) {
+                return false;
+            }
+            return id != null ? id.equals(that.id) : that.id == null && resource == that.resource;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(type) + (id != null ? id.hashCode() : System.identityHashCode(resource));
+        }
+    }
+}
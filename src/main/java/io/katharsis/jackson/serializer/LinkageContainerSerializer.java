@@ -1,12 +1,13 @@
 package io.katharsis.jackson.serializer;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.LinkageContainer;
-import io.katharsis.utils.BeanUtils;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
@@ -18,13 +19,20 @@ import java.lang.reflect.InvocationTargetException;
  */
 public class LinkageContainerSerializer extends JsonSerializer<LinkageContainer> {
 
-    private static final String TYPE_FIELD_NAME = "type";
-    private static final String ID_FIELD_NAME = "id";
+    private static final SerializableString TYPE_FIELD_NAME = new SerializedString("type");
+    private static final SerializableString ID_FIELD_NAME = new SerializedString("id");
 
-    private final ResourceRegistry resourceRegistry;
+    private final SerializationPlans serializationPlans;
 
     public LinkageContainerSerializer(ResourceRegistry resourceRegistry) {
-        this.resourceRegistry = resourceRegistry;
+        this(new SerializationPlans(resourceRegistry));
+    }
+
+    /**
+     * @param serializationPlans plans of the resource classes shared by the serializers of a module
+     */
+    public LinkageContainerSerializer(SerializationPlans serializationPlans) {
+        this.serializationPlans = serializationPlans;
     }
 
     @Override
@@ -40,15 +48,25 @@ public class LinkageContainerSerializer extends JsonSerializer<LinkageContainer>
     }
 
     private void writeType(JsonGenerator gen, Class<?> relationshipClass) throws IOException {
-        String resourceType = resourceRegistry.getResourceType(relationshipClass);
-        gen.writeObjectField(TYPE_FIELD_NAME, resourceType);
+        SerializableString resourceType = serializationPlans.getSerializedResourceType(relationshipClass);
+        gen.writeFieldName(TYPE_FIELD_NAME);
+        if (resourceType != null) {
+            gen.writeString(resourceType);
+        } else {
+            gen.writeNull();
+        }
     }
 
     private void writeId(JsonGenerator gen, LinkageContainer linkageContainer)
             throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, IOException {
         ResourceField idField = linkageContainer.getRelationshipEntry().getResourceInformation().getIdField();
-        String sourceId = BeanUtils.getProperty(linkageContainer.getObjectItem(), idField.getUnderlyingName());
-        gen.writeObjectField(ID_FIELD_NAME, sourceId);
+        Object sourceId = idField.getValue(linkageContainer.getObjectItem());
+        gen.writeFieldName(ID_FIELD_NAME);
+        if (sourceId != null) {
+            gen.writeString(String.valueOf(sourceId));
+        } else {
+            gen.writeNull();
+        }
     }
 
     public Class<LinkageContainer> handledType() {
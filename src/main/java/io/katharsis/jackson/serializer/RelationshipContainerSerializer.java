@@ -1,17 +1,17 @@
 package io.katharsis.jackson.serializer;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import io.katharsis.jackson.exception.JsonSerializationException;
-import io.katharsis.request.path.PathBuilder;
 import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.LinkageContainer;
 import io.katharsis.response.RelationshipContainer;
 import io.katharsis.utils.Generics;
-import io.katharsis.utils.PropertyUtils;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
@@ -24,50 +24,56 @@ import java.lang.reflect.InvocationTargetException;
  */
 public class RelationshipContainerSerializer extends JsonSerializer<RelationshipContainer> {
 
-    private static final String SELF_FIELD_NAME = "self";
-    private static final String RELATED_FIELD_NAME = "related";
-    private static final String DATA_FIELD_NAME = "data";
-    private static final String LINKS_FIELD_NAME = "links";
+    private static final SerializableString SELF_FIELD_NAME = new SerializedString("self");
+    private static final SerializableString RELATED_FIELD_NAME = new SerializedString("related");
+    private static final SerializableString DATA_FIELD_NAME = new SerializedString("data");
+    private static final SerializableString LINKS_FIELD_NAME = new SerializedString("links");
 
     private final ResourceRegistry resourceRegistry;
+    private final SerializationPlans serializationPlans;
 
     public RelationshipContainerSerializer(ResourceRegistry resourceRegistry) {
+        this(resourceRegistry, new SerializationPlans(resourceRegistry));
+    }
+
+    /**
+     * @param resourceRegistry   registry of the resources
+     * @param serializationPlans plans of the resource classes shared by the serializers of a module
+     */
+    public RelationshipContainerSerializer(ResourceRegistry resourceRegistry, SerializationPlans serializationPlans) {
         this.resourceRegistry = resourceRegistry;
+        this.serializationPlans = serializationPlans;
     }
 
     @Override
     public void serialize(RelationshipContainer relationshipContainer, JsonGenerator gen, SerializerProvider provider)
         throws IOException {
         gen.writeStartObject();
-        writeLinks(relationshipContainer, gen);
+        writeLinks(relationshipContainer, gen, provider);
         if (!relationshipContainer.getRelationshipField().isLazy()) {
             writeLinkage(relationshipContainer, gen);
         }
         gen.writeEndObject();
     }
 
-    private void writeLinks(RelationshipContainer relationshipContainer, JsonGenerator gen) throws IOException {
+    private void writeLinks(RelationshipContainer relationshipContainer, JsonGenerator gen,
+                            SerializerProvider provider) throws IOException {
+        Object data = relationshipContainer.getDataLinksContainer().getData();
+        ResourceLinkTemplate linkTemplate = serializationPlans.getResourcePlans(data.getClass())
+            .getAllFieldsPlan()
+            .getLinkTemplate();
+        String sourceId = linkTemplate.getId(data);
+        String relationshipName = relationshipContainer.getRelationshipField().getJsonName();
+
         gen.writeFieldName(LINKS_FIELD_NAME);
         gen.writeStartObject();
-        writeLink(relationshipContainer, gen, SELF_FIELD_NAME, true);
-        writeLink(relationshipContainer, gen, RELATED_FIELD_NAME, false);
+        gen.writeFieldName(SELF_FIELD_NAME);
+        linkTemplate.writeRelationshipSelfLink(gen, provider, sourceId, relationshipName);
+        gen.writeFieldName(RELATED_FIELD_NAME);
+        linkTemplate.writeRelationshipRelatedLink(gen, provider, sourceId, relationshipName);
         gen.writeEndObject();
     }
 
-    private void writeLink(RelationshipContainer relationshipContainer, JsonGenerator gen, String fieldName,
-                           boolean addLinks) throws IOException {
-        Object data = relationshipContainer.getDataLinksContainer().getData();
-        Class<?> sourceClass = data.getClass();
-        String resourceUrl = resourceRegistry.getResourceUrl(sourceClass);
-        RegistryEntry entry = resourceRegistry.getEntry(sourceClass);
-        ResourceField idField = entry.getResourceInformation().getIdField();
-
-        Object sourceId = PropertyUtils.getProperty(data, idField.getUnderlyingName());
-        String url = resourceUrl + "/" + sourceId + (addLinks ? "/" + PathBuilder.RELATIONSHIP_MARK + "/" : "/")
-            + relationshipContainer.getRelationshipField().getJsonName();
-        gen.writeStringField(fieldName, url);
-    }
-
     /**
      * Here it is needed to check actual generic type of a class. To achieve that {@code Class::getType} method cannot
      * be used because of type erasure.
@@ -104,8 +110,7 @@ public class RelationshipContainerSerializer extends JsonSerializer<Relationship
                                     Class relationshipClass, RegistryEntry relationshipEntry)
         throws IOException, IllegalAccessException, NoSuchMethodException, InvocationTargetException {
         ResourceField relationshipField = relationshipContainer.getRelationshipField();
-        Object targetDataObj = PropertyUtils
-            .getProperty(relationshipContainer.getDataLinksContainer().getData(), relationshipField.getUnderlyingName());
+        Object targetDataObj = relationshipField.getValue(relationshipContainer.getDataLinksContainer().getData());
 
         gen.writeStartArray();
         if (targetDataObj != null) {
@@ -120,7 +125,7 @@ public class RelationshipContainerSerializer extends JsonSerializer<Relationship
                                    Class<?> relationshipClass, RegistryEntry relationshipEntry)
         throws IOException, IllegalAccessException, NoSuchMethodException, InvocationTargetException {
         ResourceField relationshipField = relationshipContainer.getRelationshipField();
-        Object targetDataObj = PropertyUtils.getProperty(relationshipContainer.getDataLinksContainer().getData(), relationshipField.getUnderlyingName());
+        Object targetDataObj = relationshipField.getValue(relationshipContainer.getDataLinksContainer().getData());
         if (targetDataObj == null) {
             gen.writeObject(null);
         } else {
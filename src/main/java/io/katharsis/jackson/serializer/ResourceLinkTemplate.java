@@ -0,0 +1,117 @@
+package io.katharsis.jackson.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import io.katharsis.request.path.PathBuilder;
+import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.registry.ResourceRegistry;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Links of a resource class split into the parts known before serialization, that is the resource URL and the
+ * suffixes of relationship links, and the id of a resource. A link is assembled in a character buffer reused for the
+ * duration of a serialization call and written to the generator from the buffer, so no intermediate strings are built.
+ */
+final class ResourceLinkTemplate {
+
+    /**
+     * Key of the per-call attribute holding the link buffer.
+     */
+    private static final Object BUFFER_ATTRIBUTE = new Object();
+    private static final int MIN_BUFFER_LENGTH = 128;
+
+    private final char[] resourceUrl;
+    private final ResourceField idField;
+    private final Map<String, RelationshipLinks> relationshipLinks;
+
+    private ResourceLinkTemplate(String resourceUrl, ResourceField idField,
+                                 Map<String, RelationshipLinks> relationshipLinks) {
+        this.resourceUrl = (resourceUrl + "/").toCharArray();
+        this.idField = idField;
+        this.relationshipLinks = relationshipLinks;
+    }
+
+    /**
+     * @param resourceRegistry registry containing the resource
+     * @param resourceClass    class of a resource, a subclass or a proxy of a registered resource
+     * @return template of the resource links
+     */
+    static ResourceLinkTemplate of(ResourceRegistry resourceRegistry, Class<?> resourceClass) {
+        ResourceInformation resourceInformation = resourceRegistry.getEntry(resourceClass).getResourceInformation();
+        Map<String, RelationshipLinks> relationshipLinks = new HashMap<>();
+        for (ResourceField relationshipField : resourceInformation.getRelationshipFields()) {
+            String jsonName = relationshipField.getJsonName();
+            relationshipLinks.put(jsonName, new RelationshipLinks(jsonName));
+        }
+        return new ResourceLinkTemplate(resourceRegistry.getResourceUrl(resourceClass),
+            resourceInformation.getIdField(), relationshipLinks);
+    }
+
+    /**
+     * @param resource a resource of the template class
+     * @return the id of the resource as used in the links, <i>null</i> if the resource has no id
+     */
+    String getId(Object resource) {
+        Object id = idField.getValue(resource);
+        return id != null ? id.toString() : null;
+    }
+
+    void writeSelfLink(JsonGenerator gen, SerializerProvider serializers, String id) throws IOException {
+        writeLink(gen, serializers, id, null);
+    }
+
+    void writeRelationshipSelfLink(JsonGenerator gen, SerializerProvider serializers, String id, String relationshipName)
+        throws IOException {
+        writeLink(gen, serializers, id, getRelationshipLinks(relationshipName).selfSuffix);
+    }
+
+    void writeRelationshipRelatedLink(JsonGenerator gen, SerializerProvider serializers, String id,
+                                      String relationshipName) throws IOException {
+        writeLink(gen, serializers, id, getRelationshipLinks(relationshipName).relatedSuffix);
+    }
+
+    private RelationshipLinks getRelationshipLinks(String relationshipName) {
+        RelationshipLinks links = relationshipLinks.get(relationshipName);
+        return links != null ? links : new RelationshipLinks(relationshipName);
+    }
+
+    private void writeLink(JsonGenerator gen, SerializerProvider serializers, String resourceId, char[] suffix)
+        throws IOException {
+        String id = String.valueOf(resourceId);
+        int suffixLength = suffix != null ? suffix.length : 0;
+        int length = resourceUrl.length + id.length() + suffixLength;
+        char[] buffer = getBuffer(serializers, length);
+        System.arraycopy(resourceUrl, 0, buffer, 0, resourceUrl.length);
+        id.getChars(0, id.length(), buffer, resourceUrl.length);
+        if (suffix != null) {
+            System.arraycopy(suffix, 0, buffer, length - suffixLength, suffixLength);
+        }
+        gen.writeString(buffer, 0, length);
+    }
+
+    private static char[] getBuffer(SerializerProvider serializers, int length) {
+        char[] buffer = (char[]) serializers.getAttribute(BUFFER_ATTRIBUTE);
+        if (buffer == null || buffer.length < length) {
+            buffer = new char[Math.max(length, MIN_BUFFER_LENGTH)];
+            serializers.setAttribute(BUFFER_ATTRIBUTE, buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * Suffixes of the links of a relationship to be appended after the id.
+     */
+    private static final class RelationshipLinks {
+        private final char[] selfSuffix;
+        private final char[] relatedSuffix;
+
+        private RelationshipLinks(String relationshipName) {
+            this.selfSuffix = ("/" + PathBuilder.RELATIONSHIP_MARK + "/" + relationshipName).toCharArray();
+            this.relatedSuffix = ("/" + relationshipName).toCharArray();
+        }
+    }
+}
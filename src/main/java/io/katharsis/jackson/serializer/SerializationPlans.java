@@ -0,0 +1,81 @@
+package io.katharsis.jackson.serializer;
+
+import com.fasterxml.jackson.core.SerializableString;
+import io.katharsis.resource.registry.ResourceRegistry;
+
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Serialization plans of the resource classes of a registry, shared by the serializers of a module. Plans of the
+ * registered resource classes are built when the plans are created, plans of their subclasses and proxies are built
+ * on the first serialization of such a class. The cache is owned by the module, so it is released together with the
+ * registry.
+ */
+public final class SerializationPlans {
+
+    private final ResourceRegistry resourceRegistry;
+    private final ConcurrentMap<Class<?>, ResourcePlans> resourcePlans = new ConcurrentHashMap<>();
+
+    /**
+     * @param resourceRegistry initialized registry with all of the resources
+     */
+    public SerializationPlans(ResourceRegistry resourceRegistry) {
+        this.resourceRegistry = resourceRegistry;
+        for (Class<?> resourceClass : resourceRegistry.getResources().keySet()) {
+            resourcePlans.put(resourceClass, new ResourcePlans(ContainerSerializationPlan.of(resourceRegistry,
+                resourceClass)));
+        }
+    }
+
+    /**
+     * @param resourceClass class of a resource, a subclass or a proxy of a registered resource
+     * @return plans of the class
+     */
+    ResourcePlans getResourcePlans(Class<?> resourceClass) {
+        ResourcePlans plans = resourcePlans.get(resourceClass);
+        if (plans == null) {
+            plans = new ResourcePlans(ContainerSerializationPlan.of(resourceRegistry, resourceClass));
+            ResourcePlans existingPlans = resourcePlans.putIfAbsent(resourceClass, plans);
+            if (existingPlans != null) {
+                plans = existingPlans;
+            }
+        }
+        return plans;
+    }
+
+    /**
+     * @param resourceClass any class
+     * @return the encoded resource type of the class, <i>null</i> if the class is not a resource
+     */
+    SerializableString getSerializedResourceType(Class<?> resourceClass) {
+        ResourcePlans plans = resourcePlans.get(resourceClass);
+        if (plans == null && resourceRegistry.getResourceType(resourceClass) == null) {
+            return null;
+        }
+        return (plans != null ? plans : getResourcePlans(resourceClass)).getAllFieldsPlan().getSerializedResourceType();
+    }
+
+    /**
+     * A plan writing all fields of a resource class and a plan writing none of them, used when sparse fieldsets are
+     * requested only for other types.
+     */
+    static final class ResourcePlans {
+        private final ContainerSerializationPlan allFieldsPlan;
+        private final ContainerSerializationPlan noFieldsPlan;
+
+        private ResourcePlans(ContainerSerializationPlan allFieldsPlan) {
+            this.allFieldsPlan = allFieldsPlan;
+            this.noFieldsPlan = allFieldsPlan.withIncludedFields(Collections.<String>emptySet());
+        }
+
+        ContainerSerializationPlan getAllFieldsPlan() {
+            return allFieldsPlan;
+        }
+
+        ContainerSerializationPlan getNoFieldsPlan() {
+            return noFieldsPlan;
+        }
+    }
+}
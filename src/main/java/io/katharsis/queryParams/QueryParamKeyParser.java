@@ -0,0 +1,61 @@
+package io.katharsis.queryParams;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses a key of a query parameter, e.g. <i>filter[tasks][name][$startWith]</i>, into a list of its bracketed
+ * elements. An element is a non-empty sequence of letters, digits, underscores and hyphens directly followed by a
+ * closing bracket, so the key above gives <i>tasks</i>, <i>name</i> and <i>startWith</i> while empty elements such as
+ * <i>[]</i> are skipped.
+ * <p>
+ * The key is processed in a single pass using a precomputed table of element characters. It accepts exactly the same
+ * elements as the <i>[\w-]+(?&lt;!\[)(?=\])</i> regular expression used before, without compiling a pattern for each
+ * parameter.
+ * </p>
+ */
+final class QueryParamKeyParser {
+
+    private static final boolean[] ELEMENT_CHARS = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            ELEMENT_CHARS[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            ELEMENT_CHARS[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            ELEMENT_CHARS[c] = true;
+        }
+        ELEMENT_CHARS['_'] = true;
+        ELEMENT_CHARS['-'] = true;
+    }
+
+    private QueryParamKeyParser() {
+    }
+
+    /**
+     * @param key        key of a query parameter
+     * @param beginIndex index of the first character to be parsed, used to skip a prefix of the key
+     * @return elements of the key, empty if there are none
+     */
+    static List<String> parse(String key, int beginIndex) {
+        List<String> elements = new ArrayList<>(4);
+        int elementStart = -1;
+        for (int i = beginIndex; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < ELEMENT_CHARS.length && ELEMENT_CHARS[c]) {
+                if (elementStart < 0) {
+                    elementStart = i;
+                }
+            } else {
+                if (c == ']' && elementStart >= 0) {
+                    elements.add(key.substring(elementStart, i));
+                }
+                elementStart = -1;
+            }
+        }
+        return elements;
+    }
+}
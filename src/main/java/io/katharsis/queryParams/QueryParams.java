@@ -7,8 +7,6 @@ import io.katharsis.resource.RestrictedQueryParamsMembers;
 import io.katharsis.utils.StringUtils;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Contains a set of parameters passed along with the request.
@@ -343,21 +341,11 @@ public class QueryParams {
     }
 
     private List<String> buildPropertyListFromEntry(Map.Entry<String, Set<String>> entry, String prefix) {
-        String entryKey = entry.getKey()
-            .substring(prefix.length());
-
-        String pattern = "[\\w-]+(?<!\\[)(?=\\])";
-        Pattern regexp = Pattern.compile(pattern);
-        Matcher matcher = regexp.matcher(entryKey);
-        List<String> matchList = new LinkedList<>();
-
-        while (matcher.find()) {
-            matchList.add(matcher.group());
-        }
-
+        List<String> matchList = QueryParamKeyParser.parse(entry.getKey(), prefix.length());
 
         if (matchList.size() < 1) {
-            throw new ParametersDeserializationException("Malformed filter parameter: " + entryKey);
+            throw new ParametersDeserializationException("Malformed filter parameter: " + entry.getKey()
+                .substring(prefix.length()));
         }
 
         return matchList;
@@ -0,0 +1,42 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.QueryParams;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * An optional interface that can be implemented along with {@link RelationshipRepository} to find targets of a
+ * relation for many sources at once. If a repository implements it, relationships marked with
+ * {@link io.katharsis.resource.annotations.JsonApiLookupIncludeAutomatically} are looked up with a single call for all
+ * resources at the same level of an inclusion path instead of a call for each of the resources. A repository defined
+ * with {@link io.katharsis.repository.annotations.JsonApiRelationshipRepository} can implement it as well, the bulk
+ * methods are called directly instead of through annotated methods.
+ *
+ * @param <T> source class type
+ * @param <T_ID> T class id type
+ * @param <D> target class type
+ * @param <D_ID> D class id type
+ */
+public interface BulkRelationshipRepository<T, T_ID extends Serializable, D, D_ID extends Serializable> {
+
+    /**
+     * Find relations' targets of many sources. It is used only for To-One relationship.
+     *
+     * @param sourceIds identifiers of sources
+     * @param fieldName name of target's filed
+     * @param queryParams parameters sent along with the request
+     * @return targets of the relations mapped by identifiers of the sources, a source without a target can be omitted
+     */
+    Map<T_ID, D> findBulkOneTargets(Iterable<T_ID> sourceIds, String fieldName, QueryParams queryParams);
+
+    /**
+     * Find relations' targets of many sources. It is used only for To-Many relationship.
+     *
+     * @param sourceIds identifiers of sources
+     * @param fieldName name of target's filed
+     * @param queryParams parameters sent along with the request
+     * @return targets of the relations mapped by identifiers of the sources, a source without targets can be omitted
+     */
+    Map<T_ID, Iterable<D>> findBulkManyTargets(Iterable<T_ID> sourceIds, String fieldName, QueryParams queryParams);
+}
@@ -22,7 +22,10 @@ public class ParametersFactory {
      * @param queryParams     {@link QueryParams} object associated with the request
      * @param annotationType  method annotation
      * @return array of resolved parameters
+     * @deprecated use the overload accepting a {@link RepositoryInvocationPlan}, which does not copy the parameter
+     * types on each call
      */
+    @Deprecated
     public Object[] buildParameters(Object[] firstParameters, Method method, QueryParams queryParams,
                                     Class<? extends Annotation> annotationType) {
         int parametersLength = method.getParameterTypes().length;
@@ -51,7 +54,10 @@ public class ParametersFactory {
      * @param method          repository method
      * @param annotationType  method annotation
      * @return array of resolved parameters
+     * @deprecated use the overload accepting a {@link RepositoryInvocationPlan}, which does not copy the parameter
+     * types on each call
      */
+    @Deprecated
     public Object[] buildParameters(Object[] firstParameters, Method method,
                                     Class<? extends Annotation> annotationType) {
         int parametersLength = method.getParameterTypes().length;
@@ -68,6 +74,56 @@ public class ParametersFactory {
         return concatenate(firstParameters, additionalParameters);
     }
 
+    /**
+     * Build a list of parameters that can be provided to a method using its precomputed invocation plan.
+     *
+     * @param firstParameters parameters to be returned as the firsts element in the return array
+     * @param invocationPlan  invocation plan of a repository method
+     * @param queryParams     {@link QueryParams} object associated with the request
+     * @param annotationType  method annotation
+     * @return array of resolved parameters
+     */
+    public Object[] buildParameters(Object[] firstParameters, RepositoryInvocationPlan invocationPlan,
+                                    QueryParams queryParams, Class<? extends Annotation> annotationType) {
+        return buildParameters(firstParameters, invocationPlan, true, queryParams, annotationType);
+    }
+
+    /**
+     * Build a list of parameters that can be provided to a method using its precomputed invocation plan.
+     *
+     * @param firstParameters parameters to be returned as the first elements in the return array
+     * @param invocationPlan  invocation plan of a repository method
+     * @param annotationType  method annotation
+     * @return array of resolved parameters
+     */
+    public Object[] buildParameters(Object[] firstParameters, RepositoryInvocationPlan invocationPlan,
+                                    Class<? extends Annotation> annotationType) {
+        return buildParameters(firstParameters, invocationPlan, false, null, annotationType);
+    }
+
+    private Object[] buildParameters(Object[] firstParameters, RepositoryInvocationPlan invocationPlan,
+                                     boolean resolveQueryParams, QueryParams queryParams,
+                                     Class<? extends Annotation> annotationType) {
+        int parametersLength = invocationPlan.getParameterCount();
+        if (firstParameters.length > 0 && parametersLength < 1) {
+            throw new RepositoryMethodException(
+                String.format("Method with %s annotation should have at least one parameter.", annotationType));
+        }
+        if (parametersLength == firstParameters.length) {
+            return firstParameters;
+        }
+        Object[] parameters = new Object[parametersLength];
+        System.arraycopy(firstParameters, 0, parameters, 0, firstParameters.length);
+        for (int i = firstParameters.length; i < parametersLength; i++) {
+            if (resolveQueryParams && invocationPlan.isQueryParamsParameter(i)) {
+                parameters[i] = queryParams;
+            } else {
+                parameters[i] = parameterProvider.provide(invocationPlan.getMethod(), i);
+            }
+        }
+        return parameters;
+    }
+
     /**
      * Source: https://stackoverflow.com/a/80503
      */
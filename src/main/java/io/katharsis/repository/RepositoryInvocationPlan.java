@@ -0,0 +1,108 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.utils.MethodHandleUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A compiled call of an annotated repository method. It is built once per method and consists of:
+ * <ul>
+ *     <li>a method handle accepting a repository instance and an array of arguments,</li>
+ *     <li>the number of the method parameters,</li>
+ *     <li>a flag for each parameter telling if it accepts {@link QueryParams}.</li>
+ * </ul>
+ * Thanks to that a call of a repository method requires neither reflective lookups nor copying of the parameter
+ * types. The arguments are resolved by {@link ParametersFactory}.
+ */
+public final class RepositoryInvocationPlan {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+    private final int parameterCount;
+    private final boolean[] queryParamsParameters;
+    private final MethodHandle invoker;
+
+    public RepositoryInvocationPlan(Method method) {
+        this.method = method;
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        this.parameterCount = parameterTypes.length;
+        this.queryParamsParameters = new boolean[parameterCount];
+        for (int i = 0; i < parameterCount; i++) {
+            queryParamsParameters[i] = QueryParams.class.equals(parameterTypes[i]);
+        }
+        this.invoker = createInvoker(method, parameterCount);
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * @param parameterIndex index of a parameter
+     * @return true if the parameter accepts {@link QueryParams}
+     */
+    public boolean isQueryParamsParameter(int parameterIndex) {
+        return queryParamsParameters[parameterIndex];
+    }
+
+    /**
+     * Invokes the method. An exception thrown by the method is rethrown as is if it is unchecked and wrapped into a
+     * {@link RuntimeException} otherwise.
+     *
+     * @param repository repository instance
+     * @param parameters method arguments, as many as the method parameters
+     * @param <T> type of a returned value
+     * @return value returned by the method
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke(Object repository, Object[] parameters) {
+        try {
+            if (invoker != null) {
+                return (T) (Object) invoker.invokeExact(repository, parameters);
+            }
+            return (T) method.invoke(repository, parameters);
+        } catch (InvocationTargetException e) {
+            throw propagate(e.getCause());
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    private static RuntimeException propagate(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        } else if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new RuntimeException(e);
+    }
+
+    /**
+     * Creates a handle of <i>(Object, Object[])Object</i> type. Static methods ignore the repository argument. If the
+     * method cannot be accessed using a method handle, <i>null</i> is returned and the method is invoked reflectively.
+     */
+    private static MethodHandle createInvoker(Method method, int parameterCount) {
+        MethodHandle handle = MethodHandleUtils.unreflect(method);
+        if (handle == null) {
+            return null;
+        }
+        handle = handle.asFixedArity();
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(MethodType.genericMethodType(parameterCount + 1))
+            .asSpreader(Object[].class, parameterCount)
+            .asType(INVOKER_TYPE);
+    }
+}
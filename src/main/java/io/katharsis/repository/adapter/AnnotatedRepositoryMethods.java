@@ -0,0 +1,81 @@
+package io.katharsis.repository.adapter;
+
+import io.katharsis.repository.RepositoryInvocationPlan;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Annotated methods of a repository class. The class hierarchy is scanned once per repository class and the result is
+ * shared by all adapters of the repository, so creating an adapter for a request does not require any method lookup.
+ * Each method is compiled into a {@link RepositoryInvocationPlan} when it is found.
+ * <p>
+ * For each annotation the first annotated method is used, searching from the repository class up to its ancestors in
+ * the same way as {@link io.katharsis.utils.ClassUtils#findMethodWith(Object, Class)}.
+ * </p>
+ */
+public final class AnnotatedRepositoryMethods {
+
+    private static final ClassValue<AnnotatedRepositoryMethods> REPOSITORY_METHODS =
+        new ClassValue<AnnotatedRepositoryMethods>() {
+            @Override
+            protected AnnotatedRepositoryMethods computeValue(Class<?> repositoryClass) {
+                return new AnnotatedRepositoryMethods(repositoryClass);
+            }
+        };
+
+    private final Map<Class<? extends Annotation>, RepositoryInvocationPlan> methods;
+
+    private AnnotatedRepositoryMethods(Class<?> repositoryClass) {
+        Map<Class<? extends Annotation>, RepositoryInvocationPlan> foundMethods = new HashMap<>();
+        Map<Method, RepositoryInvocationPlan> invocationPlans = new HashMap<>();
+        Class<?> currentClass = repositoryClass;
+        while (currentClass != null && currentClass != Object.class) {
+            for (Method method : currentClass.getDeclaredMethods()) {
+                for (Annotation annotation : method.getAnnotations()) {
+                    if (!foundMethods.containsKey(annotation.annotationType())) {
+                        RepositoryInvocationPlan invocationPlan = invocationPlans.get(method);
+                        if (invocationPlan == null) {
+                            invocationPlan = new RepositoryInvocationPlan(method);
+                            invocationPlans.put(method, invocationPlan);
+                        }
+                        foundMethods.put(annotation.annotationType(), invocationPlan);
+                    }
+                }
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+        this.methods = Collections.unmodifiableMap(foundMethods);
+    }
+
+    /**
+     * Returns annotated methods of a repository class. The methods are resolved on the first call and reused
+     * afterwards.
+     *
+     * @param repositoryClass class of a repository
+     * @return annotated methods of the class
+     */
+    public static AnnotatedRepositoryMethods of(Class<?> repositoryClass) {
+        return REPOSITORY_METHODS.get(repositoryClass);
+    }
+
+    /**
+     * @param annotationType type of a method annotation
+     * @return annotated method or <i>null</i> if there's no such method
+     */
+    public Method getMethod(Class<? extends Annotation> annotationType) {
+        RepositoryInvocationPlan invocationPlan = methods.get(annotationType);
+        return invocationPlan != null ? invocationPlan.getMethod() : null;
+    }
+
+    /**
+     * @param annotationType type of a method annotation
+     * @return invocation plan of the annotated method or <i>null</i> if there's no such method
+     */
+    public RepositoryInvocationPlan getInvocationPlan(Class<? extends Annotation> annotationType) {
+        return methods.get(annotationType);
+    }
+}
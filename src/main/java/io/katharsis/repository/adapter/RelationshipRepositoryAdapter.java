@@ -1,26 +1,19 @@
 package io.katharsis.repository.adapter;
 
 import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.BulkRelationshipRepository;
 import io.katharsis.repository.ParametersFactory;
+import io.katharsis.repository.RepositoryInvocationPlan;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.annotations.*;
-import io.katharsis.utils.ClassUtils;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.Map;
 
 public class RelationshipRepositoryAdapter<T, T_ID extends Serializable, D, D_ID extends Serializable>
     extends RepositoryAdapter<T>
-    implements RelationshipRepository<T, T_ID, D, D_ID> {
-
-    private Method setRelationMethod;
-    private Method setRelationsMethod;
-    private Method addRelationsMethod;
-    private Method removeRelationsMethod;
-    private Method findOneTargetMethod;
-    private Method findManyTargetsMethod;
+    implements RelationshipRepository<T, T_ID, D, D_ID>, BulkRelationshipRepository<T, T_ID, D, D_ID> {
 
     public RelationshipRepositoryAdapter(Object implementationObject, ParametersFactory parametersFactory) {
         super(implementationObject, parametersFactory);
@@ -29,54 +22,70 @@ public class RelationshipRepositoryAdapter<T, T_ID extends Serializable, D, D_ID
     @Override
     public void setRelation(T source, D_ID targetId, String fieldName) {
         Class<JsonApiSetRelation> annotationType = JsonApiSetRelation.class;
-        if (setRelationMethod == null) {
-            setRelationMethod = ClassUtils.findMethodWith(implementationObject, annotationType);
-        }
+        RepositoryInvocationPlan setRelationMethod = repositoryMethods.getInvocationPlan(annotationType);
         invokeOperation(setRelationMethod, annotationType, new Object[]{source, targetId, fieldName});
     }
 
     @Override
     public void setRelations(T source, Iterable<D_ID> targetIds, String fieldName) {
         Class<JsonApiSetRelations> annotationType = JsonApiSetRelations.class;
-        if (setRelationsMethod == null) {
-            setRelationsMethod = ClassUtils.findMethodWith(implementationObject, annotationType);
-        }
+        RepositoryInvocationPlan setRelationsMethod = repositoryMethods.getInvocationPlan(annotationType);
         invokeOperation(setRelationsMethod, annotationType, new Object[]{source, targetIds, fieldName});
     }
 
     @Override
     public void addRelations(T source, Iterable<D_ID> targetIds, String fieldName) {
         Class<JsonApiAddRelations> annotationType = JsonApiAddRelations.class;
-        if (addRelationsMethod == null) {
-            addRelationsMethod = ClassUtils.findMethodWith(implementationObject, annotationType);
-        }
+        RepositoryInvocationPlan addRelationsMethod = repositoryMethods.getInvocationPlan(annotationType);
         invokeOperation(addRelationsMethod, annotationType, new Object[]{source, targetIds, fieldName});
     }
 
     @Override
     public void removeRelations(T source, Iterable<D_ID> targetIds, String fieldName) {
         Class<JsonApiRemoveRelations> annotationType = JsonApiRemoveRelations.class;
-        if (removeRelationsMethod == null) {
-            removeRelationsMethod = ClassUtils.findMethodWith(implementationObject, annotationType);
-        }
+        RepositoryInvocationPlan removeRelationsMethod = repositoryMethods.getInvocationPlan(annotationType);
         invokeOperation(removeRelationsMethod, annotationType, new Object[]{source, targetIds, fieldName});
     }
 
     @Override
     public D findOneTarget(T_ID sourceId, String fieldName, QueryParams queryParams) {
         Class<JsonApiFindOneTarget> annotationType = JsonApiFindOneTarget.class;
-        if (findOneTargetMethod == null) {
-            findOneTargetMethod = ClassUtils.findMethodWith(implementationObject, annotationType);
-        }
+        RepositoryInvocationPlan findOneTargetMethod = repositoryMethods.getInvocationPlan(annotationType);
         return invokeOperation(findOneTargetMethod, annotationType, new Object[]{sourceId, fieldName}, queryParams);
     }
 
     @Override
     public Iterable<D> findManyTargets(T_ID sourceId, String fieldName, QueryParams queryParams) {
         Class<JsonApiFindManyTargets> annotationType = JsonApiFindManyTargets.class;
-        if (findManyTargetsMethod == null) {
-            findManyTargetsMethod = ClassUtils.findMethodWith(implementationObject, annotationType);
-        }
+        RepositoryInvocationPlan findManyTargetsMethod = repositoryMethods.getInvocationPlan(annotationType);
         return invokeOperation(findManyTargetsMethod, annotationType, new Object[]{sourceId, fieldName}, queryParams);
     }
+
+    /**
+     * @return true if the annotated repository also implements {@link BulkRelationshipRepository}
+     */
+    public boolean bulkRepositoryAvailable() {
+        return implementationObject instanceof BulkRelationshipRepository;
+    }
+
+    @Override
+    public Map<T_ID, D> findBulkOneTargets(Iterable<T_ID> sourceIds, String fieldName, QueryParams queryParams) {
+        return getBulkRepository().findBulkOneTargets(sourceIds, fieldName, queryParams);
+    }
+
+    @Override
+    public Map<T_ID, Iterable<D>> findBulkManyTargets(Iterable<T_ID> sourceIds, String fieldName,
+                                                      QueryParams queryParams) {
+        return getBulkRepository().findBulkManyTargets(sourceIds, fieldName, queryParams);
+    }
+
+    private BulkRelationshipRepository<T, T_ID, D, D_ID> getBulkRepository() {
+        if (!bulkRepositoryAvailable()) {
+            throw new UnsupportedOperationException(
+                String.format("Repository %s does not implement %s", implementationObject.getClass(),
+                    BulkRelationshipRepository.class.getSimpleName()));
+        }
+        //noinspection unchecked
+        return (BulkRelationshipRepository<T, T_ID, D, D_ID>) implementationObject;
+    }
 }
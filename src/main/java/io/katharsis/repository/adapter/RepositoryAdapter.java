@@ -4,106 +4,70 @@ import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.LinksRepository;
 import io.katharsis.repository.MetaRepository;
 import io.katharsis.repository.ParametersFactory;
+import io.katharsis.repository.RepositoryInvocationPlan;
 import io.katharsis.repository.annotations.JsonApiLinks;
 import io.katharsis.repository.annotations.JsonApiMeta;
 import io.katharsis.repository.exception.RepositoryAnnotationNotFoundException;
 import io.katharsis.response.LinksInformation;
 import io.katharsis.response.MetaInformation;
-import io.katharsis.utils.ClassUtils;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 
 public abstract class RepositoryAdapter<T> implements LinksRepository<T>, MetaRepository<T> {
 
     protected final Object implementationObject;
     protected final ParametersFactory parametersFactory;
-
-    private Method linksMethod;
-    private Method metaMethod;
+    protected final AnnotatedRepositoryMethods repositoryMethods;
 
     public RepositoryAdapter(Object implementationObject, ParametersFactory parametersFactory) {
         this.implementationObject = implementationObject;
         this.parametersFactory = parametersFactory;
+        this.repositoryMethods = AnnotatedRepositoryMethods.of(implementationObject.getClass());
     }
 
     public boolean linksRepositoryAvailable() {
-        assignLinksMethod();
-        return linksMethod != null;
+        return repositoryMethods.getMethod(JsonApiLinks.class) != null;
     }
 
     @Override
     public LinksInformation getLinksInformation(Iterable<T> resources, QueryParams queryParams) {
         Class<JsonApiLinks> annotationType = JsonApiLinks.class;
-        assignLinksMethod();
-        checkIfNotNull(annotationType, linksMethod);
-
-        Object[] methodParameters = parametersFactory
-            .buildParameters(new Object[]{resources}, linksMethod, queryParams, annotationType);
-
-        return invoke(linksMethod, methodParameters);
-    }
-
-    private void assignLinksMethod() {
-        if (linksMethod == null) {
-            linksMethod = ClassUtils.findMethodWith(implementationObject, JsonApiLinks.class);
-        }
+        RepositoryInvocationPlan linksMethod = repositoryMethods.getInvocationPlan(annotationType);
+        return invokeOperation(linksMethod, annotationType, new Object[]{resources}, queryParams);
     }
 
     public boolean metaRepositoryAvailable() {
-        assignMetaMethod();
-        return metaMethod != null;
+        return repositoryMethods.getMethod(JsonApiMeta.class) != null;
     }
 
     @Override
     public MetaInformation getMetaInformation(Iterable<T> resources, QueryParams queryParams) {
         Class<JsonApiMeta> annotationType = JsonApiMeta.class;
-        assignMetaMethod();
-        checkIfNotNull(annotationType, metaMethod);
-
-        Object[] methodParameters = parametersFactory
-            .buildParameters(new Object[]{resources}, metaMethod, queryParams, annotationType);
-
-        return invoke(metaMethod, methodParameters);
-    }
-
-    private void assignMetaMethod() {
-        if (metaMethod == null) {
-            metaMethod = ClassUtils.findMethodWith(implementationObject, JsonApiMeta.class);
-        }
+        RepositoryInvocationPlan metaMethod = repositoryMethods.getInvocationPlan(annotationType);
+        return invokeOperation(metaMethod, annotationType, new Object[]{resources}, queryParams);
     }
 
-    protected void checkIfNotNull(Class<? extends Annotation> annotationClass, Method foundMethod) {
+    protected void checkIfNotNull(Class<? extends Annotation> annotationClass, Object foundMethod) {
         if (foundMethod == null) {
             throw new RepositoryAnnotationNotFoundException(
                 String.format("Annotation %s for class %s not found", annotationClass, implementationObject.getClass()));
         }
     }
 
-    protected <TYPE> TYPE invokeOperation(Method foundMethod, Class<? extends Annotation> annotationType,
-                                          Object[] firstParameters) {
+    protected <TYPE> TYPE invokeOperation(RepositoryInvocationPlan foundMethod,
+                                          Class<? extends Annotation> annotationType, Object[] firstParameters) {
         checkIfNotNull(annotationType, foundMethod);
         Object[] methodParameters = parametersFactory
             .buildParameters(firstParameters, foundMethod, annotationType);
-        return invoke(foundMethod, methodParameters);
+        return foundMethod.invoke(implementationObject, methodParameters);
     }
 
-    protected <TYPE> TYPE invokeOperation(Method foundMethod, Class<? extends Annotation> annotationType,
-                                          Object[] firstParameters, QueryParams queryParams) {
+    protected <TYPE> TYPE invokeOperation(RepositoryInvocationPlan foundMethod,
+                                          Class<? extends Annotation> annotationType, Object[] firstParameters,
+                                          QueryParams queryParams) {
         checkIfNotNull(annotationType, foundMethod);
         Object[] methodParameters = parametersFactory
             .buildParameters(firstParameters, foundMethod, queryParams, annotationType);
-        return invoke(foundMethod, methodParameters);
-    }
-
-    private <TYPE> TYPE invoke(Method method, Object... args) {
-        try {
-            return (TYPE) method.invoke(implementationObject, args);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        } catch (InvocationTargetException e) {
-            throw (RuntimeException) e.getCause();
-        }
+        return foundMethod.invoke(implementationObject, methodParameters);
     }
 }
@@ -1,9 +1,17 @@
 package io.katharsis.request.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.katharsis.jackson.deserializer.DataBodyDeserializer;
 import io.katharsis.jackson.deserializer.ResourceRelationshipsDeserializer;
+import io.katharsis.jackson.exception.ParametersDeserializationException;
 
+import java.io.IOException;
+
+@JsonDeserialize(using = DataBodyDeserializer.class)
 public class DataBody {
     private String id;
     private String type;
@@ -13,6 +21,9 @@ public class DataBody {
 
     private JsonNode attributes;
 
+    @JsonIgnore
+    private TokenBuffer attributesBuffer;
+
     public String getId() {
         return id;
     }
@@ -37,11 +48,40 @@ public class DataBody {
         this.relationships = relationships;
     }
 
+    /**
+     * Returns the attributes as a tree. If the attributes have been read into a buffer, the tree is built from the
+     * buffer on the first call.
+     *
+     * @return attributes or <i>null</i> if there are no attributes
+     */
     public JsonNode getAttributes() {
+        if (attributes == null && attributesBuffer != null) {
+            try (JsonParser parser = attributesBuffer.asParser()) {
+                attributes = parser.readValueAsTree();
+            } catch (IOException e) {
+                throw new ParametersDeserializationException("Attributes cannot be read: " + e.getMessage());
+            }
+        }
         return attributes;
     }
 
     public void setAttributes(JsonNode attributes) {
         this.attributes = attributes;
+        this.attributesBuffer = null;
+    }
+
+    /**
+     * @return tokens of the attributes as read from the request or <i>null</i> if the attributes have not been read
+     * from a request or have been replaced
+     */
+    @JsonIgnore
+    public TokenBuffer getAttributesBuffer() {
+        return attributesBuffer;
+    }
+
+    @JsonIgnore
+    public void setAttributesBuffer(TokenBuffer attributesBuffer) {
+        this.attributesBuffer = attributesBuffer;
+        this.attributes = null;
     }
 }
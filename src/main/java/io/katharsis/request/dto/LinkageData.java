@@ -1,5 +1,9 @@
 package io.katharsis.request.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.katharsis.jackson.deserializer.LinkageDataDeserializer;
+
+@JsonDeserialize(using = LinkageDataDeserializer.class)
 public class LinkageData {
     private String type;
     private String id;
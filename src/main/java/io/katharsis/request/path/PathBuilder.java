@@ -9,18 +9,46 @@ import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.utils.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Builder responsible for parsing URL path.
+ * <p>
+ * A path is split into elements in a single pass without using regular expressions. The elements are then matched
+ * against the resource registry to build a template of the path, that is a list of the path's resources and fields
+ * without the ids. Optionally, the templates can be cached, so a path of the same shape as one parsed before, e.g.
+ * <i>/tasks/2/project</i> after <i>/tasks/1/project</i>, is not matched against the registry again. The number of
+ * cached templates is bounded, a template of a path exceeding the limit is built on each request.
+ * </p>
  */
 public class PathBuilder {
     public static final String SEPARATOR = "/";
     public static final String RELATIONSHIP_MARK = "relationships";
 
+    private static final char SEPARATOR_CHAR = '/';
+    private static final char ID_SEPARATOR_CHAR = ',';
+    private static final String IDS_PLACEHOLDER = "{ids}";
+
     private final ResourceRegistry resourceRegistry;
+    private final ConcurrentMap<String, PathTemplate> templates;
+    private final int maxCachedTemplates;
 
     public PathBuilder(ResourceRegistry resourceRegistry) {
+        this(resourceRegistry, 0);
+    }
+
+    /**
+     * @param resourceRegistry   registry used to match path elements
+     * @param maxCachedTemplates maximum number of cached path templates, <i>0</i> disables caching
+     */
+    public PathBuilder(ResourceRegistry resourceRegistry, int maxCachedTemplates) {
+        if (maxCachedTemplates < 0) {
+            throw new IllegalArgumentException("Maximum number of cached templates cannot be negative");
+        }
         this.resourceRegistry = resourceRegistry;
+        this.maxCachedTemplates = maxCachedTemplates;
+        this.templates = maxCachedTemplates > 0 ? new ConcurrentHashMap<String, PathTemplate>() : null;
     }
 
     /**
@@ -31,90 +59,142 @@ public class PathBuilder {
      * @return doubly-linked list which represents path given at the input
      */
     public JsonPath buildPath(String path) {
-        String[] strings = splitPath(path);
-        if (strings.length == 0 || (strings.length == 1 && "".equals(strings[0]))) {
+        List<String> elements = splitPath(path);
+        if (elements.isEmpty() || (elements.size() == 1 && "".equals(elements.get(0)))) {
             throw new ResourceException("Path is empty");
         }
 
-        JsonPath previousJsonPath = null, currentJsonPath = null;
-        PathIds pathIds;
+        // only the element following the first resource can contain ids
+        String idsString = null;
+        if (elements.size() > 1 && !RELATIONSHIP_MARK.equals(elements.get(0))
+            && !RELATIONSHIP_MARK.equals(elements.get(1))) {
+            idsString = elements.get(1);
+        }
+
+        PathTemplate template;
+        if (templates != null) {
+            String templateKey = buildTemplateKey(elements, idsString != null);
+            template = templates.get(templateKey);
+            if (template == null) {
+                template = buildTemplate(path, elements);
+                if (templates.size() < maxCachedTemplates) {
+                    templates.putIfAbsent(templateKey, template);
+                }
+            }
+        } else {
+            template = buildTemplate(path, elements);
+        }
+
+        return template.createPath(idsString != null ? createPathIds(idsString) : null);
+    }
+
+    private PathTemplate buildTemplate(String path, List<String> elements) {
+        List<PathTemplate.Element> templateElements = new ArrayList<>(elements.size());
+        PathTemplate.Element previousElement = null;
+        boolean hasIds = false;
         boolean relationshipMark;
         String elementName;
 
-        for (int currentElementIdx = 0; currentElementIdx < strings.length; ) {
+        for (int currentElementIdx = 0; currentElementIdx < elements.size(); ) {
             elementName = null;
-            pathIds = null;
+            boolean elementHasIds = false;
             relationshipMark = false;
 
-            if (RELATIONSHIP_MARK.equals(strings[currentElementIdx])) {
+            if (RELATIONSHIP_MARK.equals(elements.get(currentElementIdx))) {
                 relationshipMark = true;
                 currentElementIdx++;
             }
 
-            if (currentElementIdx < strings.length && !RELATIONSHIP_MARK.equals(strings[currentElementIdx])) {
-                elementName = strings[currentElementIdx];
+            if (currentElementIdx < elements.size() && !RELATIONSHIP_MARK.equals(elements.get(currentElementIdx))) {
+                elementName = elements.get(currentElementIdx);
                 currentElementIdx++;
             }
 
-            if (currentElementIdx < strings.length && !RELATIONSHIP_MARK.equals(strings[currentElementIdx])) {
-                pathIds = createPathIds(strings[currentElementIdx]);
+            if (currentElementIdx < elements.size() && !RELATIONSHIP_MARK.equals(elements.get(currentElementIdx))) {
+                elementHasIds = true;
                 currentElementIdx++;
             }
             RegistryEntry entry = resourceRegistry.getEntry(elementName);
-            if (previousJsonPath != null) {
-                currentJsonPath = getNonResourcePath(previousJsonPath, elementName, relationshipMark);
-                if (pathIds != null) {
+            PathTemplate.Element currentElement;
+            if (previousElement != null) {
+                currentElement = getNonResourceElement(previousElement, elementName, relationshipMark);
+                if (elementHasIds) {
                     throw new ResourceException("RelationshipsPath and FieldPath cannot contain ids");
                 }
             } else if (entry != null && !relationshipMark) {
-                currentJsonPath = new ResourcePath(elementName);
+                currentElement = new PathTemplate.Element(PathTemplate.ElementType.RESOURCE, elementName);
+                hasIds = elementHasIds;
             } else {
-                throw new ResourceNotFoundException(path);
+                throw new ResourceNotFoundException(path, false);
             }
 
-            if (pathIds != null) {
-                currentJsonPath.setIds(pathIds);
-            }
-            if (previousJsonPath != null) {
-                previousJsonPath.setChildResource(currentJsonPath);
-                currentJsonPath.setParentResource(previousJsonPath);
-            }
-            previousJsonPath = currentJsonPath;
+            templateElements.add(currentElement);
+            previousElement = currentElement;
         }
 
-        return currentJsonPath;
+        return new PathTemplate(templateElements, hasIds);
     }
 
-    private JsonPath getNonResourcePath(JsonPath previousJsonPath, String elementName, boolean relationshipMark) {
-        String previousElementName = previousJsonPath.getElementName();
-        RegistryEntry previousEntry = resourceRegistry.getEntry(previousElementName);
+    private PathTemplate.Element getNonResourceElement(PathTemplate.Element previousElement, String elementName,
+                                                       boolean relationshipMark) {
+        RegistryEntry previousEntry = resourceRegistry.getEntry(previousElement.name);
         Set<ResourceField> resourceFields = previousEntry.getResourceInformation().getRelationshipFields();
         for (ResourceField field : resourceFields) {
             if (field.getJsonName().equals(elementName)) {
                 if (relationshipMark) {
-                    return new RelationshipsPath(elementName);
+                    return new PathTemplate.Element(PathTemplate.ElementType.RELATIONSHIPS, elementName);
                 } else {
-                    return new FieldPath(elementName);
+                    return new PathTemplate.Element(PathTemplate.ElementType.FIELD, elementName);
                 }
             }
         }
         //TODO: Throw different exception? element name can be null..
-        throw new ResourceFieldNotFoundException(elementName);
+        throw new ResourceFieldNotFoundException(elementName, false);
+    }
+
+    private static String buildTemplateKey(List<String> elements, boolean hasIds) {
+        StringBuilder templateKey = new StringBuilder();
+        for (int i = 0; i < elements.size(); i++) {
+            if (i > 0) {
+                templateKey.append(SEPARATOR_CHAR);
+            }
+            templateKey.append(hasIds && i == 1 ? IDS_PLACEHOLDER : elements.get(i));
+        }
+        return templateKey.toString();
     }
 
-    private PathIds createPathIds(String idsString) {
-        List<String> pathIds = Arrays.asList(idsString.split(PathIds.ID_SEPERATOR));
-        return new PathIds(pathIds);
+    private static PathIds createPathIds(String idsString) {
+        return new PathIds(split(idsString, ID_SEPARATOR_CHAR, 0));
     }
 
-    private String[] splitPath(String path) {
-        if (path.startsWith(SEPARATOR)) {
-            path = path.substring(1);
+    private static List<String> splitPath(String path) {
+        int beginIndex = path.startsWith(SEPARATOR) ? 1 : 0;
+        return split(path, SEPARATOR_CHAR, beginIndex);
+    }
+
+    /**
+     * Splits a string around a separator in the same way as {@link String#split(String)} does, that is trailing empty
+     * strings are not included.
+     */
+    private static List<String> split(String value, char separator, int beginIndex) {
+        List<String> result = new ArrayList<>(4);
+        int length = value.length();
+        int elementStart = beginIndex;
+        int lastNonEmptySize = 0;
+        for (int i = beginIndex; i <= length; i++) {
+            if (i == length || value.charAt(i) == separator) {
+                result.add(value.substring(elementStart, i));
+                if (i > elementStart) {
+                    lastNonEmptySize = result.size();
+                }
+                elementStart = i + 1;
+            }
         }
-        if (path.endsWith(SEPARATOR)) {
-            path = path.substring(0, path.length());
+        if (result.size() == 1) {
+            // no separator found
+            return result;
         }
-        return path.split(SEPARATOR);
+        return result.subList(0, lastNonEmptySize);
     }
 
     /**
@@ -1,7 +1,7 @@
 package io.katharsis.request.path;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -10,14 +10,15 @@ import java.util.List;
 public class PathIds {
     public static final String ID_SEPERATOR = ",";
 
-    private final List<String> ids = new LinkedList<>();
+    private final List<String> ids;
 
     public PathIds(@SuppressWarnings("SameParameterValue") String id) {
+        ids = new ArrayList<>(1);
         ids.add(id);
     }
 
     public PathIds(Collection<String> id) {
-        ids.addAll(id);
+        ids = new ArrayList<>(id);
     }
 
     public List<String> getIds() {
@@ -0,0 +1,31 @@
+package io.katharsis.request.path;
+
+/**
+ * Classifies a {@link JsonPath} by the part of a resource it addresses, e.g. <i>/tasks</i> is a
+ * {@link PathKind#COLLECTION}, <i>/tasks/1</i> is a {@link PathKind#RESOURCE}, <i>/tasks/1/project</i> is a
+ * {@link PathKind#FIELD} and <i>/tasks/1/relationships/project</i> is a {@link PathKind#RELATIONSHIPS} path.
+ */
+public enum PathKind {
+    COLLECTION,
+    RESOURCE,
+    FIELD,
+    RELATIONSHIPS;
+
+    /**
+     * Returns a kind of the provided path.
+     *
+     * @param jsonPath path to be classified
+     * @return kind of the path or <i>null</i> if the path is a field or relationships path of many resources
+     */
+    public static PathKind of(JsonPath jsonPath) {
+        if (jsonPath instanceof FieldPath) {
+            if (jsonPath.isCollection()) {
+                return null;
+            }
+            return jsonPath instanceof RelationshipsPath ? RELATIONSHIPS : FIELD;
+        } else if (jsonPath instanceof ResourcePath) {
+            return jsonPath.isCollection() ? COLLECTION : RESOURCE;
+        }
+        return null;
+    }
+}
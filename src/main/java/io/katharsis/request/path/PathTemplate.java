@@ -0,0 +1,62 @@
+package io.katharsis.request.path;
+
+import java.util.List;
+
+/**
+ * Parsed and validated shape of a path, i.e. its resources and fields without the ids. A template is immutable and
+ * can be shared between requests, each call to {@link #createPath(PathIds)} builds a new {@link JsonPath} instance.
+ */
+final class PathTemplate {
+
+    enum ElementType {
+        RESOURCE,
+        FIELD,
+        RELATIONSHIPS
+    }
+
+    static final class Element {
+        final ElementType type;
+        final String name;
+
+        Element(ElementType type, String name) {
+            this.type = type;
+            this.name = name;
+        }
+    }
+
+    private final Element[] elements;
+    private final boolean hasIds;
+
+    PathTemplate(List<Element> elements, boolean hasIds) {
+        this.elements = elements.toArray(new Element[elements.size()]);
+        this.hasIds = hasIds;
+    }
+
+    /**
+     * Creates a path of the template's shape.
+     *
+     * @param pathIds ids of the first resource, ignored if the template has no ids
+     * @return the last element of the created path
+     */
+    JsonPath createPath(PathIds pathIds) {
+        JsonPath previousJsonPath = null, currentJsonPath = null;
+        for (Element element : elements) {
+            switch (element.type) {
+                case RESOURCE:
+                    currentJsonPath = new ResourcePath(element.name, hasIds ? pathIds : null);
+                    break;
+                case FIELD:
+                    currentJsonPath = new FieldPath(element.name);
+                    break;
+                default:
+                    currentJsonPath = new RelationshipsPath(element.name);
+            }
+            if (previousJsonPath != null) {
+                previousJsonPath.setChildResource(currentJsonPath);
+                currentJsonPath.setParentResource(previousJsonPath);
+            }
+            previousJsonPath = currentJsonPath;
+        }
+        return currentJsonPath;
+    }
+}
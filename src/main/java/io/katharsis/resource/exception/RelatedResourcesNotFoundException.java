@@ -0,0 +1,45 @@
+package io.katharsis.resource.exception;
+
+import io.katharsis.errorhandling.ErrorData;
+import io.katharsis.errorhandling.exception.KatharsisMappableException;
+import io.katharsis.response.HttpStatus;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thrown when resources referenced by linkages of a relationship in a request body cannot be found. All missing ids
+ * of the relationship are reported in a single error.
+ */
+public class RelatedResourcesNotFoundException extends KatharsisMappableException {
+
+    private static final String TITLE = "Related resources not found";
+
+    /**
+     * @param relationshipName name of the relationship in the request body
+     * @param resourceType     type of the related resources
+     * @param ids              ids of the missing resources in the order of the request body
+     */
+    public RelatedResourcesNotFoundException(String relationshipName, String resourceType, List<String> ids) {
+        super(HttpStatus.NOT_FOUND_404, ErrorData.builder()
+                .setStatus(String.valueOf(HttpStatus.NOT_FOUND_404))
+                .setTitle(TITLE)
+                .setDetail(String.format("Resources of type %s not found: %s", resourceType, join(ids)))
+                .setSourcePointer("/data/relationships/" + relationshipName)
+                .setMeta(Collections.<String, Object>singletonMap("ids", ids))
+                .build(), false);
+    }
+
+    private static String join(Collection<String> ids) {
+        StringBuilder builder = new StringBuilder();
+        for (String id : ids) {
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append(id);
+        }
+        return builder.toString();
+    }
+}
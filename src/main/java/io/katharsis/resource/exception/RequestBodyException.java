@@ -10,11 +10,15 @@ public class RequestBodyException extends KatharsisMappableException {
     private static final String TITLE = "Request body error";
 
     public RequestBodyException(@SuppressWarnings("SameParameterValue") HttpMethod method, String resourceName, String details) {
+        this(method, resourceName, details, true);
+    }
+
+    public RequestBodyException(HttpMethod method, String resourceName, String details, boolean writableStackTrace) {
         super(HttpStatus.BAD_REQUEST_400, ErrorData.builder()
                 .setStatus(String.valueOf(HttpStatus.BAD_REQUEST_400))
                 .setTitle(TITLE)
                 .setDetail(String.format("Request body doesn't meet the requirements (%s), %s method, resource name %s",
                         details, method.name(), resourceName))
-                .build());
+                .build(), writableStackTrace);
     }
 }
@@ -10,11 +10,15 @@ public class RequestBodyNotFoundException extends KatharsisMappableException {
     private static final String TITLE = "Request body not found";
 
     public RequestBodyNotFoundException(HttpMethod method, String resourceName) {
+        this(method, resourceName, true);
+    }
+
+    public RequestBodyNotFoundException(HttpMethod method, String resourceName, boolean writableStackTrace) {
         super(HttpStatus.BAD_REQUEST_400, ErrorData.builder()
             .setStatus(String.valueOf(HttpStatus.BAD_REQUEST_400))
             .setTitle(TITLE)
             .setDetail("Request body not found, " + method.name() + " method, resource name " + resourceName)
-        .build());
+        .build(), writableStackTrace);
     }
 
 }
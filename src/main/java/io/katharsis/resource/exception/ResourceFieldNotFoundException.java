@@ -10,4 +10,12 @@ public final class ResourceFieldNotFoundException extends KatharsisMatchingExcep
     public ResourceFieldNotFoundException(String message) {
         super(message);
     }
+
+    /**
+     * @param message the detail message
+     * @param writableStackTrace if <i>false</i>, the stack trace is not captured
+     */
+    public ResourceFieldNotFoundException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
 }
@@ -10,4 +10,12 @@ public final class ResourceNotFoundException extends KatharsisMatchingException
     public ResourceNotFoundException(String path) {
         super(path);
     }
+
+    /**
+     * @param path path of the not found resource
+     * @param writableStackTrace if <i>false</i>, the stack trace is not captured
+     */
+    public ResourceNotFoundException(String path, boolean writableStackTrace) {
+        super(path, writableStackTrace);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,10 @@
 package io.katharsis.resource.field;
 
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import io.katharsis.resource.annotations.JsonApiToMany;
+import io.katharsis.utils.PropertyUtils;
+import io.katharsis.utils.accessor.PropertyAccessor;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -15,23 +19,48 @@ public class ResourceField {
     private final Type genericType;
     private List<Annotation> annotations;
 
+    /**
+     * Accessor bound to the resource class when the resource information is built. Can be <i>null</i> if a field has
+     * been created without a resource class, in which case values are accessed using {@link PropertyUtils}.
+     */
+    private final PropertyAccessor accessor;
+
+    /**
+     * JSON name encoded once, so serializers do not encode it each time the field is written.
+     */
+    private final SerializableString serializedJsonName;
+
     public ResourceField(@SuppressWarnings("SameParameterValue") String jsonName,
                          @SuppressWarnings("SameParameterValue") String underlyingName, Class<?> type, Type genericType) {
         this(jsonName, underlyingName, type, genericType, Collections.<Annotation>emptyList());
     }
 
     public ResourceField(String jsonName, String underlyingName, Class<?> type, Type genericType, List<Annotation> annotations) {
+        this(jsonName, underlyingName, type, genericType, annotations, null);
+    }
+
+    public ResourceField(String jsonName, String underlyingName, Class<?> type, Type genericType,
+                         List<Annotation> annotations, PropertyAccessor accessor) {
         this.jsonName = jsonName;
         this.underlyingName = underlyingName;
         this.type = type;
         this.genericType = genericType;
         this.annotations = annotations;
+        this.accessor = accessor;
+        this.serializedJsonName = jsonName != null ? new SerializedString(jsonName) : null;
     }
 
     public String getJsonName() {
         return jsonName;
     }
 
+    /**
+     * @return JSON name of the field to be passed to {@link com.fasterxml.jackson.core.JsonGenerator}
+     */
+    public SerializableString getSerializedJsonName() {
+        return serializedJsonName;
+    }
+
     public String getUnderlyingName() {
         return underlyingName;
     }
@@ -48,6 +77,37 @@ public class ResourceField {
         return annotations;
     }
 
+    public PropertyAccessor getAccessor() {
+        return accessor;
+    }
+
+    /**
+     * Reads a value of this field from a resource.
+     *
+     * @param resource resource instance
+     * @return value of the field
+     */
+    public Object getValue(Object resource) {
+        if (accessor != null) {
+            return accessor.getValue(resource);
+        }
+        return PropertyUtils.getProperty(resource, underlyingName);
+    }
+
+    /**
+     * Assigns a value of this field to a resource.
+     *
+     * @param resource resource instance
+     * @param value    value to be set
+     */
+    public void setValue(Object resource, Object value) {
+        if (accessor != null) {
+            accessor.setValue(resource, value);
+        } else {
+            PropertyUtils.setProperty(resource, underlyingName, value);
+        }
+    }
+
     public boolean isAnnotationPresent(Class<?> annotationClass) {
         for (Annotation annotation : annotations) {
             if (annotation.annotationType().equals(annotationClass)) {
@@ -4,55 +4,96 @@ import io.katharsis.queryParams.QueryParams;
 import io.katharsis.queryParams.include.Inclusion;
 import io.katharsis.queryParams.params.IncludedRelationsParams;
 import io.katharsis.queryParams.params.TypedParams;
+import io.katharsis.repository.BulkRelationshipRepository;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.repository.adapter.RelationshipRepositoryAdapter;
 import io.katharsis.repository.exception.RelationshipRepositoryNotFoundException;
 import io.katharsis.resource.annotations.JsonApiLookupIncludeAutomatically;
 import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
-import io.katharsis.utils.ClassUtils;
 import io.katharsis.utils.Generics;
-import io.katharsis.utils.PropertyUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.ParameterizedType;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
+/**
+ * Sets relationships requested to be included, loading the ones marked with
+ * {@link JsonApiLookupIncludeAutomatically} from relationship repositories. An inclusion path is processed level by
+ * level, so the relationships of all resources at the same level are loaded together. If a relationship repository
+ * implements {@link BulkRelationshipRepository}, the targets are found with a single call for all of the resources.
+ * <p>
+ * Optionally, the first relationships of inclusion paths can be loaded concurrently using a provided
+ * {@link Executor}. Different first relationships of the same resources are split into at most
+ * <i>maxConcurrentPaths</i> tasks, one of which is run by the calling thread, so no two tasks read or set the same
+ * field of the same resource. The rest of the paths can reach the same resources through different relationships, so
+ * they are resolved by the calling thread once all tasks are completed. This mode should be enabled only if the
+ * relationship repositories and the {@link RepositoryMethodParameterProvider} can be used from many threads.
+ * </p>
+ */
 public class IncludeLookupSetter {
     private static final transient Logger logger = LoggerFactory.getLogger(IncludeLookupSetter.class);
 
     private final ResourceRegistry resourceRegistry;
+    private final Executor executor;
+    private final int maxConcurrentPaths;
 
     public IncludeLookupSetter(ResourceRegistry resourceRegistry) {
+        this(resourceRegistry, null, 1);
+    }
+
+    /**
+     * @param resourceRegistry   registry of the resources
+     * @param executor           executor used to resolve inclusion paths concurrently, <i>null</i> resolves them
+     *                           sequentially
+     * @param maxConcurrentPaths maximum number of tasks resolving inclusion paths of a single request, including the
+     *                           calling thread
+     */
+    public IncludeLookupSetter(ResourceRegistry resourceRegistry, Executor executor, int maxConcurrentPaths) {
+        if (maxConcurrentPaths < 1) {
+            throw new IllegalArgumentException("Maximum number of concurrent paths must be positive");
+        }
         this.resourceRegistry = resourceRegistry;
+        this.executor = executor;
+        this.maxConcurrentPaths = maxConcurrentPaths;
     }
 
     public void setIncludedElements(String resourceName, Object resource, QueryParams queryParams,
                                     RepositoryMethodParameterProvider parameterProvider)
             throws InvocationTargetException, NoSuchMethodException, NoSuchFieldException, IllegalAccessException {
         if (resource != null && queryParams.getIncludedRelations() != null) {
-            if (Iterable.class.isAssignableFrom(resource.getClass())) {
-                for (Object target : (Iterable<?>) resource) {
-                    try {
-                        setIncludedElements(resourceName, target, queryParams, parameterProvider);
-                    } catch (InvocationTargetException | NoSuchMethodException | NoSuchFieldException | IllegalAccessException e) {
-                        logger.error("Error with spliterator", e);
+            IncludedRelationsParams includedRelationsParams = findInclusions(queryParams.getIncludedRelations(),
+                resourceName);
+            if (includedRelationsParams != null) {
+                List<Object> resources = new ArrayList<>();
+                addResources(resources, resource);
+                Map<String, List<List<String>>> pathsByRelationship = new LinkedHashMap<>();
+                for (Inclusion inclusion : includedRelationsParams.getParams()) {
+                    List<String> pathList = inclusion.getPathList();
+                    if (!pathList.isEmpty()) {
+                        List<List<String>> paths = pathsByRelationship.get(pathList.get(0));
+                        if (paths == null) {
+                            paths = new LinkedList<>();
+                            pathsByRelationship.put(pathList.get(0), paths);
+                        }
+                        paths.add(pathList);
                     }
                 }
-            } else {
-                IncludedRelationsParams includedRelationsParams = findInclusions(queryParams.getIncludedRelations(),
-                    resourceName);
-                if (includedRelationsParams != null) {
-                    for (Inclusion inclusion : includedRelationsParams.getParams()) {
-                        List<String> pathList = inclusion.getPathList();
-                        if (resource != null && !pathList.isEmpty()) {
-                            getElements(resource, pathList, queryParams, parameterProvider);
+
+                if (executor != null && maxConcurrentPaths > 1 && pathsByRelationship.size() > 1) {
+                    getElementsConcurrently(resources, pathsByRelationship, queryParams, parameterProvider);
+                } else {
+                    for (List<List<String>> paths : pathsByRelationship.values()) {
+                        for (List<String> pathList : paths) {
+                            getElements(resources, pathList, queryParams, parameterProvider);
                         }
                     }
                 }
@@ -60,6 +101,102 @@ public class IncludeLookupSetter {
         }
     }
 
+    /**
+     * Loads the first relationships of the paths concurrently, each relationship by a single task, and then resolves
+     * the rest of the paths in the calling thread starting from the resources reached by the first relationships.
+     */
+    private void getElementsConcurrently(List<Object> resources, Map<String, List<List<String>>> pathsByRelationship,
+                                         QueryParams queryParams,
+                                         RepositoryMethodParameterProvider parameterProvider) {
+        int taskCount = Math.min(maxConcurrentPaths, pathsByRelationship.size());
+        List<InclusionTask> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(new InclusionTask(resources, queryParams, parameterProvider));
+        }
+        int relationshipIdx = 0;
+        for (String relationshipName : pathsByRelationship.keySet()) {
+            tasks.get(relationshipIdx++ % taskCount).relationshipNames.add(relationshipName);
+        }
+
+        List<FutureTask<Void>> futures = new ArrayList<>(taskCount - 1);
+        for (int i = 1; i < taskCount; i++) {
+            FutureTask<Void> future = new FutureTask<>(tasks.get(i), null);
+            futures.add(future);
+            try {
+                executor.execute(future);
+            } catch (RejectedExecutionException e) {
+                logger.debug("Inclusion task rejected, resolving in the calling thread", e);
+                future.run();
+            }
+        }
+
+        RuntimeException failure = null;
+        try {
+            tasks.get(0).run();
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        for (FutureTask<Void> future : futures) {
+            try {
+                getUninterruptibly(future);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                        : new RuntimeException(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+
+        for (InclusionTask task : tasks) {
+            for (Map.Entry<String, List<Object>> nextResources : task.nextResources.entrySet()) {
+                for (List<String> pathList : pathsByRelationship.get(nextResources.getKey())) {
+                    getElements(nextResources.getValue(), pathList.subList(1, pathList.size()), queryParams,
+                        parameterProvider);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for a task to complete, so the resources are not modified after the inclusion is resolved. The interrupt
+     * status of the thread is restored afterwards.
+     */
+    private static void getUninterruptibly(FutureTask<Void> future) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    future.get();
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void addResources(List<Object> resources, Object resource) {
+        if (resource instanceof Iterable) {
+            for (Object element : (Iterable<?>) resource) {
+                if (element != null) {
+                    addResources(resources, element);
+                }
+            }
+        } else {
+            resources.add(resource);
+        }
+    }
+
     private IncludedRelationsParams findInclusions(TypedParams<IncludedRelationsParams> queryParams, String
         resourceName) {
         IncludedRelationsParams includedRelationsParams = null;
@@ -72,83 +209,202 @@ public class IncludeLookupSetter {
         return includedRelationsParams;
     }
 
-    private void getElements(Object resource, List<String> pathList, QueryParams queryParams,
-                             RepositoryMethodParameterProvider parameterProvider)
-            throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, NoSuchFieldException {
-        if (!pathList.isEmpty()) {
-            Field field = ClassUtils.findClassField(resource.getClass(), pathList.get(0));
+    private void getElements(List<Object> resources, List<String> pathList, QueryParams queryParams,
+                             RepositoryMethodParameterProvider parameterProvider) {
+        if (pathList.isEmpty() || resources.isEmpty()) {
+            return;
+        }
+
+        List<Object> nextResources = getNextElements(resources, pathList.get(0), queryParams, parameterProvider);
+        getElements(nextResources, pathList.subList(1, pathList.size()), queryParams, parameterProvider);
+    }
+
+    /**
+     * Sets a relationship of the resources, loading it if needed.
+     *
+     * @return distinct resources the relationship points to
+     */
+    private List<Object> getNextElements(List<Object> resources, String relationshipName, QueryParams queryParams,
+                                         RepositoryMethodParameterProvider parameterProvider) {
+        List<Object> nextResources = new ArrayList<>();
+        Set<Object> visitedResources = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        for (Map.Entry<Class<?>, List<Object>> resourcesOfClass : groupByClass(resources).entrySet()) {
+            RegistryEntry<?> rootEntry = resourceRegistry.findEntry(resourcesOfClass.getKey());
+            if (rootEntry == null) {
+                logger.debug("Skipping relationship {} of {}, which is not a resource", relationshipName,
+                    resourcesOfClass.getKey().getName());
+                continue;
+            }
+            ResourceField field = findRelationshipField(rootEntry, relationshipName);
             if (field == null) {
-                logger.warn("Error loading relationship, couldn't find field " + pathList.get(0));
-                return;
+                logger.warn("Error loading relationship, couldn't find field " + relationshipName);
+                continue;
             }
-            Object property = PropertyUtils.getProperty(resource, field.getName());
-            //attempt to load relationship if it's null
-            if (property == null && field.isAnnotationPresent(JsonApiLookupIncludeAutomatically.class)) {
+            //attempt to load relationships which are null
+            if (field.isAnnotationPresent(JsonApiLookupIncludeAutomatically.class)) {
                 try {
-                    property = loadRelationship(resource, field, queryParams, parameterProvider);
-                    PropertyUtils.setProperty(resource, field.getName(), property);
-                } catch( Exception e ) {
+                    loadRelationships(resourcesOfClass.getValue(), rootEntry, field, queryParams, parameterProvider);
+                } catch (Exception e) {
                     logger.error("Error loading relationship, couldn't automatically include", e);
                 }
             }
 
-            if (property != null) {
-                List<String> subPathList = pathList.subList(1, pathList.size());
-                if (Iterable.class.isAssignableFrom(property.getClass())) {
-                    for (Object o : ((Iterable) property)) {
-                        //noinspection unchecked
-                        getElements(o, subPathList, queryParams, parameterProvider);
+            for (Object resource : resourcesOfClass.getValue()) {
+                Object property = field.getValue(resource);
+                if (property instanceof Iterable) {
+                    for (Object element : (Iterable<?>) property) {
+                        addNextResource(nextResources, visitedResources, element);
                     }
                 } else {
-                    //noinspection unchecked
-                    getElements(property, subPathList, queryParams, parameterProvider);
+                    addNextResource(nextResources, visitedResources, property);
                 }
             }
         }
+        return nextResources;
     }
 
-    private Object loadRelationship(Object root, Field relationshipField, QueryParams queryParams,
-                                    RepositoryMethodParameterProvider parameterProvider) {
-        Class<?> resourceClass = getClassFromField(relationshipField);
-        RegistryEntry<?> rootEntry = resourceRegistry.getEntry(root.getClass());
-        RegistryEntry<?> registryEntry = resourceRegistry.getEntry(resourceClass);
+    private static Map<Class<?>, List<Object>> groupByClass(List<Object> resources) {
+        Map<Class<?>, List<Object>> resourcesByClass = new LinkedHashMap<>();
+        for (Object resource : resources) {
+            List<Object> resourcesOfClass = resourcesByClass.get(resource.getClass());
+            if (resourcesOfClass == null) {
+                resourcesOfClass = new ArrayList<>();
+                resourcesByClass.put(resource.getClass(), resourcesOfClass);
+            }
+            resourcesOfClass.add(resource);
+        }
+        return resourcesByClass;
+    }
 
-        if (rootEntry == null || registryEntry == null) {
-            return null;
+    private static void addNextResource(List<Object> nextResources, Set<Object> visitedResources, Object resource) {
+        if (resource != null && visitedResources.add(resource)) {
+            nextResources.add(resource);
         }
+    }
 
-        ResourceField rootIdField = rootEntry.getResourceInformation().getIdField();
-        Serializable castedResourceId = (Serializable) PropertyUtils.getProperty(root, rootIdField.getUnderlyingName());
+    private ResourceField findRelationshipField(RegistryEntry<?> entry, String fieldName) {
+        for (ResourceField field : entry.getResourceInformation().getRelationshipFields()) {
+            if (field.getUnderlyingName().equals(fieldName)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private void loadRelationships(List<Object> resources, RegistryEntry<?> rootEntry, ResourceField relationshipField,
+                                   QueryParams queryParams, RepositoryMethodParameterProvider parameterProvider) {
+        List<Object> sources = new ArrayList<>(resources.size());
+        for (Object resource : resources) {
+            if (relationshipField.getValue(resource) == null) {
+                sources.add(resource);
+            }
+        }
+        if (sources.isEmpty()) {
+            return;
+        }
 
         Class<?> baseRelationshipFieldClass = relationshipField.getType();
-        Class<?> relationshipFieldClass = Generics.getResourceClass(root.getClass(), resourceClass);
+        Class<?> relationshipFieldClass = Generics.getResourceClass(relationshipField.getGenericType(),
+            baseRelationshipFieldClass);
+        if (resourceRegistry.findEntry(relationshipFieldClass) == null) {
+            logger.debug("Relationship target {} is not a resource", relationshipFieldClass.getName());
+            return;
+        }
 
+        RelationshipRepository relationshipRepositoryForClass;
         try {
-            RelationshipRepository relationshipRepositoryForClass = rootEntry
+            relationshipRepositoryForClass = rootEntry
                 .getRelationshipRepositoryForClass(relationshipFieldClass, parameterProvider);
-            if (relationshipRepositoryForClass != null) {
-                if (Iterable.class.isAssignableFrom(baseRelationshipFieldClass)) {
-                    return relationshipRepositoryForClass.findManyTargets(castedResourceId, relationshipField.getName
-                        (), queryParams);
-                } else {
-                    return relationshipRepositoryForClass.findOneTarget(castedResourceId, relationshipField.getName(), queryParams);
-                }
-            }
         } catch (RelationshipRepositoryNotFoundException e) {
             logger.debug("Relationship is not defined", e);
+            return;
+        }
+        if (relationshipRepositoryForClass == null) {
+            return;
         }
 
-        return null;
-    }
+        ResourceField rootIdField = rootEntry.getResourceInformation().getIdField();
+        List<Serializable> sourceIds = new ArrayList<>(sources.size());
+        for (Object source : sources) {
+            sourceIds.add((Serializable) rootIdField.getValue(source));
+        }
 
-    private Class<?> getClassFromField(Field relationshipField) {
-        Class<?> resourceClass = null;
-        if (Iterable.class.isAssignableFrom(relationshipField.getType())) {
-            ParameterizedType stringListType = (ParameterizedType) relationshipField.getGenericType();
-            resourceClass = (Class<?>) stringListType.getActualTypeArguments()[0];
+        boolean toMany = Iterable.class.isAssignableFrom(baseRelationshipFieldClass);
+        String fieldName = relationshipField.getUnderlyingName();
+        if (isBulkRepository(relationshipRepositoryForClass)) {
+            BulkRelationshipRepository bulkRepository = (BulkRelationshipRepository) relationshipRepositoryForClass;
+            Map<?, ?> targets;
+            if (toMany) {
+                //noinspection unchecked
+                targets = bulkRepository.findBulkManyTargets(sourceIds, fieldName, queryParams);
+            } else {
+                //noinspection unchecked
+                targets = bulkRepository.findBulkOneTargets(sourceIds, fieldName, queryParams);
+            }
+            if (targets != null) {
+                for (int i = 0; i < sources.size(); i++) {
+                    Object target = targets.get(sourceIds.get(i));
+                    if (target != null) {
+                        relationshipField.setValue(sources.get(i), target);
+                    }
+                }
+            }
         } else {
-            resourceClass = relationshipField.getType();
+            for (int i = 0; i < sources.size(); i++) {
+                try {
+                    Object target;
+                    if (toMany) {
+                        //noinspection unchecked
+                        target = relationshipRepositoryForClass.findManyTargets(sourceIds.get(i), fieldName,
+                            queryParams);
+                    } else {
+                        //noinspection unchecked
+                        target = relationshipRepositoryForClass.findOneTarget(sourceIds.get(i), fieldName,
+                            queryParams);
+                    }
+                    relationshipField.setValue(sources.get(i), target);
+                } catch (Exception e) {
+                    logger.error("Error loading relationship, couldn't automatically include", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Annotated repositories are always wrapped in a {@link RelationshipRepositoryAdapter}, which supports bulk lookups
+     * only if the wrapped repository does.
+     */
+    private static boolean isBulkRepository(RelationshipRepository relationshipRepository) {
+        if (relationshipRepository instanceof RelationshipRepositoryAdapter) {
+            return ((RelationshipRepositoryAdapter) relationshipRepository).bulkRepositoryAvailable();
+        }
+        return relationshipRepository instanceof BulkRelationshipRepository;
+    }
+
+    /**
+     * Sets relationships of the root resources and keeps the resources they point to. The results are read after the
+     * task is completed.
+     */
+    private class InclusionTask implements Runnable {
+        private final List<Object> resources;
+        private final QueryParams queryParams;
+        private final RepositoryMethodParameterProvider parameterProvider;
+        private final List<String> relationshipNames = new ArrayList<>();
+        private final Map<String, List<Object>> nextResources = new LinkedHashMap<>();
+
+        private InclusionTask(List<Object> resources, QueryParams queryParams,
+                              RepositoryMethodParameterProvider parameterProvider) {
+            this.resources = resources;
+            this.queryParams = queryParams;
+            this.parameterProvider = parameterProvider;
+        }
+
+        @Override
+        public void run() {
+            for (String relationshipName : relationshipNames) {
+                nextResources.put(relationshipName,
+                    getNextElements(resources, relationshipName, queryParams, parameterProvider));
+            }
         }
-        return resourceClass;
     }
 }
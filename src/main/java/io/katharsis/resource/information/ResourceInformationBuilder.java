@@ -12,6 +12,7 @@ import io.katharsis.resource.field.ResourceFieldNameTransformer;
 import io.katharsis.resource.information.field.FieldOrderedComparator;
 import io.katharsis.resource.information.field.ResourceFieldWrapper;
 import io.katharsis.utils.ClassUtils;
+import io.katharsis.utils.accessor.BeanAccessor;
 import io.katharsis.utils.java.Optional;
 
 import java.lang.annotation.Annotation;
@@ -52,18 +53,20 @@ public final class ResourceInformationBuilder {
         List<Field> classFields = ClassUtils.getClassFields(resourceClass);
         List<Method> classGetters = ClassUtils.getClassGetters(resourceClass);
 
-        List<ResourceFieldWrapper> resourceClassFields = getFieldResourceFields(classFields);
-        List<ResourceFieldWrapper> resourceGetterFields = getGetterResourceFields(classGetters);
+        BeanAccessor beanAccessor = BeanAccessor.of(resourceClass);
+        List<ResourceFieldWrapper> resourceClassFields = getFieldResourceFields(classFields, beanAccessor);
+        List<ResourceFieldWrapper> resourceGetterFields = getGetterResourceFields(classGetters, beanAccessor);
         return getResourceFields(resourceClassFields, resourceGetterFields);
     }
 
-    private List<ResourceFieldWrapper> getFieldResourceFields(List<Field> classFields) {
+    private List<ResourceFieldWrapper> getFieldResourceFields(List<Field> classFields, BeanAccessor beanAccessor) {
         List<ResourceFieldWrapper> fieldWrappers = new ArrayList<>(classFields.size());
         for (Field field : classFields) {
             String jsonName = resourceFieldNameTransformer.getName(field);
             String underlyingName = field.getName();
             List<Annotation> annotations = Arrays.asList(field.getAnnotations());
-            ResourceField resourceField = new ResourceField(jsonName, underlyingName, field.getType(), field.getGenericType(), annotations);
+            ResourceField resourceField = new ResourceField(jsonName, underlyingName, field.getType(), field.getGenericType(),
+                annotations, beanAccessor.getAccessor(underlyingName));
             if (Modifier.isTransient(field.getModifiers()) ||
                 Modifier.isStatic(field.getModifiers())) {
                 fieldWrappers.add(new ResourceFieldWrapper(resourceField, true));
@@ -74,13 +77,14 @@ public final class ResourceInformationBuilder {
         return fieldWrappers;
     }
 
-    private List<ResourceFieldWrapper> getGetterResourceFields(List<Method> classGetters) {
+    private List<ResourceFieldWrapper> getGetterResourceFields(List<Method> classGetters, BeanAccessor beanAccessor) {
         List<ResourceFieldWrapper> fieldWrappers = new ArrayList<>(classGetters.size());
         for (Method getter : classGetters) {
             String jsonName = resourceFieldNameTransformer.getName(getter);
             String underlyingName = resourceFieldNameTransformer.getMethodName(getter);
             List<Annotation> annotations = Arrays.asList(getter.getAnnotations());
-            ResourceField resourceField = new ResourceField(jsonName, underlyingName, getter.getReturnType(), getter.getGenericReturnType(), annotations);
+            ResourceField resourceField = new ResourceField(jsonName, underlyingName, getter.getReturnType(), getter.getGenericReturnType(),
+                annotations, beanAccessor.getAccessor(underlyingName));
             if (Modifier.isStatic(getter.getModifiers())) {
                 fieldWrappers.add(new ResourceFieldWrapper(resourceField, true));
             } else {
@@ -138,7 +142,8 @@ public final class ResourceInformationBuilder {
         List<Annotation> annotations = new LinkedList<>(fromField.getAnnotations());
         annotations.addAll(fromMethod.getAnnotations());
 
-        return new ResourceField(fromField.getJsonName(), fromField.getUnderlyingName(), fromField.getType(), fromField.getGenericType(), annotations);
+        return new ResourceField(fromField.getJsonName(), fromField.getUnderlyingName(), fromField.getType(), fromField.getGenericType(),
+            annotations, fromField.getAccessor());
     }
 
     private <T> ResourceField getIdField(Class<T> resourceClass, List<ResourceField> classFields) {
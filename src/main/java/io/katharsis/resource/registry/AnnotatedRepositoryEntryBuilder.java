@@ -1,16 +1,12 @@
 package io.katharsis.resource.registry;
 
 import io.katharsis.locator.JsonServiceLocator;
-import io.katharsis.repository.annotations.JsonApiRelationshipRepository;
-import io.katharsis.repository.annotations.JsonApiResourceRepository;
 import io.katharsis.repository.exception.RepositoryInstanceNotFoundException;
 import io.katharsis.resource.registry.repository.AnnotatedRelationshipEntryBuilder;
 import io.katharsis.resource.registry.repository.AnnotatedResourceEntryBuilder;
 import io.katharsis.resource.registry.repository.RelationshipEntry;
 import io.katharsis.resource.registry.repository.ResourceEntry;
-import io.katharsis.utils.Predicate;
 
-import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
@@ -27,15 +23,10 @@ public class AnnotatedRepositoryEntryBuilder implements RepositoryEntryBuilder {
     }
 
     @Override
-    public ResourceEntry<?, ?> buildResourceRepository(ResourceLookup lookup, final Class<?> resourceClass) {
-        Predicate<Class<?>> classPredicate = new Predicate<Class<?>>() {
-            @Override
-            public boolean test(Class<?> clazz) {
-                return resourceClass.equals(clazz.getAnnotation(JsonApiResourceRepository.class).value());
-            }
-        };
-
-        List<Object> repositoryObjects = findRepositoryObject(lookup, classPredicate, JsonApiResourceRepository.class);
+    public ResourceEntry<?, ?> buildResourceRepository(ResourceLookup lookup, Class<?> resourceClass) {
+        List<Class<?>> repositoryClasses =
+            RepositoryClassIndex.of(lookup).getAnnotatedResourceRepositories(resourceClass);
+        List<Object> repositoryObjects = getRepositoryObjects(repositoryClasses);
         if (repositoryObjects.size() == 0) {
             return null;
         } else {
@@ -44,16 +35,10 @@ public class AnnotatedRepositoryEntryBuilder implements RepositoryEntryBuilder {
     }
 
     @Override
-    public List<RelationshipEntry<?, ?>> buildRelationshipRepositories(ResourceLookup lookup, final Class<?> resourceClass) {
-        Predicate<Class<?>> classPredicate = new Predicate<Class<?>>() {
-            @Override
-            public boolean test(Class<?> clazz) {
-                JsonApiRelationshipRepository annotation = clazz.getAnnotation(JsonApiRelationshipRepository.class);
-                return resourceClass.equals(annotation.source());
-            }
-        };
-
-        List<Object> repositoryObjects = findRepositoryObject(lookup, classPredicate, JsonApiRelationshipRepository.class);
+    public List<RelationshipEntry<?, ?>> buildRelationshipRepositories(ResourceLookup lookup, Class<?> resourceClass) {
+        List<Class<?>> repositoryClasses =
+            RepositoryClassIndex.of(lookup).getAnnotatedRelationshipRepositories(resourceClass);
+        List<Object> repositoryObjects = getRepositoryObjects(repositoryClasses);
         List<RelationshipEntry<?, ?>> relationshipEntries = new ArrayList<>(repositoryObjects.size());
         for (Object repositoryObject : repositoryObjects) {
             relationshipEntries.add(new AnnotatedRelationshipEntryBuilder<>(repositoryObject));
@@ -62,17 +47,15 @@ public class AnnotatedRepositoryEntryBuilder implements RepositoryEntryBuilder {
         return relationshipEntries;
     }
 
-    private List<Object> findRepositoryObject(ResourceLookup lookup, Predicate<Class<?>> classPredicate, Class<? extends Annotation> annotation) {
+    private List<Object> getRepositoryObjects(List<Class<?>> repositoryClasses) {
         List<Object> repositoryObjects = new LinkedList<>();
 
-        for (Class<?> clazz : lookup.getResourceRepositoryClasses()) {
-            if (clazz.isAnnotationPresent(annotation) && classPredicate.test(clazz)) {
-                Object instance = jsonServiceLocator.getInstance(clazz);
-                if (instance == null) {
-                    throw new RepositoryInstanceNotFoundException(clazz.getCanonicalName());
-                }
-                repositoryObjects.add(instance);
+        for (Class<?> clazz : repositoryClasses) {
+            Object instance = jsonServiceLocator.getInstance(clazz);
+            if (instance == null) {
+                throw new RepositoryInstanceNotFoundException(clazz.getCanonicalName());
             }
+            repositoryObjects.add(instance);
         }
         return repositoryObjects;
     }
@@ -9,12 +9,8 @@ import io.katharsis.resource.registry.repository.DirectResourceEntry;
 import io.katharsis.resource.registry.repository.RelationshipEntry;
 import io.katharsis.resource.registry.repository.ResourceEntry;
 
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
-
-import net.jodah.typetools.TypeResolver;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,11 +29,12 @@ public class DirectRepositoryEntryBuilder implements RepositoryEntryBuilder {
 
     @Override
     public ResourceEntry<?, ?> buildResourceRepository(ResourceLookup lookup, Class<?> resourceClass) {
-        Class<?> repoClass = getRepoClassType(lookup.getResourceRepositoryClasses(), resourceClass);
+        List<Class<?>> repoClasses = RepositoryClassIndex.of(lookup).getDirectResourceRepositories(resourceClass);
 
-        if (repoClass == null) {
+        if (repoClasses.isEmpty()) {
             return null;
         }
+        Class<?> repoClass = repoClasses.get(0);
         ResourceRepository<?, ?> repoInstance = (ResourceRepository<?, ?>) jsonServiceLocator.getInstance(repoClass);
         if (repoInstance == null) {
             throw new RepositoryInstanceNotFoundException(repoClass.getCanonicalName());
@@ -45,24 +42,10 @@ public class DirectRepositoryEntryBuilder implements RepositoryEntryBuilder {
         return new DirectResourceEntry<>(repoInstance);
     }
 
-    private Class<?> getRepoClassType(Set<Class<?>> repositoryClasses, Class<?> resourceClass) {
-        for (Class<?> repoClass : repositoryClasses) {
-            if (ResourceRepository.class.isAssignableFrom(repoClass)) {
-                Class<?>[] typeArgs = TypeResolver.resolveRawArguments(ResourceRepository.class, repoClass);
-                if (typeArgs[0] == resourceClass) {
-                    return repoClass;
-                }
-            }
-        }
-        return null;
-    }
-
     @Override
     public List<RelationshipEntry<?, ?>> buildRelationshipRepositories(ResourceLookup lookup, Class<?> resourceClass) {
-        Set<Class<?>> relationshipRepositoryClasses = lookup.getResourceRepositoryClasses();
-
-        Set<Class<?>> relationshipRepositories =
-            findRelationshipRepositories(resourceClass, relationshipRepositoryClasses);
+        List<Class<?>> relationshipRepositories =
+            RepositoryClassIndex.of(lookup).getDirectRelationshipRepositories(resourceClass);
 
         List<RelationshipEntry<?, ?>> relationshipEntries = new LinkedList<>();
         for (Class<?> relationshipRepositoryClass : relationshipRepositories) {
@@ -78,18 +61,4 @@ public class DirectRepositoryEntryBuilder implements RepositoryEntryBuilder {
         }
         return relationshipEntries;
     }
-
-    private Set<Class<?>> findRelationshipRepositories(Class resourceClass, Set<Class<?>> relationshipRepositoryClasses) {
-        Set<Class<?>> relationshipRepositories = new HashSet<>();
-        for (Class<?> repoClass : relationshipRepositoryClasses) {
-            if (RelationshipRepository.class.isAssignableFrom(repoClass)) {
-                Class<?>[] typeArgs = TypeResolver.resolveRawArguments(RelationshipRepository.class, repoClass);
-                if (typeArgs[0] == resourceClass) {
-                    relationshipRepositories.add(repoClass);
-                }
-            }
-        }
-
-        return relationshipRepositories;
-    }
 }
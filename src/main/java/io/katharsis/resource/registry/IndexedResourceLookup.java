@@ -0,0 +1,39 @@
+package io.katharsis.resource.registry;
+
+import io.katharsis.resource.registry.index.ClassIndex;
+
+import java.util.Set;
+
+/**
+ * Finds resources and repositories listed in the {@link ClassIndex} written at compile time, so no classpath scanning
+ * is performed. The classes must be compiled with Katharsis on the compilation classpath.
+ */
+public class IndexedResourceLookup implements ResourceLookup {
+
+    private final Set<Class<?>> resourceClasses;
+    private final Set<Class<?>> resourceRepositoryClasses;
+
+    /**
+     * @param packageName comma separated names of packages containing resources and repositories, <i>null</i> to
+     *                    accept all indexed classes
+     */
+    public IndexedResourceLookup(String packageName) {
+        this(packageName, ClassIndex.getDefaultClassLoader());
+    }
+
+    public IndexedResourceLookup(String packageName, ClassLoader classLoader) {
+        ClassIndex classIndex = new ClassIndex(packageName, classLoader);
+        resourceClasses = classIndex.getClasses(ClassIndex.RESOURCES);
+        resourceRepositoryClasses = classIndex.getClasses(ClassIndex.REPOSITORIES);
+    }
+
+    @Override
+    public Set<Class<?>> getResourceClasses() {
+        return resourceClasses;
+    }
+
+    @Override
+    public Set<Class<?>> getResourceRepositoryClasses() {
+        return resourceRepositoryClasses;
+    }
+}
@@ -0,0 +1,122 @@
+package io.katharsis.resource.registry;
+
+import io.katharsis.repository.RelationshipRepository;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.annotations.JsonApiRelationshipRepository;
+import io.katharsis.repository.annotations.JsonApiResourceRepository;
+import net.jodah.typetools.TypeResolver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link ResourceLookup} which resolves the resource class of each repository class once, so repositories of a
+ * resource are found with a map lookup instead of resolving generic types of all repositories for every resource.
+ * The classes returned by the underlying lookup are read once as well. The index is immutable and can be read
+ * concurrently.
+ */
+final class RepositoryClassIndex implements ResourceLookup {
+
+    private final Set<Class<?>> resourceClasses;
+    private final Set<Class<?>> resourceRepositoryClasses;
+    private final Map<Class<?>, List<Class<?>>> directResourceRepositories = new HashMap<>();
+    private final Map<Class<?>, List<Class<?>>> directRelationshipRepositories = new HashMap<>();
+    private final Map<Class<?>, List<Class<?>>> annotatedResourceRepositories = new HashMap<>();
+    private final Map<Class<?>, List<Class<?>>> annotatedRelationshipRepositories = new HashMap<>();
+
+    private RepositoryClassIndex(ResourceLookup lookup) {
+        resourceClasses = Collections.unmodifiableSet(new LinkedHashSet<>(lookup.getResourceClasses()));
+        resourceRepositoryClasses = Collections.unmodifiableSet(new LinkedHashSet<>(lookup.getResourceRepositoryClasses()));
+        for (Class<?> repoClass : resourceRepositoryClasses) {
+            if (ResourceRepository.class.isAssignableFrom(repoClass)) {
+                Class<?>[] typeArgs = TypeResolver.resolveRawArguments(ResourceRepository.class, repoClass);
+                add(directResourceRepositories, typeArgs[0], repoClass);
+            }
+            if (RelationshipRepository.class.isAssignableFrom(repoClass)) {
+                Class<?>[] typeArgs = TypeResolver.resolveRawArguments(RelationshipRepository.class, repoClass);
+                add(directRelationshipRepositories, typeArgs[0], repoClass);
+            }
+            JsonApiResourceRepository resourceRepository = repoClass.getAnnotation(JsonApiResourceRepository.class);
+            if (resourceRepository != null) {
+                add(annotatedResourceRepositories, resourceRepository.value(), repoClass);
+            }
+            JsonApiRelationshipRepository relationshipRepository =
+                repoClass.getAnnotation(JsonApiRelationshipRepository.class);
+            if (relationshipRepository != null) {
+                add(annotatedRelationshipRepositories, relationshipRepository.source(), repoClass);
+            }
+        }
+    }
+
+    /**
+     * @param lookup a lookup to be indexed
+     * @return the lookup itself if it is already an index, a new index otherwise
+     */
+    static RepositoryClassIndex of(ResourceLookup lookup) {
+        if (lookup instanceof RepositoryClassIndex) {
+            return (RepositoryClassIndex) lookup;
+        }
+        return new RepositoryClassIndex(lookup);
+    }
+
+    private static void add(Map<Class<?>, List<Class<?>>> repositories, Class<?> resourceClass, Class<?> repoClass) {
+        List<Class<?>> resourceRepositories = repositories.get(resourceClass);
+        if (resourceRepositories == null) {
+            resourceRepositories = new ArrayList<>(1);
+            repositories.put(resourceClass, resourceRepositories);
+        }
+        resourceRepositories.add(repoClass);
+    }
+
+    private static List<Class<?>> get(Map<Class<?>, List<Class<?>>> repositories, Class<?> resourceClass) {
+        List<Class<?>> resourceRepositories = repositories.get(resourceClass);
+        return resourceRepositories != null ? resourceRepositories : Collections.<Class<?>>emptyList();
+    }
+
+    @Override
+    public Set<Class<?>> getResourceClasses() {
+        return resourceClasses;
+    }
+
+    @Override
+    public Set<Class<?>> getResourceRepositoryClasses() {
+        return resourceRepositoryClasses;
+    }
+
+    /**
+     * @param resourceClass resource class
+     * @return implementations of {@link ResourceRepository} for the resource in the lookup order
+     */
+    List<Class<?>> getDirectResourceRepositories(Class<?> resourceClass) {
+        return get(directResourceRepositories, resourceClass);
+    }
+
+    /**
+     * @param resourceClass source resource class
+     * @return implementations of {@link RelationshipRepository} for the resource in the lookup order
+     */
+    List<Class<?>> getDirectRelationshipRepositories(Class<?> resourceClass) {
+        return get(directRelationshipRepositories, resourceClass);
+    }
+
+    /**
+     * @param resourceClass resource class
+     * @return classes annotated with {@link JsonApiResourceRepository} for the resource in the lookup order
+     */
+    List<Class<?>> getAnnotatedResourceRepositories(Class<?> resourceClass) {
+        return get(annotatedResourceRepositories, resourceClass);
+    }
+
+    /**
+     * @param resourceClass source resource class
+     * @return classes annotated with {@link JsonApiRelationshipRepository} for the resource in the lookup order
+     */
+    List<Class<?>> getAnnotatedRelationshipRepositories(Class<?> resourceClass) {
+        return get(annotatedRelationshipRepositories, resourceClass);
+    }
+}
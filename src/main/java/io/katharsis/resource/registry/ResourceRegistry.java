@@ -10,10 +10,22 @@ import java.lang.annotation.Annotation;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Holds all registered resources. Besides the resource class to {@link RegistryEntry} mapping, the registry keeps an
+ * index of entries by JSON API type and a cache of resolved resource information per runtime class, so the lookups
+ * performed on each request are single map hits. Any class, including a subclass or a proxy of a resource, is
+ * resolved through its class hierarchy only once. Classes which are not resources are resolved on each call and not
+ * cached. The entries and the index are unmodifiable maps replaced as a whole when an entry is added, so requests can
+ * read them without locking while the cache is reset. Entries should be added at initialization time only.
+ */
 public class ResourceRegistry {
-    private final Map<Class, RegistryEntry> resources = new HashMap<>();
+    private volatile Map<Class, RegistryEntry> resources = Collections.emptyMap();
+    private volatile Map<String, RegistryEntry> entriesByType = Collections.emptyMap();
     private final String serviceUrl;
+    private final ConcurrentMap<Class<?>, ResolvedResourceClass> resolvedClasses = new ConcurrentHashMap<>();
     private final Logger logger = LoggerFactory.getLogger(ResourceRegistry.class);
 
     public ResourceRegistry(String serviceUrl) {
@@ -21,33 +33,49 @@ public class ResourceRegistry {
     }
 
 
-    public <T> void addEntry(Class<T> resource, RegistryEntry<? extends T> registryEntry) {
-        resources.put(resource, registryEntry);
+    public synchronized <T> void addEntry(Class<T> resource, RegistryEntry<? extends T> registryEntry) {
+        Map<Class, RegistryEntry> newResources = new HashMap<>(resources);
+        newResources.put(resource, registryEntry);
+        resources = Collections.unmodifiableMap(newResources);
+        String resourceType = findResourceType(resource);
+        if (resourceType != null) {
+            Map<String, RegistryEntry> newEntriesByType = new HashMap<>(entriesByType);
+            newEntriesByType.put(resourceType, registryEntry);
+            entriesByType = Collections.unmodifiableMap(newEntriesByType);
+        }
+        resolvedClasses.clear();
         logger.debug("Added resource {} to ResourceRegistry", resource.getName());
     }
 
     public RegistryEntry getEntry(String searchType) {
-        RegistryEntry registryEntry = null;
-        for (Map.Entry<Class, RegistryEntry> entry : resources.entrySet()) {
-            String type = getResourceType(entry.getKey());
-            if (type.equals(searchType)) {
-                registryEntry = entry.getValue();
-            }
-        }
-        return registryEntry;
+        return entriesByType.get(searchType);
     }
 
     public RegistryEntry getEntry(Class clazz) {
-        Class resourceClazz = ClassUtils.getJsonApiResourceClass(clazz);
-        RegistryEntry registryEntry = resources.get(resourceClazz);
+        RegistryEntry registryEntry = findEntry(clazz);
         if (registryEntry != null) {
             return registryEntry;
         }
         throw new ResourceNotFoundInitializationException(clazz.getCanonicalName());
     }
 
+    /**
+     * @param clazz a resource class, its subclass or any other class
+     * @return the entry of the resource the class belongs to or <i>null</i> if the class is not a registered resource
+     */
+    public RegistryEntry findEntry(Class clazz) {
+        return getResolvedClass(clazz).registryEntry;
+    }
+
     public String getResourceType(Class clazz) {
+        return getResolvedClass(clazz).resourceType;
+    }
+
+    private String findResourceType(Class clazz) {
         Class resourceClazz = ClassUtils.getJsonApiResourceClass(clazz);
+        if (resourceClazz == null) {
+            return null;
+        }
         Annotation[] annotations = resourceClazz.getAnnotations();
         for (Annotation annotation : annotations) {
             if (annotation instanceof JsonApiResource) {
@@ -60,7 +88,7 @@ public class ResourceRegistry {
     }
 
     public String getResourceUrl(Class clazz) {
-        return serviceUrl + "/" + getResourceType(clazz);
+        return getResolvedClass(clazz).resourceUrl;
     }
 
     public String getServiceUrl() {
@@ -68,6 +96,40 @@ public class ResourceRegistry {
     }
 
     public Map<Class, RegistryEntry> getResources() {
-        return Collections.unmodifiableMap(resources);
+        return resources;
+    }
+
+    private ResolvedResourceClass getResolvedClass(Class<?> clazz) {
+        ResolvedResourceClass resolvedClass = resolvedClasses.get(clazz);
+        if (resolvedClass == null) {
+            resolvedClass = resolve(clazz);
+            if (resolvedClass.registryEntry != null) {
+                resolvedClasses.putIfAbsent(clazz, resolvedClass);
+            }
+        }
+        return resolvedClass;
+    }
+
+    private ResolvedResourceClass resolve(Class<?> clazz) {
+        Class<?> resourceClazz = ClassUtils.getJsonApiResourceClass(clazz);
+        RegistryEntry registryEntry = resourceClazz != null ? resources.get(resourceClazz) : null;
+        String resourceType = findResourceType(clazz);
+        return new ResolvedResourceClass(registryEntry, resourceType, serviceUrl + "/" + resourceType);
+    }
+
+    /**
+     * Resource information resolved for a runtime class. The registry entry is <i>null</i> if neither the class nor
+     * any of its ancestors is a registered resource.
+     */
+    private static final class ResolvedResourceClass {
+        private final RegistryEntry registryEntry;
+        private final String resourceType;
+        private final String resourceUrl;
+
+        private ResolvedResourceClass(RegistryEntry registryEntry, String resourceType, String resourceUrl) {
+            this.registryEntry = registryEntry;
+            this.resourceType = resourceType;
+            this.resourceUrl = resourceUrl;
+        }
     }
 }
@@ -7,9 +7,15 @@ import io.katharsis.resource.information.ResourceInformationBuilder;
 import io.katharsis.resource.registry.repository.RelationshipEntry;
 import io.katharsis.resource.registry.repository.ResourceEntry;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,11 +30,25 @@ public class ResourceRegistryBuilder {
     private final ResourceInformationBuilder resourceInformationBuilder;
 
     private final RepositoryEntryBuilderFacade repositoryEntryBuilder;
+    private final ForkJoinPool forkJoinPool;
 
     public ResourceRegistryBuilder(JsonServiceLocator jsonServiceLocator, ResourceInformationBuilder resourceInformationBuilder) {
+        this(jsonServiceLocator, resourceInformationBuilder, null);
+    }
+
+    /**
+     * @param jsonServiceLocator         locator of repository instances
+     * @param resourceInformationBuilder builder of resource information
+     * @param forkJoinPool               pool used to build resource information and repository entries of the resources
+     *                                   in parallel, <i>null</i> to build them in the calling thread. The locator and
+     *                                   the builder must be thread-safe if the pool is provided.
+     */
+    public ResourceRegistryBuilder(JsonServiceLocator jsonServiceLocator, ResourceInformationBuilder resourceInformationBuilder,
+                                   ForkJoinPool forkJoinPool) {
         this.jsonServiceLocator = jsonServiceLocator;
         this.resourceInformationBuilder = resourceInformationBuilder;
         this.repositoryEntryBuilder = new RepositoryEntryBuilderFacade(jsonServiceLocator);
+        this.forkJoinPool = forkJoinPool;
     }
 
     /**
@@ -43,64 +63,138 @@ public class ResourceRegistryBuilder {
     }
 
     /**
-     * Uses a {@link ResourceLookup} to get all resources and repositories associated with found resource.
+     * Uses a {@link ResourceLookup} to get all resources and repositories associated with found resource. Resources
+     * are processed in the order of their class names, so the registry does not depend on the order of the lookup
+     * results nor on the order in which parallel tasks complete. Duration of each phase is logged at debug level.
      *
      * @param resourceLookup Lookup for getting all resource classes.
      * @param serviceUrl  URL to the service
      * @return an instance of ResourceRegistry
      */
     public ResourceRegistry build(ResourceLookup resourceLookup, @SuppressWarnings("SameParameterValue") String serviceUrl) {
-        Set<Class<?>> jsonApiResources = resourceLookup.getResourceClasses();
-        
-        Set<ResourceInformation> resourceInformationSet = new HashSet<>(jsonApiResources.size());
-        for (Class<?> clazz : jsonApiResources) {
-            resourceInformationSet.add(resourceInformationBuilder.build(clazz));
-        }
+        long startTime = System.nanoTime();
+        final RepositoryClassIndex lookup = RepositoryClassIndex.of(resourceLookup);
+        final List<Class<?>> jsonApiResources = new ArrayList<>(lookup.getResourceClasses());
+        Collections.sort(jsonApiResources, CLASS_NAME_COMPARATOR);
+        long lookupTime = System.nanoTime();
+
+        final ResourceInformation[] resourceInformations = new ResourceInformation[jsonApiResources.size()];
+        forEachResource(jsonApiResources.size(), new ResourceTask() {
+            @Override
+            public void run(int index) {
+                resourceInformations[index] = resourceInformationBuilder.build(jsonApiResources.get(index));
+            }
+        });
+        long resourceInformationTime = System.nanoTime();
 
-        Set<RegistryEntry> registryEntries = new HashSet<>(resourceInformationSet.size());
-        for (ResourceInformation resourceInformation : resourceInformationSet) {
-            Class<?> resourceClass = resourceInformation.getResourceClass();
+        final RegistryEntry[] registryEntries = new RegistryEntry[resourceInformations.length];
+        forEachResource(resourceInformations.length, new ResourceTask() {
+            @Override
+            public void run(int index) {
+                ResourceInformation resourceInformation = resourceInformations[index];
+                Class<?> resourceClass = resourceInformation.getResourceClass();
 
-            ResourceEntry<?, ?> resourceEntry = repositoryEntryBuilder.buildResourceRepository(resourceLookup, resourceClass);
-            List<RelationshipEntry<?, ?>> relationshipEntries = repositoryEntryBuilder
-            .buildRelationshipRepositories(resourceLookup, resourceClass);
+                ResourceEntry<?, ?> resourceEntry = repositoryEntryBuilder.buildResourceRepository(lookup, resourceClass);
+                List<RelationshipEntry<?, ?>> relationshipEntries = repositoryEntryBuilder
+                    .buildRelationshipRepositories(lookup, resourceClass);
 
-            registryEntries.add(new RegistryEntry(resourceInformation, resourceEntry, relationshipEntries));
+                registryEntries[index] = new RegistryEntry(resourceInformation, resourceEntry, relationshipEntries);
+            }
+        });
+        long registryEntriesTime = System.nanoTime();
 
+        Map<Class<?>, RegistryEntry> registryEntriesByClass = new LinkedHashMap<>(registryEntries.length);
+        for (RegistryEntry registryEntry : registryEntries) {
+            registryEntriesByClass.put(registryEntry.getResourceInformation().getResourceClass(), registryEntry);
         }
-
         ResourceRegistry resourceRegistry = new ResourceRegistry(serviceUrl);
         for (RegistryEntry registryEntry : registryEntries) {
             Class<?> resourceClass = registryEntry.getResourceInformation().getResourceClass();
-            RegistryEntry registryEntryParent = findParent(resourceClass, registryEntries);
+            RegistryEntry registryEntryParent = findParent(resourceClass, registryEntriesByClass);
             registryEntry.setParentRegistryEntry(registryEntryParent);
             resourceRegistry.addEntry(resourceClass, registryEntry);
         }
+        long endTime = System.nanoTime();
+
+        LOGGER.debug("Built registry of {} resources in {} ms (lookup: {} ms, resource information: {} ms, "
+                + "repository entries: {} ms, registration: {} ms)", registryEntries.length,
+            toMillis(endTime - startTime), toMillis(lookupTime - startTime),
+            toMillis(resourceInformationTime - lookupTime), toMillis(registryEntriesTime - resourceInformationTime),
+            toMillis(endTime - registryEntriesTime));
 
         return resourceRegistry;
     }
 
+    private void forEachResource(int resourceCount, ResourceTask task) {
+        if (forkJoinPool == null) {
+            for (int i = 0; i < resourceCount; i++) {
+                task.run(i);
+            }
+        } else if (resourceCount > 0) {
+            forkJoinPool.invoke(new ResourceRangeAction(task, 0, resourceCount));
+        }
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
     /**
      * Finds the closest resource, that is resource annotated with {@link JsonApiResource} annotation, in the class
      * inheritance hierarchy. If no resource parent is found, <i>null</i> is returned.
      *
      * @param resourceClass    information about the searched resource
-     * @param registryEntries a set of available resources
+     * @param registryEntries available resources by their classes
      * @return resource's parent resource
      */
-    private RegistryEntry findParent(Class<?> resourceClass, Set<RegistryEntry> registryEntries) {
-        RegistryEntry foundRegistryEntry = null;
+    private RegistryEntry findParent(Class<?> resourceClass, Map<Class<?>, RegistryEntry> registryEntries) {
         Class<?> currentClass = resourceClass.getSuperclass();
-        classHierarchy:
         while (currentClass != null && currentClass != Object.class) {
-            for (RegistryEntry availableRegistryEntry : registryEntries) {
-                if (availableRegistryEntry.getResourceInformation().getResourceClass().equals(currentClass)) {
-                    foundRegistryEntry = availableRegistryEntry;
-                    break classHierarchy;
-                }
+            RegistryEntry availableRegistryEntry = registryEntries.get(currentClass);
+            if (availableRegistryEntry != null) {
+                return availableRegistryEntry;
             }
             currentClass = currentClass.getSuperclass();
         }
-        return foundRegistryEntry;
+        return null;
+    }
+
+    private static final Comparator<Class<?>> CLASS_NAME_COMPARATOR = new Comparator<Class<?>>() {
+        @Override
+        public int compare(Class<?> o1, Class<?> o2) {
+            return o1.getName().compareTo(o2.getName());
+        }
+    };
+
+    /**
+     * Work done for a resource at the given index.
+     */
+    private interface ResourceTask {
+        void run(int index);
+    }
+
+    /**
+     * Runs a task for a range of resources, splitting the range until each resource is processed by its own action.
+     */
+    private static final class ResourceRangeAction extends RecursiveAction {
+        private final ResourceTask task;
+        private final int from;
+        private final int to;
+
+        private ResourceRangeAction(ResourceTask task, int from, int to) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                task.run(from);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ResourceRangeAction(task, from, middle), new ResourceRangeAction(task, middle, to));
+            }
+        }
     }
 }
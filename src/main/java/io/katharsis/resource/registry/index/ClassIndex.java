@@ -0,0 +1,131 @@
+package io.katharsis.resource.registry.index;
+
+import io.katharsis.resource.exception.init.InvalidResourceException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads the class index written at compile time by {@link ClassIndexProcessor}. Each index is a classpath resource
+ * listing binary names of classes, one per line. Index files of all classpath elements with the same name are merged.
+ */
+public final class ClassIndex {
+
+    static final Charset CHARSET = Charset.forName("UTF-8");
+
+    /**
+     * Classes annotated with {@link io.katharsis.resource.annotations.JsonApiResource}.
+     */
+    public static final String RESOURCES = "META-INF/katharsis/resources";
+
+    /**
+     * Classes annotated with {@link io.katharsis.repository.annotations.JsonApiResourceRepository} or
+     * {@link io.katharsis.repository.annotations.JsonApiRelationshipRepository} and implementations of
+     * {@link io.katharsis.repository.ResourceRepository} or {@link io.katharsis.repository.RelationshipRepository}.
+     */
+    public static final String REPOSITORIES = "META-INF/katharsis/repositories";
+
+    /**
+     * Classes annotated with {@link io.katharsis.errorhandling.mapper.ExceptionMapperProvider}.
+     */
+    public static final String EXCEPTION_MAPPERS = "META-INF/katharsis/exception-mappers";
+
+    private final ClassLoader classLoader;
+    private final List<String> packageNames;
+
+    /**
+     * @param packageNames comma separated names of packages to which the classes are limited, <i>null</i> to accept
+     *                     all indexed classes
+     * @param classLoader  class loader used to find the index files and load the classes
+     */
+    public ClassIndex(String packageNames, ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        this.packageNames = new ArrayList<>();
+        if (packageNames != null) {
+            for (String packageName : packageNames.split(",")) {
+                this.packageNames.add(packageName.trim());
+            }
+        }
+    }
+
+    /**
+     * @param indexName name of the index, e.g. {@link #RESOURCES}
+     * @return loaded classes listed in the index which belong to the packages
+     */
+    public Set<Class<?>> getClasses(String indexName) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (String className : readClassNames(indexName)) {
+            if (isInPackages(className)) {
+                classes.add(loadClass(className));
+            }
+        }
+        return classes;
+    }
+
+    private Set<String> readClassNames(String indexName) {
+        Set<String> classNames = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> indexFiles = classLoader.getResources(indexName);
+            while (indexFiles.hasMoreElements()) {
+                readClassNames(indexFiles.nextElement(), classNames);
+            }
+        } catch (IOException e) {
+            throw new InvalidResourceException("Class index " + indexName + " can not be read", e);
+        }
+        return classNames;
+    }
+
+    static void readClassNames(URL indexFile, Set<String> classNames) throws IOException {
+        try (InputStream inputStream = indexFile.openStream()) {
+            readClassNames(inputStream, classNames);
+        }
+    }
+
+    static void readClassNames(InputStream inputStream, Set<String> classNames) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, CHARSET));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                classNames.add(line);
+            }
+        }
+    }
+
+    private boolean isInPackages(String className) {
+        if (packageNames.isEmpty()) {
+            return true;
+        }
+        for (String packageName : packageNames) {
+            if (className.startsWith(packageName + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new InvalidResourceException(className + " is listed in the class index but can not be loaded", e);
+        }
+    }
+
+    /**
+     * @return the context class loader of the current thread or the class loader of Katharsis if the former is not set
+     */
+    public static ClassLoader getDefaultClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ClassIndex.class.getClassLoader();
+    }
+}
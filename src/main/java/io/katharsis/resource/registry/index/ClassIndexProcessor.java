@@ -0,0 +1,197 @@
+package io.katharsis.resource.registry.index;
+
+import io.katharsis.errorhandling.mapper.ExceptionMapperProvider;
+import io.katharsis.repository.RelationshipRepository;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.annotations.JsonApiRelationshipRepository;
+import io.katharsis.repository.annotations.JsonApiResourceRepository;
+import io.katharsis.resource.annotations.JsonApiResource;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor writing the {@link ClassIndex} of the compiled classes, so resources, repositories and
+ * exception mappers can be found without scanning the classpath. A class is indexed if it or any of its supertypes is
+ * annotated with the looked up annotation, which matches the classes found by the
+ * <a href="https://github.com/ronmamo/reflections">Reflections</a> based lookups.
+ * <p>
+ * The processor is not registered as a service, so it has to be enabled explicitly, e.g. with
+ * <i>-processor io.katharsis.resource.registry.index.ClassIndexProcessor</i>. On an incremental compilation of a
+ * subset of classes, the existing index is merged with the recompiled classes. Entries of classes which no longer
+ * exist or which were recompiled and no longer qualify are removed.
+ */
+@SupportedAnnotationTypes("*")
+public class ClassIndexProcessor extends AbstractProcessor {
+
+    private final Map<String, Set<String>> indexes = new HashMap<>();
+    private final Set<String> processedClassNames = new HashSet<>();
+    private TypeMirror resourceRepositoryType;
+    private TypeMirror relationshipRepositoryType;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        resourceRepositoryType = getErasure(ResourceRepository.class.getName());
+        relationshipRepositoryType = getErasure(RelationshipRepository.class.getName());
+        indexes.put(ClassIndex.RESOURCES, new TreeSet<String>());
+        indexes.put(ClassIndex.REPOSITORIES, new TreeSet<String>());
+        indexes.put(ClassIndex.EXCEPTION_MAPPERS, new TreeSet<String>());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndexes();
+        } else {
+            for (TypeElement typeElement : ElementFilter.typesIn(roundEnv.getRootElements())) {
+                indexType(typeElement);
+            }
+        }
+        // the annotations are not claimed, other processors can process them as well
+        return false;
+    }
+
+    private void indexType(TypeElement typeElement) {
+        String className = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+        processedClassNames.add(className);
+        if (isAnnotatedWith(typeElement, JsonApiResource.class.getName())) {
+            indexes.get(ClassIndex.RESOURCES).add(className);
+        }
+        if (isRepository(typeElement)) {
+            indexes.get(ClassIndex.REPOSITORIES).add(className);
+        }
+        if (isAnnotatedWith(typeElement, ExceptionMapperProvider.class.getName())) {
+            indexes.get(ClassIndex.EXCEPTION_MAPPERS).add(className);
+        }
+        for (TypeElement nestedTypeElement : ElementFilter.typesIn(typeElement.getEnclosedElements())) {
+            indexType(nestedTypeElement);
+        }
+    }
+
+    private boolean isRepository(TypeElement typeElement) {
+        return isAnnotatedWith(typeElement, JsonApiResourceRepository.class.getName())
+            || isAnnotatedWith(typeElement, JsonApiRelationshipRepository.class.getName())
+            || isSubtype(typeElement, resourceRepositoryType)
+            || isSubtype(typeElement, relationshipRepositoryType);
+    }
+
+    private boolean isSubtype(TypeElement typeElement, TypeMirror superType) {
+        if (superType == null) {
+            return false;
+        }
+        TypeMirror type = processingEnv.getTypeUtils().erasure(typeElement.asType());
+        return !processingEnv.getTypeUtils().isSameType(type, superType)
+            && processingEnv.getTypeUtils().isAssignable(type, superType);
+    }
+
+    /**
+     * Checks if the type, its superclasses or its interfaces are annotated with the annotation.
+     */
+    private boolean isAnnotatedWith(TypeElement typeElement, String annotationName) {
+        for (AnnotationMirror annotationMirror : typeElement.getAnnotationMirrors()) {
+            Element annotationElement = annotationMirror.getAnnotationType().asElement();
+            if (((TypeElement) annotationElement).getQualifiedName().contentEquals(annotationName)) {
+                return true;
+            }
+        }
+        List<TypeMirror> superTypes = new ArrayList<>(typeElement.getInterfaces());
+        superTypes.add(typeElement.getSuperclass());
+        for (TypeMirror superType : superTypes) {
+            if (superType.getKind() == TypeKind.DECLARED
+                && isAnnotatedWith((TypeElement) ((DeclaredType) superType).asElement(), annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private TypeMirror getErasure(String className) {
+        TypeElement typeElement = processingEnv.getElementUtils().getTypeElement(className);
+        return typeElement != null ? processingEnv.getTypeUtils().erasure(typeElement.asType()) : null;
+    }
+
+    private void writeIndexes() {
+        for (Map.Entry<String, Set<String>> index : indexes.entrySet()) {
+            Set<String> classNames = index.getValue();
+            boolean indexExists = readExistingIndex(index.getKey(), classNames);
+            if (indexExists || !classNames.isEmpty()) {
+                writeIndex(index.getKey(), classNames);
+            }
+        }
+    }
+
+    /**
+     * Adds classes of an index written by a previous compilation which were not processed now and still exist.
+     *
+     * @return <i>true</i> if the index exists
+     */
+    private boolean readExistingIndex(String indexName, Set<String> classNames) {
+        Set<String> existingClassNames = new LinkedHashSet<>();
+        try {
+            FileObject indexFile = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", indexName);
+            try (InputStream inputStream = indexFile.openInputStream()) {
+                ClassIndex.readClassNames(inputStream, existingClassNames);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // there is no index yet
+            return false;
+        }
+        for (String className : existingClassNames) {
+            if (!processedClassNames.contains(className) && classExists(className)) {
+                classNames.add(className);
+            }
+        }
+        return true;
+    }
+
+    private boolean classExists(String binaryName) {
+        return processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.')) != null;
+    }
+
+    private void writeIndex(String indexName, Set<String> classNames) {
+        try {
+            FileObject indexFile = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", indexName);
+            try (Writer writer = new OutputStreamWriter(indexFile.openOutputStream(), ClassIndex.CHARSET)) {
+                for (String className : classNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager()
+                .printMessage(Diagnostic.Kind.ERROR, "Class index " + indexName + " can not be written: " + e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.katharsis.resource.registry.repository;
 
 import io.katharsis.repository.*;
+import io.katharsis.repository.adapter.AnnotatedRepositoryMethods;
 import io.katharsis.repository.adapter.RelationshipRepositoryAdapter;
 import io.katharsis.repository.annotations.JsonApiRelationshipRepository;
 
@@ -10,6 +11,8 @@ public class AnnotatedRelationshipEntryBuilder<T, D> implements RelationshipEntr
 
     public AnnotatedRelationshipEntryBuilder(Object repositoryInstance) {
         this.repositoryInstance = repositoryInstance;
+        // compile repository methods at registration time
+        AnnotatedRepositoryMethods.of(repositoryInstance.getClass());
     }
 
     @Override
@@ -3,6 +3,7 @@ package io.katharsis.resource.registry.repository;
 import io.katharsis.repository.ParametersFactory;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.adapter.AnnotatedRepositoryMethods;
 import io.katharsis.repository.adapter.ResourceRepositoryAdapter;
 
 import java.io.Serializable;
@@ -12,6 +13,8 @@ public class AnnotatedResourceEntryBuilder<T, ID extends Serializable> implement
 
     public AnnotatedResourceEntryBuilder(Object repositoryImplementation) {
         this.repositoryImplementation = repositoryImplementation;
+        // compile repository methods at registration time
+        AnnotatedRepositoryMethods.of(repositoryImplementation.getClass());
     }
 
     public ResourceRepository<T, ?> build(RepositoryMethodParameterProvider parameterProvider) {
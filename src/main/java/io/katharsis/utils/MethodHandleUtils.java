@@ -0,0 +1,75 @@
+package io.katharsis.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Creates method handles of class members. A member which cannot be accessed by a handle, e.g. a public method of a
+ * non-public class, is made accessible first. If it still cannot be accessed, <i>null</i> is returned, so the caller
+ * can fall back to reflection.
+ */
+public class MethodHandleUtils {
+
+    private MethodHandleUtils() {
+    }
+
+    /**
+     * @param method a method
+     * @return a handle of the method or <i>null</i> if the method cannot be accessed
+     */
+    public static MethodHandle unreflect(final Method method) {
+        return unreflect(method, new Unreflector() {
+            @Override
+            public MethodHandle unreflect(MethodHandles.Lookup lookup) throws IllegalAccessException {
+                return lookup.unreflect(method);
+            }
+        });
+    }
+
+    /**
+     * @param field a field
+     * @return a handle reading the field or <i>null</i> if the field cannot be accessed
+     */
+    public static MethodHandle unreflectGetter(final Field field) {
+        return unreflect(field, new Unreflector() {
+            @Override
+            public MethodHandle unreflect(MethodHandles.Lookup lookup) throws IllegalAccessException {
+                return lookup.unreflectGetter(field);
+            }
+        });
+    }
+
+    /**
+     * @param field a non-final field
+     * @return a handle writing the field or <i>null</i> if the field cannot be accessed
+     */
+    public static MethodHandle unreflectSetter(final Field field) {
+        return unreflect(field, new Unreflector() {
+            @Override
+            public MethodHandle unreflect(MethodHandles.Lookup lookup) throws IllegalAccessException {
+                return lookup.unreflectSetter(field);
+            }
+        });
+    }
+
+    private static MethodHandle unreflect(AccessibleObject member, Unreflector unreflector) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            return unreflector.unreflect(lookup);
+        } catch (IllegalAccessException e) {
+            try {
+                member.setAccessible(true);
+                return unreflector.unreflect(lookup);
+            } catch (IllegalAccessException | RuntimeException e1) {
+                return null;
+            }
+        }
+    }
+
+    private interface Unreflector {
+        MethodHandle unreflect(MethodHandles.Lookup lookup) throws IllegalAccessException;
+    }
+}
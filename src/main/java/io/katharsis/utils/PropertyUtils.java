@@ -1,11 +1,8 @@
 package io.katharsis.utils;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-import java.util.HashSet;
-import java.util.LinkedList;
+import io.katharsis.utils.accessor.BeanAccessor;
+import io.katharsis.utils.accessor.PropertyAccessor;
+
 import java.util.List;
 import java.util.Set;
 
@@ -14,6 +11,9 @@ import java.util.Set;
  * A lighter version of Apache Commons PropertyUtils without additional dependencies and with support for fluent
  * setters.
  * </p>
+ * <p>
+ * Accessors are resolved once per bean class and cached, see {@link BeanAccessor}.
+ * </p>
  */
 public class PropertyUtils {
 
@@ -41,11 +41,7 @@ public class PropertyUtils {
     public static Object getProperty(Object bean, String field) {
         INSTANCE.checkParameters(bean, field);
 
-        try {
-            return INSTANCE.getPropertyValue(bean, field);
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(e);
-        }
+        return INSTANCE.findAccessor(bean, field).getValue(bean);
     }
 
     private void checkParameters(Object bean, String field) {
@@ -57,71 +53,13 @@ public class PropertyUtils {
         }
     }
 
-    private Object getPropertyValue(Object bean, String fieldName)
-        throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-
-        Field foundField = findField(bean, fieldName);
-        if (foundField != null) {
-            if (!Modifier.isPublic(foundField.getModifiers())) {
-                Method getter = getGetter(bean, foundField.getName());
-                return getter.invoke(bean);
-            } else {
-                return foundField.get(bean);
-            }
-        } else {
-            Method getter = findGetter(bean, fieldName);
-            if (getter == null) {
-                throw new RuntimeException(
-                    String.format("Cannot find an getter for %s.%s", bean.getClass().getCanonicalName(), fieldName));
-            }
-            return getter.invoke(bean);
-        }
-    }
-
-    private Method findGetter(Object bean, String fieldName) {
-        List<Method> classGetters = ClassUtils.getClassGetters(bean.getClass());
-
-        for (Method getter : classGetters) {
-            String getterFieldName = getGetterFieldName(getter);
-            if (getterFieldName.equals(fieldName)) {
-                return getter;
-            }
-        }
-        return null;
-    }
-
-    private String getGetterFieldName(Method getter) {
-        if (isBoolean(getter.getReturnType())) {
-            return getter.getName().substring(2, 3).toLowerCase() + getter.getName().substring(3);
-        } else {
-            return getter.getName().substring(3, 4).toLowerCase() + getter.getName().substring(4);
-        }
-    }
-
-    private boolean isBoolean(Class<?> returnType) {
-        return boolean.class.equals(returnType) || Boolean.class.equals(returnType);
-    }
-
-    private Field findField(Object bean, String fieldName) {
-        List<Field> classFields = ClassUtils.getClassFields(bean.getClass());
-        for (Field field : classFields) {
-            if (field.getName().equals(fieldName)) {
-                return field;
-            }
-        }
-        return null;
-    }
-
-    private Method getGetter(Object bean, String fieldName) throws NoSuchMethodException {
-        Class<?> beanClass = bean.getClass();
-
-        String upperCaseName = fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
-
-        try {
-            return beanClass.getMethod("get" + upperCaseName);
-        } catch (NoSuchMethodException e) {
-            return beanClass.getMethod("is" + upperCaseName);
+    private PropertyAccessor findAccessor(Object bean, String fieldName) {
+        PropertyAccessor accessor = BeanAccessor.of(bean.getClass()).getAccessor(fieldName);
+        if (accessor == null) {
+            throw new RuntimeException(
+                String.format("Cannot find an getter for %s.%s", bean.getClass().getCanonicalName(), fieldName));
         }
+        return accessor;
     }
 
     /**
@@ -152,54 +90,6 @@ public class PropertyUtils {
     public static void setProperty(Object bean, String field, Object value) {
         INSTANCE.checkParameters(bean, field);
 
-        try {
-            INSTANCE.setPropertyValue(bean, field, value);
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private void setPropertyValue(Object bean, String fieldName, Object value)
-        throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        Field foundField = findField(bean, fieldName);
-
-        if (foundField != null) {
-            if ( !Modifier.isPublic(foundField.getModifiers())) {
-                Method setter = getSetter(bean, foundField.getName(), foundField.getType());
-                setter.invoke(bean, prepareValue(value, setter.getParameterTypes()[0]));
-            } else {
-                foundField.set(bean, prepareValue(value, foundField.getType()));
-            }
-        } else {
-            Method getter = findGetter(bean, fieldName);
-            if (getter == null) {
-                throw new RuntimeException(
-                    String.format("Cannot find a getter for %s.%s", bean.getClass().getCanonicalName(), fieldName));
-            }
-            String getterFieldName = getGetterFieldName(getter);
-            Method setter = getSetter(bean, getterFieldName, getter.getReturnType());
-            setter.invoke(bean, prepareValue(value, setter.getParameterTypes()[0]));
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private Object prepareValue(Object value, Class<?> fieldClass) {
-        if (Set.class.isAssignableFrom(fieldClass) && value instanceof List) {
-            List listValue = (List) value;
-            Set setValue = new HashSet<>(listValue.size());
-            setValue.addAll(listValue);
-            return setValue;
-        } else if (List.class.isAssignableFrom(fieldClass) && value instanceof Set) {
-            return new LinkedList<>((Set)value);
-        }
-        return value;
-    }
-
-    private Method getSetter(Object bean, String fieldName, Class<?> fieldType) throws NoSuchMethodException {
-        Class<?> beanClass = bean.getClass();
-
-        String upperCaseName = fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
-
-        return beanClass.getMethod("set" + upperCaseName, fieldType);
+        INSTANCE.findAccessor(bean, field).setValue(bean, value);
     }
 }
@@ -0,0 +1,171 @@
+package io.katharsis.utils.accessor;
+
+import io.katharsis.utils.ClassUtils;
+import io.katharsis.utils.MethodHandleUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * A table of pre-resolved {@link PropertyAccessor}s of a class keyed by an underlying property name. The table is
+ * built once per class and cached for the lifetime of the class, so property access does not have to walk the class
+ * hierarchy or look up methods by name.
+ * </p>
+ * <p>
+ * The accessors are resolved in the same way as {@link io.katharsis.utils.PropertyUtils} always did:
+ * </p>
+ * <ol>
+ *     <li>All class fields are found using {@link ClassUtils#getClassFields(Class)}</li>
+ *     <li>A public field is accessed directly</li>
+ *     <li>A non-public field is accessed using the accompanying public getter and setter</li>
+ *     <li>A getter without a field, found using {@link ClassUtils#getClassGetters(Class)}, is exposed under the name
+ *     derived from the getter, with an optional setter accepting the getter's return type</li>
+ * </ol>
+ */
+public final class BeanAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<BeanAccessor> ACCESSORS = new ClassValue<BeanAccessor>() {
+        @Override
+        protected BeanAccessor computeValue(Class<?> beanClass) {
+            return new BeanAccessor(beanClass);
+        }
+    };
+
+    private final Class<?> beanClass;
+    private final Map<String, PropertyAccessor> accessors;
+
+    private BeanAccessor(Class<?> beanClass) {
+        this.beanClass = beanClass;
+        this.accessors = Collections.unmodifiableMap(buildAccessors(beanClass));
+    }
+
+    /**
+     * Returns an accessor table of a class. The table is built on the first call and reused afterwards.
+     *
+     * @param beanClass class to be accessed
+     * @return accessor table of the class
+     */
+    public static BeanAccessor of(Class<?> beanClass) {
+        return ACCESSORS.get(beanClass);
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * @param name underlying name of a property
+     * @return accessor of the property or <i>null</i> if the class has no such property
+     */
+    public PropertyAccessor getAccessor(String name) {
+        return accessors.get(name);
+    }
+
+    public Map<String, PropertyAccessor> getAccessors() {
+        return accessors;
+    }
+
+    private static Map<String, PropertyAccessor> buildAccessors(Class<?> beanClass) {
+        Map<String, PropertyAccessor> result = new HashMap<>();
+
+        for (Field field : ClassUtils.getClassFields(beanClass)) {
+            result.put(field.getName(), buildFieldAccessor(beanClass, field));
+        }
+
+        for (Method getter : ClassUtils.getClassGetters(beanClass)) {
+            String name = getGetterPropertyName(getter);
+            if (!result.containsKey(name) && Modifier.isPublic(getter.getModifiers())) {
+                MethodHandle getterHandle = unreflect(getter, GETTER_TYPE);
+                MethodHandle setterHandle = unreflect(findSetter(beanClass, name, getter.getReturnType()), SETTER_TYPE);
+                result.put(name, new PropertyAccessor(beanClass, name, getterHandle, setterHandle, getter.getReturnType()));
+            }
+        }
+
+        return result;
+    }
+
+    private static PropertyAccessor buildFieldAccessor(Class<?> beanClass, Field field) {
+        String name = field.getName();
+        if (Modifier.isPublic(field.getModifiers())) {
+            MethodHandle getterHandle = unreflectGetter(field);
+            MethodHandle setterHandle = Modifier.isFinal(field.getModifiers()) ? null : unreflectSetter(field);
+            return new PropertyAccessor(beanClass, name, getterHandle, setterHandle, field.getType());
+        } else {
+            MethodHandle getterHandle = unreflect(findGetter(beanClass, name), GETTER_TYPE);
+            Method setter = findSetter(beanClass, name, field.getType());
+            Class<?> setterType = setter != null ? setter.getParameterTypes()[0] : field.getType();
+            return new PropertyAccessor(beanClass, name, getterHandle, unreflect(setter, SETTER_TYPE), setterType);
+        }
+    }
+
+    private static String getGetterPropertyName(Method getter) {
+        String methodName = getter.getName();
+        int prefixLength = methodName.startsWith("is") ? 2 : 3;
+        return methodName.substring(prefixLength, prefixLength + 1).toLowerCase() + methodName.substring(prefixLength + 1);
+    }
+
+    private static Method findGetter(Class<?> beanClass, String name) {
+        String upperCaseName = capitalize(name);
+        try {
+            return beanClass.getMethod("get" + upperCaseName);
+        } catch (NoSuchMethodException e) {
+            try {
+                return beanClass.getMethod("is" + upperCaseName);
+            } catch (NoSuchMethodException e1) {
+                return null;
+            }
+        }
+    }
+
+    private static Method findSetter(Class<?> beanClass, String name, Class<?> type) {
+        try {
+            return beanClass.getMethod("set" + capitalize(name), type);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static String capitalize(String name) {
+        return name.substring(0, 1).toUpperCase() + name.substring(1);
+    }
+
+    private static MethodHandle unreflect(Method method, MethodType type) {
+        if (method == null) {
+            return null;
+        }
+        return adapt(MethodHandleUtils.unreflect(method), Modifier.isStatic(method.getModifiers()), type);
+    }
+
+    private static MethodHandle unreflectGetter(Field field) {
+        return adapt(MethodHandleUtils.unreflectGetter(field), Modifier.isStatic(field.getModifiers()), GETTER_TYPE);
+    }
+
+    private static MethodHandle unreflectSetter(Field field) {
+        return adapt(MethodHandleUtils.unreflectSetter(field), Modifier.isStatic(field.getModifiers()), SETTER_TYPE);
+    }
+
+    /**
+     * Adapts a handle to the generic accessor type. Static members ignore the bean argument. A <i>null</i> handle of
+     * an inaccessible member stays <i>null</i>.
+     */
+    private static MethodHandle adapt(MethodHandle handle, boolean isStatic, MethodType type) {
+        if (handle == null) {
+            return null;
+        }
+        if (isStatic) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(type);
+    }
+}
@@ -0,0 +1,102 @@
+package io.katharsis.utils.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Pre-resolved read and write access to a single bean property. The getter and the setter are adapted to
+ * <i>(Object)Object</i> and <i>(Object, Object)void</i> handles when the owning {@link BeanAccessor} is built, so an
+ * access is a single exact handle invocation without any name matching or reflective lookup.
+ * <p>
+ * If a property cannot be read or written, e.g. there is no accompanying getter or setter, the corresponding handle
+ * is <i>null</i> and an attempt to use it fails with a {@link RuntimeException} describing the missing accessor.
+ * </p>
+ */
+public final class PropertyAccessor {
+
+    private final Class<?> beanClass;
+    private final String name;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final Class<?> setterType;
+
+    PropertyAccessor(Class<?> beanClass, String name, MethodHandle getter, MethodHandle setter, Class<?> setterType) {
+        this.beanClass = beanClass;
+        this.name = name;
+        this.getter = getter;
+        this.setter = setter;
+        this.setterType = setterType;
+    }
+
+    /**
+     * @return underlying name of the property, that is a name of a field or a name derived from a getter
+     */
+    public String getName() {
+        return name;
+    }
+
+    public boolean isReadable() {
+        return getter != null;
+    }
+
+    public boolean isWritable() {
+        return setter != null;
+    }
+
+    /**
+     * Returns a value of the property.
+     *
+     * @param bean bean to be accessed
+     * @return bean's property value
+     */
+    public Object getValue(Object bean) {
+        if (getter == null) {
+            throw new RuntimeException(
+                String.format("Cannot find a getter for %s.%s", beanClass.getCanonicalName(), name));
+        }
+        try {
+            return getter.invokeExact(bean);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Sets a value of the property. If a value to be set is a {@link List} and the property type is {@link Set} or
+     * vice versa, the collection is converted to the property type.
+     *
+     * @param bean  bean to be accessed
+     * @param value value to be set
+     */
+    public void setValue(Object bean, Object value) {
+        if (setter == null) {
+            throw new RuntimeException(
+                String.format("Cannot find a setter for %s.%s", beanClass.getCanonicalName(), name));
+        }
+        try {
+            setter.invokeExact(bean, prepareValue(value));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object prepareValue(Object value) {
+        if (Set.class.isAssignableFrom(setterType) && value instanceof List) {
+            List listValue = (List) value;
+            Set setValue = new HashSet<>(listValue.size());
+            setValue.addAll(listValue);
+            return setValue;
+        } else if (List.class.isAssignableFrom(setterType) && value instanceof Set) {
+            return new LinkedList<>((Set) value);
+        }
+        return value;
+    }
+}
@@ -3,10 +3,17 @@ package io.katharsis.utils.parser;
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Parses {@link String} into an instance of provided {@link Class}. It support the following classes:
@@ -25,10 +32,25 @@ import java.util.List;
  *     <li>{@link java.util.UUID}</li>
  *     <li>An {@link Enum}</li>
  *     <li>A class with a {@link String} only constructor</li>
+ *     <li>A class with a static <i>valueOf</i> or <i>fromString</i> method accepting a {@link String}</li>
  * </ol>
+ * The parsers of {@link StandardTypeParsers} are looked up on each call, so parsers registered later are used. Other
+ * parsers are compiled once per class by each instance and reused for subsequent values. Lists of values are mutable
+ * {@link ArrayList} instances sized from the input.
  */
 public class TypeParser {
 
+    private static final String[] FACTORY_METHOD_NAMES = {"valueOf", "fromString"};
+
+    private static final StandardTypeParser<String> STRING_PARSER = new StandardTypeParser<String>() {
+        @Override
+        public String parse(String input) {
+            return input;
+        }
+    };
+
+    private final ConcurrentMap<Class<?>, StandardTypeParser<?>> compiledParsers = new ConcurrentHashMap<>();
+
     /**
      * Parses an {@link Iterable} of String instances to {@link Iterable} of parsed values.
      * @param inputs list of Strings
@@ -36,10 +58,21 @@ public class TypeParser {
      * @param <T> type of class
      * @return {@link Iterable} of parsed values
      */
+    @SuppressWarnings("unchecked")
     public <T extends Serializable> Iterable<T> parse(Iterable<String> inputs, Class<T> clazz) {
-        List<T> parsedValues = new LinkedList<>();
+        try {
+            if (Long.class.equals(clazz) || long.class.equals(clazz)) {
+                return (Iterable<T>) parseLongs(inputs);
+            } else if (Integer.class.equals(clazz) || int.class.equals(clazz)) {
+                return (Iterable<T>) parseInts(inputs);
+            }
+        } catch (NumberFormatException e) {
+            throw new ParserException(e.getMessage());
+        }
+        StandardTypeParser<?> parser = getParser(clazz);
+        List<T> parsedValues = new ArrayList<>(sizeOf(inputs));
         for (String input : inputs) {
-            parsedValues.add(parse(input, clazz));
+            parsedValues.add(TypeParser.<T>parse(input, parser));
         }
 
         return parsedValues;
@@ -53,47 +86,150 @@ public class TypeParser {
      * @return instance of parsed value
      */
     public <T extends Serializable> T parse(String input, Class<T> clazz) {
+        return parse(input, getParser(clazz));
+    }
+
+    private StandardTypeParser<?> getParser(Class<?> clazz) {
+        if (String.class.equals(clazz)) {
+            return STRING_PARSER;
+        }
+        StandardTypeParser<?> parser = StandardTypeParsers.parsers.get(clazz);
+        if (parser == null) {
+            parser = compiledParsers.get(clazz);
+            if (parser == null) {
+                parser = compileParser(clazz);
+                StandardTypeParser<?> existingParser = compiledParsers.putIfAbsent(clazz, parser);
+                if (existingParser != null) {
+                    parser = existingParser;
+                }
+            }
+        }
+        return parser;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Serializable> T parse(String input, StandardTypeParser<?> parser) {
         try {
-            return parseInput(input, clazz);
-        } catch (InvocationTargetException | InstantiationException | IllegalAccessException | NoSuchMethodException |
-                NumberFormatException | ParserException
-                e) {
+            return (T) parser.parse(input);
+        } catch (NumberFormatException | ParserException e) {
             throw new ParserException(e.getMessage());
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private <T extends Serializable> T parseInput(String input, Class<T> clazz)
-            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
-        T parsedValue;
-        if (String.class.equals(clazz)) {
-            parsedValue = (T) input;
-        } else if (StandardTypeParsers.parsers.containsKey(clazz)) {
-            StandardTypeParser standardTypeParser = StandardTypeParsers.parsers.get(clazz);
-
-            parsedValue = (T) standardTypeParser.parse(input);
-        } else if (isEnum(clazz)) {
-            parsedValue = (T) Enum.valueOf((Class<Enum>)clazz.asSubclass(Enum.class), input.trim());
-        } else if (containsStringConstructor(clazz)) {
-            parsedValue = clazz.getDeclaredConstructor(String.class).newInstance(input);
-        } else {
-            throw new ParserException(String.format("Cannot parse to %s : %s", clazz.getName(), input));
-        }
-        return parsedValue;
+    private static List<Long> parseLongs(Iterable<String> inputs) {
+        List<Long> values = new ArrayList<>(sizeOf(inputs));
+        for (String input : inputs) {
+            values.add(Long.valueOf(input));
+        }
+        return values;
     }
 
-    private <T extends Serializable> boolean isEnum(Class<T> clazz) {
-        return clazz.isEnum();
+    private static List<Integer> parseInts(Iterable<String> inputs) {
+        List<Integer> values = new ArrayList<>(sizeOf(inputs));
+        for (String input : inputs) {
+            values.add(Integer.valueOf(input));
+        }
+        return values;
     }
 
-    private boolean containsStringConstructor(Class<?> clazz) throws NoSuchMethodException {
-        boolean result = false;
-        for (Constructor constructor : clazz.getDeclaredConstructors()) {
+    private static int sizeOf(Iterable<?> inputs) {
+        return inputs instanceof Collection ? ((Collection<?>) inputs).size() : 0;
+    }
 
+    private static StandardTypeParser<?> compileParser(final Class<?> clazz) {
+        if (clazz.isEnum()) {
+            return compileEnumParser(clazz);
+        }
+        Constructor<?> stringConstructor = findStringConstructor(clazz);
+        if (stringConstructor != null) {
+            return new ConstructorParser(stringConstructor);
+        }
+        Method factoryMethod = findFactoryMethod(clazz);
+        if (factoryMethod != null) {
+            return new FactoryMethodParser(factoryMethod);
+        }
+        return new StandardTypeParser<Object>() {
+            @Override
+            public Object parse(String input) {
+                throw new ParserException(String.format("Cannot parse to %s : %s", clazz.getName(), input));
+            }
+        };
+    }
+
+    /**
+     * Builds a lookup table of the constants, matching {@link Enum#valueOf(Class, String)} on a trimmed input.
+     */
+    private static StandardTypeParser<?> compileEnumParser(final Class<?> clazz) {
+        final Map<String, Object> constants = new HashMap<>();
+        for (Object constant : clazz.getEnumConstants()) {
+            constants.put(((Enum<?>) constant).name(), constant);
+        }
+        return new StandardTypeParser<Object>() {
+            @Override
+            public Object parse(String input) {
+                Object constant = constants.get(input.trim());
+                if (constant == null) {
+                    throw new IllegalArgumentException("No enum constant " + clazz.getCanonicalName() + "." + input.trim());
+                }
+                return constant;
+            }
+        };
+    }
+
+    private static Constructor<?> findStringConstructor(Class<?> clazz) {
+        for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
             if (constructor.getParameterTypes().length == 1 && constructor.getParameterTypes()[0] == String.class) {
-                result = true;
+                return constructor;
+            }
+        }
+        return null;
+    }
+
+    private static Method findFactoryMethod(Class<?> clazz) {
+        for (String methodName : FACTORY_METHOD_NAMES) {
+            try {
+                Method method = clazz.getMethod(methodName, String.class);
+                if (Modifier.isStatic(method.getModifiers()) && clazz.isAssignableFrom(method.getReturnType())) {
+                    return method;
+                }
+            } catch (NoSuchMethodException e) {
+                // try the next name
+            }
+        }
+        return null;
+    }
+
+    private static final class ConstructorParser implements StandardTypeParser<Object> {
+        private final Constructor<?> constructor;
+
+        private ConstructorParser(Constructor<?> constructor) {
+            this.constructor = constructor;
+        }
+
+        @Override
+        public Object parse(String input) {
+            try {
+                return constructor.newInstance(input);
+            } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
+                throw new ParserException(e.getMessage());
+            }
+        }
+    }
+
+    private static final class FactoryMethodParser implements StandardTypeParser<Object> {
+        private final Method method;
+
+        private FactoryMethodParser(Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public Object parse(String input) {
+            try {
+                return method.invoke(null, input);
+            } catch (InvocationTargetException | IllegalAccessException e) {
+                throw new ParserException(e.getMessage());
             }
         }
-        return result;
     }
 }
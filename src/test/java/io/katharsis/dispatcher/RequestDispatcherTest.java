@@ -1,28 +1,43 @@
 package io.katharsis.dispatcher;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.dispatcher.controller.collection.CollectionGet;
+import io.katharsis.dispatcher.controller.resource.ResourcePost;
+import io.katharsis.dispatcher.metrics.HistogramRequestListener;
+import io.katharsis.dispatcher.metrics.RequestPhase;
+import io.katharsis.dispatcher.metrics.RequestTags;
 import io.katharsis.dispatcher.registry.ControllerRegistry;
+import io.katharsis.dispatcher.registry.ControllerRegistryBuilder;
 import io.katharsis.errorhandling.ErrorResponse;
 import io.katharsis.errorhandling.mapper.ExceptionMapperRegistryTest;
 import io.katharsis.locator.SampleJsonServiceLocator;
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.request.dto.DataBody;
+import io.katharsis.request.dto.LinkageData;
 import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.dto.ResourceRelationships;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.PathBuilder;
 import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.include.IncludeLookupSetter;
 import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.repository.ProjectRepository;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.resource.registry.ResourceRegistryBuilder;
 import io.katharsis.resource.registry.ResourceRegistryBuilderTest;
 import io.katharsis.resource.registry.ResourceRegistryTest;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.HttpStatus;
+import io.katharsis.utils.parser.TypeParser;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Collections;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -64,6 +79,70 @@ public class RequestDispatcherTest {
         verify(collectionGet, times(1)).handle(any(JsonPath.class), any(QueryParams.class), any(RepositoryMethodParameterProvider.class), any(RequestBody.class));
     }
 
+    @Test
+    public void onGivenRequestListenerDispatcherShouldReportPhaseTimings() throws Exception {
+        // GIVEN
+        HistogramRequestListener requestListener = new HistogramRequestListener();
+        ControllerRegistry controllerRegistry = new ControllerRegistryBuilder(resourceRegistry, new TypeParser(),
+            new ObjectMapper(), new IncludeLookupSetter(resourceRegistry), requestListener).build();
+        RequestDispatcher sut = new RequestDispatcher(controllerRegistry, null);
+        JsonPath jsonPath = new PathBuilder(resourceRegistry).buildPath("/tasks/");
+
+        // WHEN
+        sut.dispatchRequest(jsonPath, "GET", new QueryParams(), null, null);
+
+        // THEN
+        RequestTags tags = new RequestTags("tasks", "GET", CollectionGet.class);
+        assertThat(requestListener.getHistogram(RequestPhase.CONTROLLER_LOOKUP, tags).getCount()).isEqualTo(1);
+        assertThat(requestListener.getHistogram(RequestPhase.REPOSITORY, tags).getCount()).isEqualTo(1);
+        assertThat(requestListener.getHistogram(RequestPhase.META_AND_LINKS, tags).getCount()).isEqualTo(1);
+        assertThat(requestListener.getHistograms(RequestPhase.SERIALIZATION)).isEmpty();
+    }
+
+    @Test
+    public void onGivenRequestListenerResourcePostShouldReportRelatedResourcesLookup() throws Exception {
+        // GIVEN
+        HistogramRequestListener requestListener = new HistogramRequestListener();
+        ControllerRegistry controllerRegistry = new ControllerRegistryBuilder(resourceRegistry, new TypeParser(),
+            new ObjectMapper(), new IncludeLookupSetter(resourceRegistry), requestListener).build();
+        RequestDispatcher sut = new RequestDispatcher(controllerRegistry, null);
+        JsonPath jsonPath = new PathBuilder(resourceRegistry).buildPath("/users");
+        Long projectId = new ProjectRepository().save(new Project()).getId();
+
+        RequestBody newUserBody = new RequestBody();
+        DataBody data = new DataBody();
+        newUserBody.setData(data);
+        data.setType("users");
+        data.setRelationships(new ResourceRelationships());
+        data.getRelationships().setAdditionalProperty("assignedProjects",
+            Collections.singletonList(new LinkageData("projects", projectId.toString())));
+
+        // WHEN
+        sut.dispatchRequest(jsonPath, "POST", new QueryParams(), null, newUserBody);
+
+        // THEN
+        RequestTags tags = new RequestTags("users", "POST", ResourcePost.class);
+        assertThat(requestListener.getHistogram(RequestPhase.REPOSITORY, tags).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void onIntegrationPhaseDispatcherShouldReportItWithoutController() throws Exception {
+        // GIVEN
+        HistogramRequestListener requestListener = new HistogramRequestListener();
+        ControllerRegistry controllerRegistry = new ControllerRegistryBuilder(resourceRegistry, new TypeParser(),
+            new ObjectMapper(), new IncludeLookupSetter(resourceRegistry), requestListener).build();
+        RequestDispatcher sut = new RequestDispatcher(controllerRegistry, null);
+
+        // WHEN
+        long phaseStart = sut.startPhase();
+        JsonPath jsonPath = new PathBuilder(resourceRegistry).buildPath("/tasks/");
+        sut.endPhase(RequestPhase.PATH_BUILD, jsonPath, "GET", phaseStart);
+
+        // THEN
+        RequestTags tags = new RequestTags("tasks", "GET", null);
+        assertThat(requestListener.getHistogram(RequestPhase.PATH_BUILD, tags).getCount()).isEqualTo(1);
+    }
+
     @Test
     public void shouldMapExceptionToErrorResponseIfMapperIsAvailable() throws Exception {
 
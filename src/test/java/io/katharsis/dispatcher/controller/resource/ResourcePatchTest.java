@@ -1,5 +1,6 @@
 package io.katharsis.dispatcher.controller.resource;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.katharsis.dispatcher.controller.BaseControllerTest;
 import io.katharsis.queryParams.QueryParams;
@@ -9,8 +10,11 @@ import io.katharsis.request.dto.ResourceRelationships;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.ResourcePath;
 import io.katharsis.resource.exception.RequestBodyException;
+import io.katharsis.resource.exception.ResourceFieldNotFoundException;
 import io.katharsis.resource.mock.models.Memorandum;
+import io.katharsis.resource.mock.models.Project;
 import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.mock.repository.ProjectRepository;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.ResourceResponse;
 import org.junit.Assert;
@@ -187,6 +191,104 @@ public class ResourcePatchTest extends BaseControllerTest {
         assertThat(persistedMemorandum.getBody()).isEqualTo("new body");
     }
 
+    @Test
+    public void onPartialAttributesFromRequestShouldUpdateOnlyThoseAttributes() throws Exception {
+        // GIVEN
+        RequestBody memorandumBody = objectMapper.readValue("{\"data\": {\"type\": \"memoranda\", " +
+            "\"attributes\": {\"title\": \"sample title\", \"body\": \"sample body\"}}}", RequestBody.class);
+        JsonPath documentsPath = pathBuilder.buildPath("/documents");
+        ResourcePost resourcePost = new ResourcePost(resourceRegistry, typeParser, objectMapper);
+        ResourceResponse memorandumResponse = resourcePost.handle(documentsPath, new QueryParams(), null, memorandumBody);
+        Long memorandumId = ((Memorandum) (memorandumResponse.getData())).getId();
+
+        RequestBody memorandumPatch = objectMapper.readValue("{\"data\": {\"type\": \"memoranda\", " +
+            "\"attributes\": {\"title\": \"new title\"}}}", RequestBody.class);
+        JsonPath documentPath = pathBuilder.buildPath("/documents/" + memorandumId);
+        ResourcePatch sut = new ResourcePatch(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        BaseResponse response = sut.handle(documentPath, new QueryParams(), null, memorandumPatch);
+
+        // THEN
+        Memorandum persistedMemorandum = (Memorandum) (response.getData());
+        assertThat(persistedMemorandum.getTitle()).isEqualTo("new title");
+        assertThat(persistedMemorandum.getBody()).isEqualTo("sample body");
+    }
+
+    @Test
+    public void onUnknownAttributeShouldThrowException() throws Exception {
+        // GIVEN
+        RequestBody newTaskBody = new RequestBody();
+        DataBody data = new DataBody();
+        newTaskBody.setData(data);
+        data.setType("tasks");
+        data.setAttributes(objectMapper.createObjectNode()
+            .put("name", "sample task"));
+        JsonPath taskPath = pathBuilder.buildPath("/tasks");
+        ResourcePost resourcePost = new ResourcePost(resourceRegistry, typeParser, objectMapper);
+        ResourceResponse taskResponse = resourcePost.handle(taskPath, new QueryParams(), null, newTaskBody);
+        Long taskId = ((Task) (taskResponse.getData())).getId();
+
+        RequestBody taskPatch = objectMapper.readValue("{\"data\": {\"type\": \"tasks\", " +
+            "\"attributes\": {\"name\": \"task updated\", \"id\": 1}}}", RequestBody.class);
+        JsonPath jsonPath = pathBuilder.buildPath("/tasks/" + taskId);
+        ResourcePatch sut = new ResourcePatch(resourceRegistry, typeParser, objectMapper);
+
+        // THEN
+        expectedException.expect(ResourceFieldNotFoundException.class);
+
+        // WHEN
+        sut.handle(jsonPath, new QueryParams(), null, taskPatch);
+    }
+
+    @Test
+    public void onObjectAndNullAttributesShouldSetThem() throws Exception {
+        // GIVEN
+        Project project = new Project();
+        project.setName("sample project");
+        project.setDescription("sample description");
+        Long projectId = new ProjectRepository().save(project).getId();
+
+        RequestBody projectPatch = objectMapper.readValue("{\"data\": {\"type\": \"projects\", " +
+            "\"attributes\": {\"data\": {\"data\": \"sample data\"}, \"description\": null}}}",
+            RequestBody.class);
+        JsonPath jsonPath = pathBuilder.buildPath("/projects/" + projectId);
+        ResourcePatch sut = new ResourcePatch(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        sut.handle(jsonPath, new QueryParams(), null, projectPatch);
+
+        // THEN
+        Project persistedProject = new ProjectRepository().findOne(projectId, new QueryParams());
+        assertThat(persistedProject.getName()).isEqualTo("sample project");
+        assertThat(persistedProject.getDescription()).isNull();
+        assertThat(persistedProject.getData().getData()).isEqualTo("sample data");
+    }
+
+    @Test
+    public void onInvalidAttributeShouldLeaveResourceUnchanged() throws Exception {
+        // GIVEN
+        Project project = new Project();
+        project.setName("sample project");
+        Long projectId = new ProjectRepository().save(project).getId();
+
+        RequestBody projectPatch = objectMapper.readValue("{\"data\": {\"type\": \"projects\", " +
+            "\"attributes\": {\"name\": \"project updated\", \"data\": [1]}}}", RequestBody.class);
+        JsonPath jsonPath = pathBuilder.buildPath("/projects/" + projectId);
+        ResourcePatch sut = new ResourcePatch(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        try {
+            sut.handle(jsonPath, new QueryParams(), null, projectPatch);
+            Assert.fail("Should have received exception.");
+        } catch (JsonMappingException e) {
+            // THEN
+            Project persistedProject = new ProjectRepository().findOne(projectId, new QueryParams());
+            assertThat(persistedProject.getName()).isEqualTo("sample project");
+            assertThat(persistedProject.getData()).isNull();
+        }
+    }
+
     @Test
     public void onResourceRelationshipNullifiedShouldSaveIt() throws Exception {
         // GIVEN
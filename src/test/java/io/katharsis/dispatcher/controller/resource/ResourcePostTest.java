@@ -4,22 +4,40 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.katharsis.dispatcher.controller.BaseControllerTest;
 import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.annotations.JsonApiFindOne;
+import io.katharsis.repository.annotations.JsonApiResourceRepository;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.LinkageData;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.dto.ResourceRelationships;
 import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathBuilder;
 import io.katharsis.request.path.ResourcePath;
+import io.katharsis.resource.annotations.JsonApiId;
+import io.katharsis.resource.annotations.JsonApiResource;
+import io.katharsis.resource.annotations.JsonApiToMany;
+import io.katharsis.resource.exception.RelatedResourcesNotFoundException;
 import io.katharsis.resource.exception.ResourceNotFoundException;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformationBuilder;
 import io.katharsis.resource.mock.models.*;
+import io.katharsis.resource.mock.repository.ProjectRepository;
 import io.katharsis.resource.mock.repository.TaskRepository;
 import io.katharsis.resource.mock.repository.TaskToProjectRepository;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.ResourceRegistryTest;
+import io.katharsis.resource.registry.repository.AnnotatedResourceEntryBuilder;
+import io.katharsis.resource.registry.repository.DirectResourceEntry;
+import io.katharsis.resource.registry.repository.ResourceEntry;
 import io.katharsis.response.HttpStatus;
 import io.katharsis.response.ResourceResponse;
 import org.junit.Assert;
 import org.junit.Test;
 
-import java.util.Collections;
+import java.io.Serializable;
+import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -205,6 +223,104 @@ public class ResourcePostTest extends BaseControllerTest {
         assertThat(((User) (taskResponse.getData())).getAssignedProjects().get(0).getId()).isEqualTo(projectId);
     }
 
+    @Test
+    public void onNewResourceWithManyLinkagesShouldSetRelationshipsInBodyOrder() throws Exception {
+        // GIVEN
+        ProjectRepository projectRepository = new ProjectRepository();
+        Long firstProjectId = projectRepository.save(new Project()).getId();
+        Long secondProjectId = projectRepository.save(new Project()).getId();
+
+        RequestBody newUserBody = new RequestBody();
+        DataBody data = new DataBody();
+        newUserBody.setData(data);
+        data.setType("users");
+        data.setRelationships(new ResourceRelationships());
+        data.getRelationships().setAdditionalProperty("assignedProjects", Arrays.asList(
+            new LinkageData("projects", secondProjectId.toString()),
+            new LinkageData("projects", firstProjectId.toString())));
+
+        JsonPath userPath = pathBuilder.buildPath("/users");
+        ResourcePost sut = new ResourcePost(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        ResourceResponse userResponse = sut.handle(userPath, new QueryParams(), null, newUserBody);
+
+        // THEN
+        List<Project> assignedProjects = ((User) (userResponse.getData())).getAssignedProjects();
+        assertThat(assignedProjects).hasSize(2);
+        assertThat(assignedProjects.get(0).getId()).isEqualTo(secondProjectId);
+        assertThat(assignedProjects.get(1).getId()).isEqualTo(firstProjectId);
+    }
+
+    @Test
+    public void onNewResourceWithMissingRelatedResourcesShouldReportAllMissingIds() throws Exception {
+        // GIVEN
+        Long projectId = new ProjectRepository().save(new Project()).getId();
+
+        RequestBody newUserBody = new RequestBody();
+        DataBody data = new DataBody();
+        newUserBody.setData(data);
+        data.setType("users");
+        data.setRelationships(new ResourceRelationships());
+        data.getRelationships().setAdditionalProperty("assignedProjects", Arrays.asList(
+            new LinkageData("projects", "-1"),
+            new LinkageData("projects", projectId.toString()),
+            new LinkageData("projects", "-2")));
+
+        JsonPath userPath = pathBuilder.buildPath("/users");
+        ResourcePost sut = new ResourcePost(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        try {
+            sut.handle(userPath, new QueryParams(), null, newUserBody);
+            Assert.fail("Should have received exception.");
+        } catch (RelatedResourcesNotFoundException e) {
+            // THEN
+            assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.NOT_FOUND_404);
+            assertThat(e.getErrorData().getDetail()).isEqualTo("Resources of type projects not found: -1, -2");
+            assertThat(e.getErrorData().getSourcePointer()).isEqualTo("/data/relationships/assignedProjects");
+        }
+    }
+
+    @Test
+    public void onNewResourceWithCustomIdLinkagesShouldMatchRelatedResourcesByIdString() throws Exception {
+        // GIVEN
+        MemberRepository memberRepository = new MemberRepository();
+        memberRepository.save(new Member(new Code("a")));
+        memberRepository.save(new Member(new Code("b")));
+        ResourceRegistry teamResourceRegistry = buildTeamResourceRegistry(
+            new DirectResourceEntry<Member, Code>(memberRepository));
+
+        // WHEN
+        ResourceResponse teamResponse = postTeam(teamResourceRegistry, "b", "a");
+
+        // THEN
+        List<Member> members = ((Team) (teamResponse.getData())).getMembers();
+        assertThat(members).hasSize(2);
+        assertThat(members.get(0).getId().toString()).isEqualTo("b");
+        assertThat(members.get(1).getId().toString()).isEqualTo("a");
+    }
+
+    @Test
+    public void onNewResourceWithRepositoryWithoutFindAllWithIdsShouldFindRelatedResourcesOneByOne()
+        throws Exception {
+        // GIVEN
+        MemberRepository memberRepository = new MemberRepository();
+        memberRepository.save(new Member(new Code("a")));
+        memberRepository.save(new Member(new Code("b")));
+        ResourceRegistry teamResourceRegistry = buildTeamResourceRegistry(
+            new AnnotatedResourceEntryBuilder<Member, Code>(new FindOneMemberRepository(memberRepository)));
+
+        // WHEN
+        ResourceResponse teamResponse = postTeam(teamResourceRegistry, "b", "a");
+
+        // THEN
+        List<Member> members = ((Team) (teamResponse.getData())).getMembers();
+        assertThat(members).hasSize(2);
+        assertThat(members.get(0).getId().toString()).isEqualTo("b");
+        assertThat(members.get(1).getId().toString()).isEqualTo("a");
+    }
+
     @Test
     public void onNewInheritedResourceShouldPersistThisResource() throws Exception {
         // GIVEN
@@ -230,4 +346,176 @@ public class ResourcePostTest extends BaseControllerTest {
         assertThat(persistedMemorandum.getTitle()).isEqualTo("sample title");
         assertThat(persistedMemorandum.getBody()).isEqualTo("sample body");
     }
+    private ResourceResponse postTeam(ResourceRegistry teamResourceRegistry, String... memberIds) throws Exception {
+        RequestBody newTeamBody = new RequestBody();
+        DataBody data = new DataBody();
+        newTeamBody.setData(data);
+        data.setType("teams");
+        data.setRelationships(new ResourceRelationships());
+        List<LinkageData> memberLinkages = new ArrayList<>();
+        for (String memberId : memberIds) {
+            memberLinkages.add(new LinkageData("members", memberId));
+        }
+        data.getRelationships().setAdditionalProperty("members", memberLinkages);
+
+        JsonPath teamPath = new PathBuilder(teamResourceRegistry).buildPath("/teams");
+        ResourcePost sut = new ResourcePost(teamResourceRegistry, typeParser, objectMapper);
+        return sut.handle(teamPath, new QueryParams(), null, newTeamBody);
+    }
+
+    private static ResourceRegistry buildTeamResourceRegistry(ResourceEntry<Member, Code> memberResourceEntry) {
+        ResourceInformationBuilder resourceInformationBuilder =
+            new ResourceInformationBuilder(new ResourceFieldNameTransformer());
+        ResourceRegistry resourceRegistry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        resourceRegistry.addEntry(Team.class, new RegistryEntry<>(resourceInformationBuilder.build(Team.class),
+            new DirectResourceEntry<Team, Long>(new TeamRepository())));
+        resourceRegistry.addEntry(Member.class, new RegistryEntry<>(resourceInformationBuilder.build(Member.class),
+            memberResourceEntry));
+        return resourceRegistry;
+    }
+
+    /**
+     * An id class without equals and hashCode, so ids parsed from a request are never equal to the stored ones.
+     */
+    public static class Code implements Serializable {
+        private final String value;
+
+        public Code(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
+    @JsonApiResource(type = "teams")
+    public static class Team {
+        @JsonApiId
+        private Long id;
+
+        @JsonApiToMany(lazy = false)
+        private List<Member> members;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public List<Member> getMembers() {
+            return members;
+        }
+
+        public void setMembers(List<Member> members) {
+            this.members = members;
+        }
+    }
+
+    @JsonApiResource(type = "members")
+    public static class Member {
+        @JsonApiId
+        private Code id;
+
+        public Member() {
+        }
+
+        public Member(Code id) {
+            this.id = id;
+        }
+
+        public Code getId() {
+            return id;
+        }
+
+        public void setId(Code id) {
+            this.id = id;
+        }
+    }
+
+    public static class TeamRepository implements ResourceRepository<Team, Long> {
+
+        @Override
+        public Team findOne(Long id, QueryParams queryParams) {
+            return null;
+        }
+
+        @Override
+        public Iterable<Team> findAll(QueryParams queryParams) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Iterable<Team> findAll(Iterable<Long> ids, QueryParams queryParams) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public <S extends Team> S save(S entity) {
+            entity.setId(1L);
+            return entity;
+        }
+
+        @Override
+        public void delete(Long id) {
+        }
+    }
+
+    /**
+     * Returns copies of the stored members with new id instances, as a repository loading them from a database would.
+     */
+    public static class MemberRepository implements ResourceRepository<Member, Code> {
+        private final Map<String, Member> members = new LinkedHashMap<>();
+
+        @Override
+        public Member findOne(Code id, QueryParams queryParams) {
+            return copy(members.get(id.toString()));
+        }
+
+        @Override
+        public Iterable<Member> findAll(QueryParams queryParams) {
+            return findAll(Collections.<Code>emptyList(), queryParams);
+        }
+
+        @Override
+        public Iterable<Member> findAll(Iterable<Code> ids, QueryParams queryParams) {
+            List<Member> foundMembers = new ArrayList<>();
+            for (Code id : ids) {
+                foundMembers.add(findOne(id, queryParams));
+            }
+            return foundMembers;
+        }
+
+        @Override
+        public <S extends Member> S save(S entity) {
+            members.put(entity.getId().toString(), entity);
+            return entity;
+        }
+
+        @Override
+        public void delete(Code id) {
+            members.remove(id.toString());
+        }
+
+        private static Member copy(Member member) {
+            return member == null ? null : new Member(new Code(member.getId().toString()));
+        }
+    }
+
+    @JsonApiResourceRepository(Member.class)
+    public static class FindOneMemberRepository {
+        private final MemberRepository memberRepository;
+
+        public FindOneMemberRepository(MemberRepository memberRepository) {
+            this.memberRepository = memberRepository;
+        }
+
+        @JsonApiFindOne
+        public Member findOne(Code id, QueryParams queryParams) {
+            return memberRepository.findOne(id, queryParams);
+        }
+    }
 }
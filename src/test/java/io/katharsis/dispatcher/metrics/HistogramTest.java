@@ -0,0 +1,54 @@
+package io.katharsis.dispatcher.metrics;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HistogramTest {
+
+    @Test
+    public void onRecordedDurationsShouldComputeStatistics() {
+        // GIVEN
+        Histogram sut = new Histogram();
+
+        // WHEN
+        sut.record(10);
+        sut.record(20);
+        sut.record(30);
+        sut.record(1000);
+
+        // THEN
+        assertThat(sut.getCount()).isEqualTo(4);
+        assertThat(sut.getTotalNanos()).isEqualTo(1060);
+        assertThat(sut.getMaxNanos()).isEqualTo(1000);
+        assertThat(sut.getMeanNanos()).isEqualTo(265);
+    }
+
+    @Test
+    public void onRecordedDurationsShouldReturnUpperBoundOfPercentileBucket() {
+        // GIVEN
+        Histogram sut = new Histogram();
+        for (int i = 0; i < 99; i++) {
+            sut.record(100);
+        }
+
+        // WHEN
+        sut.record(5000);
+
+        // THEN
+        assertThat(sut.getPercentileNanos(50)).isEqualTo(127);
+        assertThat(sut.getPercentileNanos(99)).isEqualTo(127);
+        assertThat(sut.getPercentileNanos(100)).isEqualTo(5000);
+    }
+
+    @Test
+    public void onNoRecordedDurationsShouldReturnZero() {
+        // GIVEN
+        Histogram sut = new Histogram();
+
+        // THEN
+        assertThat(sut.getCount()).isEqualTo(0);
+        assertThat(sut.getMeanNanos()).isEqualTo(0);
+        assertThat(sut.getPercentileNanos(99)).isEqualTo(0);
+    }
+}
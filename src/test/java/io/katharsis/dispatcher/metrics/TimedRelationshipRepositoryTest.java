@@ -0,0 +1,33 @@
+package io.katharsis.dispatcher.metrics;
+
+import io.katharsis.repository.RelationshipRepository;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.models.Task;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class TimedRelationshipRepositoryTest {
+
+    @Test
+    public void onRelationshipRepositoryCallShouldDelegateAndReportIt() {
+        // GIVEN
+        @SuppressWarnings("unchecked")
+        RelationshipRepository<Task, Long, Project, Long> relationshipRepository = mock(RelationshipRepository.class);
+        HistogramRequestListener requestListener = new HistogramRequestListener();
+        RequestTags tags = new RequestTags("tasks", "PATCH", null);
+        TimedRelationshipRepository<Task, Long, Project, Long> sut =
+            new TimedRelationshipRepository<>(relationshipRepository, requestListener, tags);
+        Task task = new Task();
+
+        // WHEN
+        sut.setRelations(task, Collections.singletonList(1L), "projects");
+
+        // THEN
+        verify(relationshipRepository, times(1)).setRelations(task, Collections.singletonList(1L), "projects");
+        assertThat(requestListener.getHistogram(RequestPhase.REPOSITORY, tags).getCount()).isEqualTo(1);
+    }
+}
@@ -1,6 +1,12 @@
 package io.katharsis.dispatcher.registry;
 
+import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.collection.CollectionGet;
+import io.katharsis.dispatcher.controller.resource.ResourceGet;
 import io.katharsis.locator.SampleJsonServiceLocator;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.PathBuilder;
 import io.katharsis.resource.field.ResourceFieldNameTransformer;
@@ -9,11 +15,17 @@ import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.resource.registry.ResourceRegistryBuilder;
 import io.katharsis.resource.registry.ResourceRegistryBuilderTest;
 import io.katharsis.resource.registry.ResourceRegistryTest;
+import io.katharsis.response.BaseResponse;
+import io.katharsis.utils.parser.TypeParser;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class ControllerRegistryTest {
 
     private ResourceRegistry resourceRegistry;
@@ -45,4 +57,100 @@ public class ControllerRegistryTest {
         // WHEN
         sut.getController(jsonPath, requestType);
     }
+
+    @Test
+    public void onRoutedRequestShouldReturnRoutedController() {
+        // GIVEN
+        PathBuilder pathBuilder = new PathBuilder(resourceRegistry);
+        CollectionGet collectionGet = new CollectionGet(resourceRegistry, new TypeParser(), null);
+        ResourceGet resourceGet = new ResourceGet(resourceRegistry, new TypeParser(), null);
+        ControllerRegistry sut = new ControllerRegistry(Arrays.<BaseController>asList(resourceGet, collectionGet));
+
+        // WHEN
+        BaseController collectionController = sut.getController(pathBuilder.buildPath("/tasks/"), "GET");
+        BaseController resourceController = sut.getController(pathBuilder.buildPath("/tasks/1"), "GET");
+
+        // THEN
+        assertThat(collectionController).isSameAs(collectionGet);
+        assertThat(resourceController).isSameAs(resourceGet);
+    }
+
+    @Test
+    public void onCustomControllerShouldFallBackToAcceptableCheck() {
+        // GIVEN
+        PathBuilder pathBuilder = new PathBuilder(resourceRegistry);
+        JsonPath jsonPath = pathBuilder.buildPath("/tasks/");
+        BaseController customController = new OptionsController();
+        ControllerRegistry sut = new ControllerRegistry(null);
+        sut.addController(new CollectionGet(resourceRegistry, new TypeParser(), null));
+        sut.addController(customController);
+
+        // WHEN
+        BaseController result = sut.getController(jsonPath, "OPTIONS");
+
+        // THEN
+        assertThat(result).isSameAs(customController);
+    }
+
+    @Test
+    public void onCustomControllerRegisteredBeforeRoutedControllerShouldReturnCustomController() {
+        // GIVEN
+        PathBuilder pathBuilder = new PathBuilder(resourceRegistry);
+        JsonPath jsonPath = pathBuilder.buildPath("/tasks/1");
+        BaseController customController = new CustomResourceGet();
+        ControllerRegistry sut = new ControllerRegistry(null);
+        sut.addController(customController);
+        sut.addController(new ResourceGet(resourceRegistry, new TypeParser(), null));
+
+        // WHEN
+        BaseController result = sut.getController(jsonPath, "GET");
+
+        // THEN
+        assertThat(result).isSameAs(customController);
+    }
+
+    @Test
+    public void onCustomControllerRegisteredAfterRoutedControllerShouldReturnRoutedController() {
+        // GIVEN
+        PathBuilder pathBuilder = new PathBuilder(resourceRegistry);
+        JsonPath jsonPath = pathBuilder.buildPath("/tasks/1");
+        ResourceGet resourceGet = new ResourceGet(resourceRegistry, new TypeParser(), null);
+        ControllerRegistry sut = new ControllerRegistry(null);
+        sut.addController(resourceGet);
+        sut.addController(new CustomResourceGet());
+
+        // WHEN
+        BaseController result = sut.getController(jsonPath, "GET");
+
+        // THEN
+        assertThat(result).isSameAs(resourceGet);
+    }
+
+    private static class CustomResourceGet extends BaseController {
+
+        @Override
+        public boolean isAcceptable(JsonPath jsonPath, String requestType) {
+            return !jsonPath.isCollection() && "GET".equals(requestType);
+        }
+
+        @Override
+        public BaseResponse<?> handle(JsonPath jsonPath, QueryParams queryParams,
+                                      RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody) {
+            return null;
+        }
+    }
+
+    private static class OptionsController extends BaseController {
+
+        @Override
+        public boolean isAcceptable(JsonPath jsonPath, String requestType) {
+            return "OPTIONS".equals(requestType);
+        }
+
+        @Override
+        public BaseResponse<?> handle(JsonPath jsonPath, QueryParams queryParams,
+                                      RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody) {
+            return null;
+        }
+    }
 }
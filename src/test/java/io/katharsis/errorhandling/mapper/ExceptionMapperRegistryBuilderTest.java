@@ -41,6 +41,16 @@ public class ExceptionMapperRegistryBuilderTest {
                 .contains(SomeExceptionMapper.SomeException.class);
     }
 
+    @Test
+    public void shouldContainIndexedExceptionMapper() throws Exception {
+        ExceptionMapperRegistry registry = builder.build(new IndexedExceptionMapperLookup("io.katharsis.errorhandling.handlers"));
+        assertThat(registry.getExceptionMappers())
+                .isNotNull()
+                .extracting("exceptionClass")
+                .contains(SomeExceptionMapper.SomeException.class)
+                .doesNotContain(NoAnnotationExceptionMapper.ShouldNotAppearException.class);
+    }
+
     @Test
     public void shouldNotContainNotAnnotatedExceptionMapper() throws Exception {
         ExceptionMapperRegistry registry = builder.build("io.katharsis.errorhandling.handlers");
@@ -14,6 +14,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.util.Arrays;
+import java.util.Iterator;
 
 import static net.javacrumbs.jsonunit.fluent.JsonFluentAssert.assertThatJson;
 
@@ -89,6 +90,83 @@ public class BaseResponseSerializerTest extends BaseSerializerTest {
         assertThatJson(result).node("data").isArray().ofLength(2);
     }
 
+    @Test
+    public void onCollectionResponseShouldIterateOverResourcesOnce() throws Exception {
+        // GIVEN
+        Project project = new Project();
+        project.setId(3L);
+        Task task = new Task().setId(1L);
+        task.setProject(project);
+        final Iterator<Task> oneTimeIterator = Arrays.asList(task, new Task().setId(2L)).iterator();
+        Iterable<Task> oneTimeIterable = new Iterable<Task>() {
+            private boolean consumed;
+
+            @Override
+            public Iterator<Task> iterator() {
+                if (consumed) {
+                    throw new IllegalStateException("Resources already consumed");
+                }
+                consumed = true;
+                return oneTimeIterator;
+            }
+        };
+
+        // WHEN
+        String result = sut.writeValueAsString(new CollectionResponse(oneTimeIterable,
+            new ResourcePath("tasks"), REQUEST_PARAMS, null, null));
+
+        // THEN
+        assertThatJson(result).node("data").isArray().ofLength(2);
+        assertThatJson(result).node("data[1].id").isEqualTo("\"2\"");
+        assertThatJson(result).node("included").isArray().ofLength(1);
+        assertThatJson(result).node("included[0].id").isEqualTo("\"3\"");
+    }
+
+    @Test
+    public void onCollectionResponseWithResourcesOfSameTypeAndIdShouldIncludeResourceOnce() throws Exception {
+        // GIVEN
+        Project project = new Project();
+        project.setId(3L);
+        Project sameProject = new Project();
+        sameProject.setId(3L);
+        Project otherProject = new Project();
+        otherProject.setId(4L);
+        Task task1 = new Task().setId(1L);
+        task1.setProject(project);
+        Task task2 = new Task().setId(2L);
+        task2.setProject(otherProject);
+        Task task3 = new Task().setId(5L);
+        task3.setProject(sameProject);
+
+        // WHEN
+        String result = sut.writeValueAsString(new CollectionResponse(Arrays.asList(task1, task2, task3),
+            new ResourcePath("tasks"), REQUEST_PARAMS, null, null));
+
+        // THEN
+        assertThatJson(result).node("included").isArray().ofLength(2);
+        assertThatJson(result).node("included[0].id").isEqualTo("\"3\"");
+        assertThatJson(result).node("included[1].id").isEqualTo("\"4\"");
+    }
+
+    @Test
+    public void onCollectionResponseWithIncludedResourceInDataShouldNotIncludeResource() throws Exception {
+        // GIVEN
+        Project project = new Project();
+        project.setId(3L);
+        Task task = new Task().setId(1L);
+        task.setProject(project);
+        Project sameProject = new Project();
+        sameProject.setId(3L);
+
+        // WHEN
+        String result = sut.writeValueAsString(new CollectionResponse(Arrays.asList(task, sameProject),
+            new ResourcePath("tasks"), REQUEST_PARAMS, null, null));
+
+        // THEN
+        assertThatJson(result).node("data").isArray().ofLength(2);
+        assertThatJson(result).node("included").isArray().ofLength(0);
+    }
+
     @Test
     public void onSingleResponseWithManyLinkagesShouldReturnArrayOfLinks() throws Exception {
         // GIVEN
@@ -42,6 +42,19 @@ public class ContainerSerializerTest extends BaseSerializerTest {
         assertThatJson(result).node("id").isEqualTo("\"1\"");
     }
 
+    @Test
+    public void onSimpleObjectWithoutIdShouldIncludeNullId() throws Exception {
+        // GIVEN
+        Project project = new Project();
+
+        // WHEN
+        String result = sut.writeValueAsString(new Container(project, testResponse));
+
+        // THEN
+        assertThatJson(result).node("id").isEqualTo("null");
+        assertThatJson(result).node("links.self").isEqualTo("https://service.local/projects/null");
+    }
+
     @Test
     public void onSimpleObjectShouldIncludeAttributes() throws Exception {
         // GIVEN
@@ -121,4 +134,47 @@ public class ContainerSerializerTest extends BaseSerializerTest {
         assertThatJson(result).node("relationships.project").isAbsent();
         assertThatJson(result).node("attributes.name").isAbsent();
     }
+
+    @Test
+    public void onNullAttributeShouldIncludeNullValue() throws Exception {
+        // GIVEN
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("name");
+
+        // WHEN
+        String result = sut.writeValueAsString(new Container(project, testResponse));
+
+        // THEN
+        assertThatJson(result).node("attributes.name").isEqualTo("name");
+        assertThatJson(result).node("attributes.description").isEqualTo(null);
+        assertThatJson(result).node("links.self").isEqualTo("https://service.local/projects/1");
+    }
+
+    @Test
+    public void onSubsequentRequestsWithDifferentFieldsShouldContainFieldsOfEachRequest() throws Exception {
+        // GIVEN
+        Project project = new Project();
+        project.setName("name");
+        project.setDescription("description");
+
+        QueryParamsBuilder queryParamsBuilder = new QueryParamsBuilder(new DefaultQueryParamsParser());
+        QueryParams nameQueryParams = queryParamsBuilder.buildQueryParams(
+            Collections.singletonMap("fields[projects]", Collections.singleton("name")));
+        QueryParams descriptionQueryParams = queryParamsBuilder.buildQueryParams(
+            Collections.singletonMap("fields[projects]", Collections.singleton("description")));
+        JsonPath jsonPath = new PathBuilder(resourceRegistry).buildPath("/projects");
+
+        // WHEN
+        String nameResult = sut.writeValueAsString(new Container(project, new ResourceResponse(null, jsonPath,
+            nameQueryParams, null, null)));
+        String descriptionResult = sut.writeValueAsString(new Container(project, new ResourceResponse(null, jsonPath,
+            descriptionQueryParams, null, null)));
+
+        // THEN
+        assertThatJson(nameResult).node("attributes.name").isEqualTo("name");
+        assertThatJson(nameResult).node("attributes.description").isAbsent();
+        assertThatJson(descriptionResult).node("attributes.name").isAbsent();
+        assertThatJson(descriptionResult).node("attributes.description").isEqualTo("description");
+    }
 }
@@ -8,6 +8,7 @@ import io.katharsis.resource.mock.models.User;
 import io.katharsis.response.Container;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static net.javacrumbs.jsonunit.fluent.JsonFluentAssert.assertThatJson;
@@ -44,6 +45,31 @@ public class RelationshipContainerSerializerTest extends BaseSerializerTest {
         assertThatJson(result).node("relationships.project.links.self").isEqualTo("https://service.local/tasks/1/relationships/project");
     }
 
+    @Test
+    public void onManyResourcesShouldIncludeRelationshipLinksOfEachResource() throws Exception {
+        // GIVEN
+        Task longIdTask = new Task();
+        longIdTask.setId(123456789L);
+        longIdTask.setProject(new Project());
+        Task shortIdTask = new Task();
+        shortIdTask.setId(1L);
+        shortIdTask.setProject(new Project());
+
+        // WHEN
+        String result = sut.writeValueAsString(Arrays.asList(new Container(longIdTask, testResponse),
+            new Container(shortIdTask, testResponse)));
+
+        // THEN
+        assertThatJson(result).node("[0].links.self").isEqualTo("https://service.local/tasks/123456789");
+        assertThatJson(result).node("[0].relationships.project.links.self")
+            .isEqualTo("https://service.local/tasks/123456789/relationships/project");
+        assertThatJson(result).node("[1].links.self").isEqualTo("https://service.local/tasks/1");
+        assertThatJson(result).node("[1].relationships.project.links.self")
+            .isEqualTo("https://service.local/tasks/1/relationships/project");
+        assertThatJson(result).node("[1].relationships.project.links.related")
+            .isEqualTo("https://service.local/tasks/1/project");
+    }
+
     @Test
     public void onRelationshipShouldIncludeRelationshipRelatedLink() throws Exception {
         // GIVEN
@@ -75,6 +101,21 @@ public class RelationshipContainerSerializerTest extends BaseSerializerTest {
         assertThatJson(result).node("relationships.project.data").isPresent();
     }
 
+    @Test
+    public void onToOneRelationshipWithoutIdShouldIncludeNullLinkageId() throws Exception {
+        // GIVEN
+        Task task = new Task();
+        task.setId(1L);
+        task.setProject(new Project());
+
+        // WHEN
+        String result = sut.writeValueAsString(new Container(task, testResponse));
+
+        // THEN
+        assertThatJson(result).node("relationships.project.data.type").isEqualTo("projects");
+        assertThatJson(result).node("relationships.project.data.id").isEqualTo("null");
+    }
+
     @Test
     public void onToManyLazyRelationshipShouldIncludeToOneRelationshipLinkage() throws Exception {
         // GIVEN
@@ -0,0 +1,69 @@
+package io.katharsis.queryParams;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryParamKeyParserTest {
+
+    @Test
+    public void onNestedKeyShouldReturnElements() {
+        // WHEN
+        List<String> result = QueryParamKeyParser.parse("filter[tasks][name][due-date_2]", "filter".length());
+
+        // THEN
+        assertThat(result).containsExactly("tasks", "name", "due-date_2");
+    }
+
+    @Test
+    public void onOperatorAndEmptyElementsShouldSkipNonElementCharacters() {
+        // WHEN
+        List<String> result = QueryParamKeyParser.parse("filter[tasks][name][][$startWith]", "filter".length());
+
+        // THEN
+        assertThat(result).containsExactly("tasks", "name", "startWith");
+    }
+
+    @Test
+    public void onAnyKeyShouldReturnSameElementsAsRegularExpression() {
+        // GIVEN
+        Pattern pattern = Pattern.compile("[\\w-]+(?<!\\[)(?=\\])");
+        String[] keys = {"[tasks][name]", "[tasks][]", "[a b]c]", "[[x]]]", "[\u0105][b]", "]", "[-]", "[tasks][name"};
+
+        for (String key : keys) {
+            // WHEN
+            List<String> result = QueryParamKeyParser.parse(key, 0);
+
+            // THEN
+            List<String> expected = new ArrayList<>();
+            Matcher matcher = pattern.matcher(key);
+            while (matcher.find()) {
+                expected.add(matcher.group());
+            }
+            assertThat(result).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void onElementWithSeparatorShouldReturnItsLastPart() {
+        // WHEN
+        List<String> result = QueryParamKeyParser.parse("fields[tasks.name]", "fields".length());
+
+        // THEN
+        assertThat(result).containsExactly("name");
+    }
+
+    @Test
+    public void onKeyWithoutElementsShouldReturnEmptyList() {
+        // WHEN
+        List<String> result = QueryParamKeyParser.parse("filter[tasks", "filter".length());
+
+        // THEN
+        assertThat(result).isEmpty();
+    }
+}
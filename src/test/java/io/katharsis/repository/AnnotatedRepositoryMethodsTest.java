@@ -0,0 +1,75 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.repository.adapter.AnnotatedRepositoryMethods;
+import io.katharsis.repository.annotations.JsonApiFindAll;
+import io.katharsis.repository.annotations.JsonApiFindOne;
+import io.katharsis.repository.annotations.JsonApiResourceRepository;
+import io.katharsis.resource.mock.models.Project;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnnotatedRepositoryMethodsTest {
+
+    @Test
+    public void onSameClassShouldReturnSameMethods() throws Exception {
+        // WHEN
+        AnnotatedRepositoryMethods first = AnnotatedRepositoryMethods.of(ProjectRepository.class);
+        AnnotatedRepositoryMethods second = AnnotatedRepositoryMethods.of(ProjectRepository.class);
+
+        // THEN
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    public void onAnnotatedMethodShouldReturnMethod() throws Exception {
+        // WHEN
+        Method result = AnnotatedRepositoryMethods.of(ProjectRepository.class).getMethod(JsonApiFindOne.class);
+
+        // THEN
+        assertThat(result).isEqualTo(ProjectRepository.class.getMethod("findOne", Long.class));
+    }
+
+    @Test
+    public void onMissingAnnotationShouldReturnNull() throws Exception {
+        // WHEN
+        Method result = AnnotatedRepositoryMethods.of(ProjectRepository.class).getMethod(JsonApiFindAll.class);
+
+        // THEN
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void onOverriddenAnnotatedMethodShouldReturnSubclassMethod() throws Exception {
+        // WHEN
+        Method result = AnnotatedRepositoryMethods.of(ProjectRepositorySubclass.class).getMethod(JsonApiFindOne.class);
+
+        // THEN
+        assertThat(result).isEqualTo(ProjectRepositorySubclass.class.getMethod("findOne", Long.class));
+    }
+
+    @JsonApiResourceRepository(Project.class)
+    public static class ProjectRepository {
+
+        @JsonApiFindOne
+        public Project findOne(Long id) {
+            return new Project();
+        }
+
+        public Iterable<Project> findAll(QueryParams queryParams) {
+            return null;
+        }
+    }
+
+    public static class ProjectRepositorySubclass extends ProjectRepository {
+
+        @Override
+        @JsonApiFindOne
+        public Project findOne(Long id) {
+            return null;
+        }
+    }
+}
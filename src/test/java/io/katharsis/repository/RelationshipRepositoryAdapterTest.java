@@ -12,6 +12,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Collections;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.eq;
@@ -241,6 +242,34 @@ public class RelationshipRepositoryAdapterTest {
         assertThat(projects.iterator().next().getId()).isEqualTo(42L);
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void onClassWithoutBulkInterfaceShouldThrowException() throws Exception {
+        // GIVEN
+        RelationshipRepositoryWithoutAnyMethods repo = new RelationshipRepositoryWithoutAnyMethods();
+        RelationshipRepositoryAdapter<Task, Long, Project, Long> sut = new RelationshipRepositoryAdapter<>(repo, parameterProvider);
+        assertThat(sut.bulkRepositoryAvailable()).isFalse();
+
+        // WHEN
+        sut.findBulkOneTargets(Collections.singleton(1L), "project", queryParams);
+    }
+
+    @Test
+    public void onClassWithBulkInterfaceShouldDelegateBulkCalls() throws Exception {
+        // GIVEN
+        BulkRelationshipRepositoryWithFindTargets repo = new BulkRelationshipRepositoryWithFindTargets();
+        RelationshipRepositoryAdapter<Task, Long, Project, Long> sut = new RelationshipRepositoryAdapter<>(repo, parameterProvider);
+
+        // WHEN
+        Map<Long, Project> projects = sut.findBulkOneTargets(Collections.singleton(1L), "project", queryParams);
+        Map<Long, Iterable<Project>> projectLists = sut.findBulkManyTargets(Collections.singleton(1L), "project",
+            queryParams);
+
+        // THEN
+        assertThat(sut.bulkRepositoryAvailable()).isTrue();
+        assertThat(projects.get(1L).getId()).isEqualTo(42L);
+        assertThat(projectLists.get(1L)).hasSize(1);
+    }
+
     @JsonApiRelationshipRepository(source = Task.class, target = Project.class)
     public static class RelationshipRepositoryWithoutAnyMethods {
     }
@@ -344,4 +373,23 @@ public class RelationshipRepositoryAdapterTest {
                 .setId(42L));
         }
     }
+
+    @JsonApiRelationshipRepository(source = Task.class, target = Project.class)
+    public static class BulkRelationshipRepositoryWithFindTargets
+        implements BulkRelationshipRepository<Task, Long, Project, Long> {
+
+        @Override
+        public Map<Long, Project> findBulkOneTargets(Iterable<Long> sourceIds, String fieldName,
+                                                     QueryParams queryParams) {
+            return Collections.singletonMap(1L, new Project()
+                .setId(42L));
+        }
+
+        @Override
+        public Map<Long, Iterable<Project>> findBulkManyTargets(Iterable<Long> sourceIds, String fieldName,
+                                                                QueryParams queryParams) {
+            return Collections.<Long, Iterable<Project>>singletonMap(1L, Collections.singleton(new Project()
+                .setId(42L)));
+        }
+    }
 }
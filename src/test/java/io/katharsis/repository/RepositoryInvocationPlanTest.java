@@ -0,0 +1,110 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.resource.mock.models.Project;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RepositoryInvocationPlanTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void onMethodShouldDetectQueryParamsParameters() throws Exception {
+        // WHEN
+        RepositoryInvocationPlan sut = new RepositoryInvocationPlan(
+            SampleRepository.class.getMethod("findOne", Long.class, QueryParams.class, String.class));
+
+        // THEN
+        assertThat(sut.getParameterCount()).isEqualTo(3);
+        assertThat(sut.isQueryParamsParameter(0)).isFalse();
+        assertThat(sut.isQueryParamsParameter(1)).isTrue();
+        assertThat(sut.isQueryParamsParameter(2)).isFalse();
+    }
+
+    @Test
+    public void onInvocationShouldPassParameters() throws Exception {
+        // GIVEN
+        RepositoryInvocationPlan sut = new RepositoryInvocationPlan(
+            SampleRepository.class.getMethod("findOne", Long.class, QueryParams.class, String.class));
+
+        // WHEN
+        Project result = sut.invoke(new SampleRepository(), new Object[]{1L, new QueryParams(), "sample"});
+
+        // THEN
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getName()).isEqualTo("sample");
+    }
+
+    @Test
+    public void onVoidMethodShouldReturnNull() throws Exception {
+        // GIVEN
+        RepositoryInvocationPlan sut = new RepositoryInvocationPlan(
+            SampleRepository.class.getMethod("delete", Long.class));
+
+        // WHEN
+        Object result = sut.invoke(new SampleRepository(), new Object[]{1L});
+
+        // THEN
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void onUncheckedExceptionShouldRethrowIt() throws Exception {
+        // GIVEN
+        RepositoryInvocationPlan sut = new RepositoryInvocationPlan(
+            SampleRepository.class.getMethod("failUnchecked"));
+
+        // THEN
+        expectedException.expect(IllegalStateException.class);
+
+        // WHEN
+        sut.invoke(new SampleRepository(), new Object[0]);
+    }
+
+    @Test
+    public void onCheckedExceptionShouldWrapIt() throws Exception {
+        // GIVEN
+        RepositoryInvocationPlan sut = new RepositoryInvocationPlan(
+            SampleRepository.class.getMethod("failChecked"));
+
+        // WHEN
+        Throwable result = null;
+        try {
+            sut.invoke(new SampleRepository(), new Object[0]);
+        } catch (RuntimeException e) {
+            result = e;
+        }
+
+        // THEN
+        assertThat(result).isExactlyInstanceOf(RuntimeException.class);
+        assertThat(result.getCause()).isExactlyInstanceOf(IOException.class);
+    }
+
+    private static class SampleRepository {
+
+        public Project findOne(Long id, QueryParams queryParams, String name) {
+            Project project = new Project();
+            project.setId(id);
+            project.setName(name);
+            return project;
+        }
+
+        public void delete(Long id) {
+        }
+
+        public void failUnchecked() {
+            throw new IllegalStateException();
+        }
+
+        public void failChecked() throws IOException {
+            throw new IOException();
+        }
+    }
+}
@@ -124,6 +124,54 @@ public class RequestBodyTest {
                 .hasSize(0);
     }
 
+    @Test
+    public void onPostDataWithManyResourcesShouldMapToListInBodyOrder() throws Exception {
+        // GIVEN
+        String body = "{\"data\": [{\"type\": \"tasks\", \"id\": 1, \"attributes\": {\"name\": \"first\"}}, " +
+                "{\"type\": \"tasks\", \"id\": \"2\", \"relationships\": {\"projects\": {\"data\": " +
+                "[{\"type\": \"projects\", \"id\": \"3\"}, {\"type\": \"projects\", \"id\": \"1\"}]}}}]}";
+
+        // WHEN
+        RequestBody result = objectMapper.readValue(body, RequestBody.class);
+
+        // THEN
+        assertThat(result.isMultiple()).isTrue();
+        Iterator<DataBody> dataBodies = result.getMultipleData().iterator();
+        DataBody first = dataBodies.next();
+        assertThat(first.getId()).isEqualTo("1");
+        assertThat(first.getAttributesBuffer()).isNotNull();
+        assertThat(first.getAttributes().get("name").asText()).isEqualTo("first");
+        DataBody second = dataBodies.next();
+        assertThat(second.getId()).isEqualTo("2");
+        assertThat(second.getAttributes()).isNull();
+        //noinspection unchecked
+        Iterable<LinkageData> linkages = (Iterable<LinkageData>) second.getRelationships()
+                .getAdditionalProperties().get("projects");
+        List<String> ids = new LinkedList<>();
+        for (LinkageData linkage : linkages) {
+            ids.add(linkage.getId());
+        }
+        assertThat(ids).containsExactly("3", "1");
+        assertThat(dataBodies.hasNext()).isFalse();
+    }
+
+    @Test
+    public void onPostDataWithRelationshipMembersOtherThanDataShouldSkipThem() throws Exception {
+        // GIVEN
+        String body = "{\"data\": {\"type\": \"tasks\", \"relationships\": {\"project\": " +
+                "{\"links\": {\"self\": \"/tasks/1\"}, \"data\": {\"type\": \"projects\", \"id\": \"123\"}, " +
+                "\"meta\": [1, 2]}}}, \"meta\": {\"count\": 1}}";
+
+        // WHEN
+        RequestBody result = objectMapper.readValue(body, RequestBody.class);
+
+        // THEN
+        LinkageData linkageData = (LinkageData) result.getSingleData().getRelationships()
+                .getAdditionalProperties().get("project");
+        assertThat(linkageData.getType()).isEqualTo("projects");
+        assertThat(linkageData.getId()).isEqualTo("123");
+    }
+
     private List<String> getList(Iterator<String> iter) {
         List<String> copy = new LinkedList<>();
         while (iter.hasNext())
@@ -23,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class PathBuilderTest {
 
+    private ResourceRegistry resourceRegistry;
     private PathBuilder pathBuilder;
 
     @Rule
@@ -34,7 +35,7 @@ public class PathBuilderTest {
             new ResourceFieldNameTransformer());
         ResourceRegistryBuilder registryBuilder = new ResourceRegistryBuilder(new SampleJsonServiceLocator(),
             resourceInformationBuilder);
-        ResourceRegistry resourceRegistry = registryBuilder
+        resourceRegistry = registryBuilder
             .build(ResourceRegistryBuilderTest.TEST_MODELS_PACKAGE, ResourceRegistryTest.TEST_MODELS_URL);
 
         pathBuilder = new PathBuilder(resourceRegistry);
@@ -286,4 +287,63 @@ public class PathBuilderTest {
         expectedPath.setParentResource(new ResourcePath("tasks", new PathIds("1")));
         assertThat(jsonPath).isEqualTo(expectedPath);
     }
+
+    @Test
+    public void onCachedTemplateShouldReturnPathWithRequestIds() {
+        // GIVEN
+        PathBuilder sut = new PathBuilder(resourceRegistry, 10);
+        sut.buildPath("/tasks/1/relationships/project");
+
+        // WHEN
+        JsonPath jsonPath = sut.buildPath("/tasks/2,3/relationships/project/");
+
+        // THEN
+        JsonPath expectedPath = new RelationshipsPath("project");
+        expectedPath.setParentResource(new ResourcePath("tasks", new PathIds(Arrays.asList("2", "3"))));
+        assertThat(jsonPath).isEqualTo(expectedPath);
+        assertThat(jsonPath.getParentResource().getChildResource()).isSameAs(jsonPath);
+    }
+
+    @Test
+    public void onCachedTemplateShouldReturnNewPathInstance() {
+        // GIVEN
+        PathBuilder sut = new PathBuilder(resourceRegistry, 10);
+        JsonPath firstPath = sut.buildPath("/tasks/1");
+
+        // WHEN
+        JsonPath secondPath = sut.buildPath("/tasks/1");
+
+        // THEN
+        assertThat(secondPath).isEqualTo(firstPath);
+        assertThat(secondPath).isNotSameAs(firstPath);
+        assertThat(secondPath.getIds()).isNotSameAs(firstPath.getIds());
+    }
+
+    @Test
+    public void onCachedTemplateWithoutIdsShouldReturnCollectionPath() {
+        // GIVEN
+        PathBuilder sut = new PathBuilder(resourceRegistry, 10);
+        sut.buildPath("/tasks/1");
+
+        // WHEN
+        JsonPath jsonPath = sut.buildPath("/tasks");
+
+        // THEN
+        assertThat(jsonPath).isEqualTo(new ResourcePath("tasks"));
+        assertThat(jsonPath.isCollection()).isTrue();
+    }
+
+    @Test
+    public void onCachedPathWithIdsInNestedElementShouldThrowException() {
+        // GIVEN
+        PathBuilder sut = new PathBuilder(resourceRegistry, 10);
+        sut.buildPath("/tasks/1/project");
+
+        // THEN
+        expectedException.expect(ResourceException.class);
+        expectedException.expectMessage("RelationshipsPath and FieldPath cannot contain ids");
+
+        // WHEN
+        sut.buildPath("/tasks/1/project/2");
+    }
 }
@@ -46,6 +46,19 @@ public class ResourceInformationBuilderTest {
             .isEqualTo("id");
     }
 
+    @Test
+    public void shouldBindAccessorsToResourceFields() throws Exception {
+        ResourceInformation resourceInformation = resourceInformationBuilder.build(Task.class);
+        Task task = new Task();
+
+        resourceInformation.getIdField().setValue(task, 1L);
+        resourceInformation.findAttributeFieldByName("name").setValue(task, "value");
+
+        assertThat(resourceInformation.getIdField().getAccessor()).isNotNull();
+        assertThat(task.getId()).isEqualTo(1L);
+        assertThat(resourceInformation.findAttributeFieldByName("name").getValue(task)).isEqualTo("value");
+    }
+
     @Test
     public void shouldThrowExceptionWhenResourceWithNoIdAnnotation() {
         expectedException.expect(ResourceIdNotFoundException.class);
@@ -0,0 +1,29 @@
+package io.katharsis.resource.exception;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceNotFoundExceptionTest {
+
+    @Test
+    public void onDefaultConstructorShouldCaptureStackTrace() {
+        // WHEN
+        ResourceNotFoundException exception = new ResourceNotFoundException("/tasks");
+
+        // THEN
+        assertThat(exception.getMessage()).isEqualTo("/tasks");
+        assertThat(exception.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    public void onStacklessConstructorShouldNotCaptureStackTrace() {
+        // WHEN
+        ResourceNotFoundException exception = new ResourceNotFoundException("/tasks", false);
+        exception.setStackTrace(new Throwable().getStackTrace());
+
+        // THEN
+        assertThat(exception.getMessage()).isEqualTo("/tasks");
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
+}
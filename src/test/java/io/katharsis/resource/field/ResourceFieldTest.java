@@ -26,6 +26,19 @@ public class ResourceFieldTest {
         assertThat(result).isTrue();
     }
 
+    @Test
+    public void onJsonNameShouldReturnEncodedJsonName() throws Exception {
+        // GIVEN
+        ResourceField sut = new ResourceField("na\"me", "name", String.class, String.class);
+
+        // WHEN
+        String result = new String(sut.getSerializedJsonName().asQuotedUTF8(), "UTF-8");
+
+        // THEN
+        assertThat(sut.getSerializedJsonName().getValue()).isEqualTo("na\"me");
+        assertThat(result).isEqualTo("na\\\"me");
+    }
+
     @Test
     public void onWithToManyEagerFieldClassShouldReturnFalse() throws Exception {
         // GIVEN
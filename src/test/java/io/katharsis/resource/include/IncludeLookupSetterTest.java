@@ -0,0 +1,466 @@
+package io.katharsis.resource.include;
+
+import io.katharsis.queryParams.DefaultQueryParamsParser;
+import io.katharsis.queryParams.QueryParams;
+import io.katharsis.queryParams.QueryParamsBuilder;
+import io.katharsis.repository.BulkRelationshipRepository;
+import io.katharsis.repository.RelationshipRepository;
+import io.katharsis.repository.annotations.JsonApiFindOneTarget;
+import io.katharsis.repository.annotations.JsonApiRelationshipRepository;
+import io.katharsis.resource.RestrictedQueryParamsMembers;
+import io.katharsis.resource.annotations.JsonApiId;
+import io.katharsis.resource.annotations.JsonApiLookupIncludeAutomatically;
+import io.katharsis.resource.annotations.JsonApiResource;
+import io.katharsis.resource.annotations.JsonApiToOne;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.mock.repository.ProjectRepository;
+import io.katharsis.resource.mock.repository.TaskRepository;
+import io.katharsis.resource.mock.repository.TaskToProjectRepository;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.ResourceRegistryTest;
+import io.katharsis.resource.registry.repository.AnnotatedRelationshipEntryBuilder;
+import io.katharsis.resource.registry.repository.AnnotatedResourceEntryBuilder;
+import io.katharsis.resource.registry.repository.DirectRelationshipEntry;
+import io.katharsis.resource.registry.repository.RelationshipEntry;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IncludeLookupSetterTest {
+
+    @Test
+    public void onBulkRepositoryShouldLoadToOneRelationshipsWithSingleCall() throws Exception {
+        // GIVEN
+        BulkTaskToProjectRepository repository = new BulkTaskToProjectRepository();
+        IncludeLookupSetter sut = new IncludeLookupSetter(buildResourceRegistry(repository));
+        List<Task> tasks = Arrays.asList(new Task().setId(1L), new Task().setId(2L), new Task().setId(3L));
+
+        // WHEN
+        sut.setIncludedElements("tasks", tasks, buildQueryParams("includedProject"), null);
+
+        // THEN
+        assertThat(repository.bulkCalls).isEqualTo(1);
+        assertThat(repository.singleCalls).isEqualTo(0);
+        assertThat(tasks.get(0).getIncludedProject().getId()).isEqualTo(10L);
+        assertThat(tasks.get(1).getIncludedProject().getId()).isEqualTo(20L);
+        assertThat(tasks.get(2).getIncludedProject()).isNull();
+    }
+
+    @Test
+    public void onBulkRepositoryShouldLoadToManyRelationshipsWithSingleCall() throws Exception {
+        // GIVEN
+        BulkTaskToProjectRepository repository = new BulkTaskToProjectRepository();
+        IncludeLookupSetter sut = new IncludeLookupSetter(buildResourceRegistry(repository));
+        List<Task> tasks = Arrays.asList(new Task().setId(1L), new Task().setId(2L));
+
+        // WHEN
+        sut.setIncludedElements("tasks", tasks, buildQueryParams("includedProjects"), null);
+
+        // THEN
+        assertThat(repository.bulkCalls).isEqualTo(1);
+        assertThat(tasks.get(0).getIncludedProjects()).hasSize(1);
+        assertThat(tasks.get(0).getIncludedProjects().get(0).getId()).isEqualTo(10L);
+        assertThat(tasks.get(1).getIncludedProjects().get(0).getId()).isEqualTo(20L);
+    }
+
+    @Test
+    public void onBulkRepositoryShouldNotLoadAlreadySetRelationships() throws Exception {
+        // GIVEN
+        BulkTaskToProjectRepository repository = new BulkTaskToProjectRepository();
+        IncludeLookupSetter sut = new IncludeLookupSetter(buildResourceRegistry(repository));
+        Project project = new Project();
+        project.setId(5L);
+        Task loadedTask = new Task().setId(1L);
+        loadedTask.setIncludedProject(project);
+        List<Task> tasks = Arrays.asList(loadedTask, new Task().setId(2L));
+
+        // WHEN
+        sut.setIncludedElements("tasks", tasks, buildQueryParams("includedProject"), null);
+
+        // THEN
+        assertThat(repository.requestedSourceIds).containsExactly(2L);
+        assertThat(loadedTask.getIncludedProject()).isSameAs(project);
+        assertThat(tasks.get(1).getIncludedProject().getId()).isEqualTo(20L);
+    }
+
+    @Test
+    public void onNonBulkRepositoryShouldLoadRelationshipOfEachResource() throws Exception {
+        // GIVEN
+        CountingTaskToProjectRepository repository = new CountingTaskToProjectRepository();
+        IncludeLookupSetter sut = new IncludeLookupSetter(buildResourceRegistry(repository));
+        List<Task> tasks = Arrays.asList(new Task().setId(1L), new Task().setId(2L));
+
+        // WHEN
+        sut.setIncludedElements("tasks", tasks, buildQueryParams("includedProject"), null);
+
+        // THEN
+        assertThat(repository.singleCalls).isEqualTo(2);
+        assertThat(tasks.get(0).getIncludedProject().getId()).isEqualTo(10L);
+        assertThat(tasks.get(1).getIncludedProject().getId()).isEqualTo(20L);
+    }
+
+    @Test
+    public void onAnnotatedBulkRepositoryShouldLoadRelationshipsWithSingleCall() throws Exception {
+        // GIVEN
+        AnnotatedBulkTaskToProjectRepository repository = new AnnotatedBulkTaskToProjectRepository();
+        IncludeLookupSetter sut = new IncludeLookupSetter(
+            buildResourceRegistry(new AnnotatedRelationshipEntryBuilder<Task, Project>(repository)));
+        List<Task> tasks = Arrays.asList(new Task().setId(1L), new Task().setId(2L));
+
+        // WHEN
+        sut.setIncludedElements("tasks", tasks, buildQueryParams("includedProject"), null);
+
+        // THEN
+        assertThat(repository.bulkCalls).isEqualTo(1);
+        assertThat(tasks.get(0).getIncludedProject().getId()).isEqualTo(10L);
+        assertThat(tasks.get(1).getIncludedProject().getId()).isEqualTo(20L);
+    }
+
+    @Test
+    public void onPathThroughNonResourceShouldSkipIt() throws Exception {
+        // GIVEN
+        NodeToNodeRepository repository = new NodeToNodeRepository();
+        IncludeLookupSetter sut = new IncludeLookupSetter(buildNodeResourceRegistry(repository));
+        Node root = repository.getNode(1L);
+        Label label = new Label();
+        root.setLabel(label);
+
+        // WHEN
+        sut.setIncludedElements("nodes", root, buildQueryParams("nodes", new String[]{"label.text", "left"}), null);
+
+        // THEN
+        assertThat(root.getLabel()).isSameAs(label);
+        assertThat(root.getLeft().getId()).isEqualTo(2L);
+    }
+
+    @Test
+    public void onExecutorShouldResolveIndependentPathsConcurrently() throws Exception {
+        // GIVEN
+        CountingTaskToProjectRepository repository = new CountingTaskToProjectRepository();
+        final List<Thread> executorThreads = new CopyOnWriteArrayList<>();
+        Executor executor = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                Thread thread = new Thread(command);
+                executorThreads.add(thread);
+                thread.start();
+            }
+        };
+        IncludeLookupSetter sut = new IncludeLookupSetter(buildResourceRegistry(repository), executor, 2);
+        List<Task> tasks = Arrays.asList(new Task().setId(1L), new Task().setId(2L));
+
+        // WHEN
+        sut.setIncludedElements("tasks", tasks, buildQueryParams("includedProject", "includedProjects"), null);
+
+        // THEN
+        assertThat(executorThreads).hasSize(1);
+        assertThat(repository.singleCalls).isEqualTo(4);
+        assertThat(tasks.get(1).getIncludedProject().getId()).isEqualTo(20L);
+        assertThat(tasks.get(1).getIncludedProjects().get(0).getId()).isEqualTo(20L);
+    }
+
+    @Test
+    public void onRejectingExecutorShouldResolvePathsInCallingThread() throws Exception {
+        // GIVEN
+        CountingTaskToProjectRepository repository = new CountingTaskToProjectRepository();
+        Executor executor = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        };
+        IncludeLookupSetter sut = new IncludeLookupSetter(buildResourceRegistry(repository), executor, 2);
+        List<Task> tasks = Arrays.asList(new Task().setId(1L), new Task().setId(2L));
+
+        // WHEN
+        sut.setIncludedElements("tasks", tasks, buildQueryParams("includedProject", "includedProjects"), null);
+
+        // THEN
+        assertThat(tasks.get(0).getIncludedProject().getId()).isEqualTo(10L);
+        assertThat(tasks.get(0).getIncludedProjects().get(0).getId()).isEqualTo(10L);
+    }
+
+    @Test
+    public void onExecutorAndPathsSharingNestedRelationshipShouldLoadItOnce() throws Exception {
+        // GIVEN
+        NodeToNodeRepository repository = new NodeToNodeRepository();
+        Executor executor = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                new Thread(command).start();
+            }
+        };
+        IncludeLookupSetter sut = new IncludeLookupSetter(buildNodeResourceRegistry(repository), executor, 2);
+        Node root = repository.getNode(1L);
+
+        // WHEN
+        sut.setIncludedElements("nodes", root, buildQueryParams("nodes", new String[]{"left.next", "right.next"}), null);
+
+        // THEN
+        assertThat(root.getLeft()).isSameAs(root.getRight());
+        assertThat(root.getLeft().getNext().getId()).isEqualTo(3L);
+        assertThat(repository.calls).containsOnly("1.left", "1.right", "2.next");
+        assertThat(repository.calls).hasSize(3);
+    }
+
+    private static ResourceRegistry buildResourceRegistry(TaskToProjectRepository relationshipRepository) {
+        return buildResourceRegistry(new DirectRelationshipEntry<Task, Project>(relationshipRepository));
+    }
+
+    private static ResourceRegistry buildResourceRegistry(RelationshipEntry<Task, ?> relationshipEntry) {
+        ResourceInformationBuilder resourceInformationBuilder =
+            new ResourceInformationBuilder(new ResourceFieldNameTransformer());
+        ResourceRegistry resourceRegistry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        List<RelationshipEntry<Task, ?>> relationshipEntries = new LinkedList<>();
+        relationshipEntries.add(relationshipEntry);
+        resourceRegistry.addEntry(Task.class, new RegistryEntry<>(resourceInformationBuilder.build(Task.class),
+            new AnnotatedResourceEntryBuilder<Task, Long>(new TaskRepository()), relationshipEntries));
+        resourceRegistry.addEntry(Project.class, new RegistryEntry<>(resourceInformationBuilder.build(Project.class),
+            new AnnotatedResourceEntryBuilder<Project, Long>(new ProjectRepository())));
+        return resourceRegistry;
+    }
+
+    private static ResourceRegistry buildNodeResourceRegistry(NodeToNodeRepository relationshipRepository) {
+        ResourceInformationBuilder resourceInformationBuilder =
+            new ResourceInformationBuilder(new ResourceFieldNameTransformer());
+        ResourceRegistry resourceRegistry = new ResourceRegistry(ResourceRegistryTest.TEST_MODELS_URL);
+        List<RelationshipEntry<Node, ?>> relationshipEntries = new LinkedList<>();
+        relationshipEntries.add(new DirectRelationshipEntry<Node, Node>(relationshipRepository));
+        resourceRegistry.addEntry(Node.class, new RegistryEntry<>(resourceInformationBuilder.build(Node.class),
+            null, relationshipEntries));
+        return resourceRegistry;
+    }
+
+    private static QueryParams buildQueryParams(String... inclusions) {
+        return buildQueryParams("tasks", inclusions);
+    }
+
+    private static QueryParams buildQueryParams(String resourceType, String[] inclusions) {
+        Map<String, Set<String>> queryParams = new HashMap<>();
+        // each key holds a single inclusion, empty brackets make the keys unique
+        String key = RestrictedQueryParamsMembers.include.name() + "[" + resourceType + "]";
+        for (String inclusion : inclusions) {
+            queryParams.put(key, Collections.singleton(inclusion));
+            key += "[]";
+        }
+        return new QueryParamsBuilder(new DefaultQueryParamsParser()).buildQueryParams(queryParams);
+    }
+
+    private static Project projectOf(Long sourceId) {
+        Project project = new Project();
+        project.setId(sourceId * 10);
+        return project;
+    }
+
+    private static class CountingTaskToProjectRepository extends TaskToProjectRepository {
+        volatile int singleCalls;
+
+        @Override
+        public synchronized Project findOneTarget(Long sourceId, String fieldName, QueryParams queryParams) {
+            singleCalls++;
+            return projectOf(sourceId);
+        }
+
+        @Override
+        public synchronized Iterable<Project> findManyTargets(Long sourceId, String fieldName,
+                                                              QueryParams queryParams) {
+            singleCalls++;
+            return Collections.singletonList(projectOf(sourceId));
+        }
+    }
+
+    private static class BulkTaskToProjectRepository extends CountingTaskToProjectRepository
+        implements BulkRelationshipRepository<Task, Long, Project, Long> {
+        int bulkCalls;
+        List<Long> requestedSourceIds = new ArrayList<>();
+
+        @Override
+        public Map<Long, Project> findBulkOneTargets(Iterable<Long> sourceIds, String fieldName,
+                                                     QueryParams queryParams) {
+            bulkCalls++;
+            Map<Long, Project> targets = new HashMap<>();
+            for (Long sourceId : sourceIds) {
+                requestedSourceIds.add(sourceId);
+                if (sourceId < 3) {
+                    targets.put(sourceId, projectOf(sourceId));
+                }
+            }
+            return targets;
+        }
+
+        @Override
+        public Map<Long, Iterable<Project>> findBulkManyTargets(Iterable<Long> sourceIds, String fieldName,
+                                                                QueryParams queryParams) {
+            bulkCalls++;
+            Map<Long, Iterable<Project>> targets = new HashMap<>();
+            for (Long sourceId : sourceIds) {
+                requestedSourceIds.add(sourceId);
+                targets.put(sourceId, Collections.singletonList(projectOf(sourceId)));
+            }
+            return targets;
+        }
+    }
+
+    @JsonApiRelationshipRepository(source = Task.class, target = Project.class)
+    public static class AnnotatedBulkTaskToProjectRepository
+        implements BulkRelationshipRepository<Task, Long, Project, Long> {
+        int bulkCalls;
+
+        @JsonApiFindOneTarget
+        public Project findOneTarget(Long sourceId, String fieldName, QueryParams queryParams) {
+            throw new UnsupportedOperationException("Targets must be found with a bulk call");
+        }
+
+        @Override
+        public Map<Long, Project> findBulkOneTargets(Iterable<Long> sourceIds, String fieldName,
+                                                     QueryParams queryParams) {
+            bulkCalls++;
+            Map<Long, Project> targets = new HashMap<>();
+            for (Long sourceId : sourceIds) {
+                targets.put(sourceId, projectOf(sourceId));
+            }
+            return targets;
+        }
+
+        @Override
+        public Map<Long, Iterable<Project>> findBulkManyTargets(Iterable<Long> sourceIds, String fieldName,
+                                                                QueryParams queryParams) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @JsonApiResource(type = "nodes")
+    public static class Node {
+        @JsonApiId
+        private Long id;
+
+        @JsonApiToOne
+        @JsonApiLookupIncludeAutomatically
+        private Node left;
+
+        @JsonApiToOne
+        @JsonApiLookupIncludeAutomatically
+        private Node right;
+
+        @JsonApiToOne
+        @JsonApiLookupIncludeAutomatically
+        private Node next;
+
+        @JsonApiToOne
+        private Label label;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Node getLeft() {
+            return left;
+        }
+
+        public void setLeft(Node left) {
+            this.left = left;
+        }
+
+        public Node getRight() {
+            return right;
+        }
+
+        public void setRight(Node right) {
+            this.right = right;
+        }
+
+        public Node getNext() {
+            return next;
+        }
+
+        public void setNext(Node next) {
+            this.next = next;
+        }
+
+        public Label getLabel() {
+            return label;
+        }
+
+        public void setLabel(Label label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * A relationship value which is not a resource.
+     */
+    public static class Label {
+        private String text;
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+    }
+
+    /**
+     * Both the left and the right node of node 1 is node 2, the next node of node 2 is node 3.
+     */
+    public static class NodeToNodeRepository implements RelationshipRepository<Node, Long, Node, Long> {
+        final List<String> calls = new CopyOnWriteArrayList<>();
+        private final Map<Long, Node> nodes = new HashMap<>();
+
+        NodeToNodeRepository() {
+            for (long id = 1; id <= 3; id++) {
+                Node node = new Node();
+                node.setId(id);
+                nodes.put(id, node);
+            }
+        }
+
+        Node getNode(Long id) {
+            return nodes.get(id);
+        }
+
+        @Override
+        public Node findOneTarget(Long sourceId, String fieldName, QueryParams queryParams) {
+            calls.add(sourceId + "." + fieldName);
+            if (sourceId == 1L) {
+                return nodes.get(2L);
+            }
+            return sourceId == 2L && "next".equals(fieldName) ? nodes.get(3L) : null;
+        }
+
+        @Override
+        public Iterable<Node> findManyTargets(Long sourceId, String fieldName, QueryParams queryParams) {
+            return null;
+        }
+
+        @Override
+        public void setRelation(Node source, Long targetId, String fieldName) {
+        }
+
+        @Override
+        public void setRelations(Node source, Iterable<Long> targetIds, String fieldName) {
+        }
+
+        @Override
+        public void addRelations(Node source, Iterable<Long> targetIds, String fieldName) {
+        }
+
+        @Override
+        public void removeRelations(Node source, Iterable<Long> targetIds, String fieldName) {
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.katharsis.resource.registry;
+
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.mock.repository.TaskRepository;
+import io.katharsis.resource.mock.repository.TaskToProjectRepository;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IndexedResourceLookupTest {
+
+    @Test
+    public void onIndexedPackageShouldFindSameClassesAsClasspathScanning() {
+        // GIVEN
+        ResourceLookup defaultLookup = new DefaultResourceLookup(ResourceRegistryBuilderTest.TEST_MODELS_PACKAGE);
+
+        // WHEN
+        ResourceLookup sut = new IndexedResourceLookup(ResourceRegistryBuilderTest.TEST_MODELS_PACKAGE);
+
+        // THEN
+        assertThat(sut.getResourceClasses())
+            .contains(Task.class, Project.class)
+            .containsOnlyElementsOf(defaultLookup.getResourceClasses())
+            .hasSameSizeAs(defaultLookup.getResourceClasses());
+        assertThat(sut.getResourceRepositoryClasses())
+            .contains(TaskRepository.class, TaskToProjectRepository.class)
+            .containsOnlyElementsOf(defaultLookup.getResourceRepositoryClasses())
+            .hasSameSizeAs(defaultLookup.getResourceRepositoryClasses());
+    }
+
+    @Test
+    public void onNotIndexedPackageShouldReturnNoClasses() {
+        // WHEN
+        ResourceLookup sut = new IndexedResourceLookup("io.katharsis.nonexistent");
+
+        // THEN
+        assertThat(sut.getResourceClasses()).isEmpty();
+        assertThat(sut.getResourceRepositoryClasses()).isEmpty();
+    }
+}
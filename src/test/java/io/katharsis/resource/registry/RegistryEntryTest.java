@@ -8,6 +8,8 @@ import io.katharsis.resource.mock.repository.TaskRepository;
 import io.katharsis.resource.mock.repository.TaskToProjectRepository;
 import io.katharsis.resource.registry.repository.AnnotatedResourceEntryBuilder;
 import io.katharsis.resource.registry.repository.DirectRelationshipEntry;
+import io.katharsis.utils.accessor.BeanAccessor;
+import io.katharsis.utils.accessor.PropertyAccessor;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 import org.junit.Rule;
@@ -85,6 +87,8 @@ public class RegistryEntryTest {
         RegistryEntry red = new RegistryEntry(new ResourceInformation(Long.class, null, null, null), null);
         EqualsVerifier.forClass(RegistryEntry.class)
                 .withPrefabValues(RegistryEntry.class, blue, red)
+                .withPrefabValues(PropertyAccessor.class, BeanAccessor.of(Task.class).getAccessor("id"),
+                    BeanAccessor.of(Task.class).getAccessor("name"))
                 .withPrefabValues(Field.class, String.class.getDeclaredField("value"), String.class.getDeclaredField("hash"))
                 .usingGetClass()
                 .suppress(Warning.NONFINAL_FIELDS)
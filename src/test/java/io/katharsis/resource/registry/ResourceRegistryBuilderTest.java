@@ -16,6 +16,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static io.katharsis.resource.registry.ResourceRegistryTest.TEST_MODELS_URL;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -164,4 +165,59 @@ public class ResourceRegistryBuilderTest {
         RegistryEntry tasksEntry = resourceRegistry.getEntry("tasks");
         assertThat(tasksEntry.getParentRegistryEntry()).isNull();
     }
+
+    @Test
+    public void onForkJoinPoolShouldBuildSameRegistryAsSequentialBuild() {
+        // GIVEN
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        ResourceRegistryBuilder sequentialBuilder = new ResourceRegistryBuilder(new SampleJsonServiceLocator(),
+            resourceInformationBuilder);
+        ResourceRegistryBuilder sut = new ResourceRegistryBuilder(new SampleJsonServiceLocator(),
+            resourceInformationBuilder, forkJoinPool);
+
+        try {
+            // WHEN
+            ResourceRegistry expected = sequentialBuilder.build(TEST_MODELS_PACKAGE, TEST_MODELS_URL);
+            ResourceRegistry result = sut.build(TEST_MODELS_PACKAGE, TEST_MODELS_URL);
+
+            // THEN
+            assertThat(result.getResources().keySet()).isEqualTo(expected.getResources().keySet());
+            for (Class<?> resourceClass : expected.getResources().keySet()) {
+                RegistryEntry expectedEntry = expected.getEntry(resourceClass);
+                RegistryEntry entry = result.getEntry(resourceClass);
+                assertThat(entry.getResourceInformation()).isEqualTo(expectedEntry.getResourceInformation());
+                assertThat(entry.getRelationshipEntries()).hasSameSizeAs(expectedEntry.getRelationshipEntries());
+            }
+            RegistryEntry memorandaEntry = result.getEntry("memoranda");
+            assertThat(memorandaEntry.getParentRegistryEntry().getResourceInformation().getResourceClass())
+                .isEqualTo(Document.class);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    @Test
+    public void onForkJoinPoolAndNoRepositoryInstanceShouldThrowException() {
+        // GIVEN
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        ResourceRegistryBuilder sut = new ResourceRegistryBuilder(new SampleJsonServiceLocator() {
+            public <T> T getInstance(Class<T> clazz) {
+                if (clazz == TaskRepository.class) {
+                    return null;
+                } else {
+                    return super.getInstance(clazz);
+                }
+            }
+        }, resourceInformationBuilder, forkJoinPool);
+
+        // THEN
+        expectedException.expect(RepositoryInstanceNotFoundException.class);
+
+        // WHEN
+        try {
+            sut.build(TEST_MODELS_PACKAGE, TEST_MODELS_URL);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
 }
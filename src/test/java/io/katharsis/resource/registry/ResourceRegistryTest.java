@@ -53,4 +53,55 @@ public class ResourceRegistryTest {
         expectedException.expect(ResourceNotFoundInitializationException.class);
         resourceRegistry.getEntry(Long.class);
     }
+
+    @Test
+    public void onNonExistingClassShouldFindNoEntry() {
+        RegistryEntry entry = resourceRegistry.findEntry(Long.class);
+        assertThat(entry).isNull();
+    }
+
+    @Test
+    public void onModifyingResourcesShouldThrowException() {
+        resourceRegistry.addEntry(Task.class, new RegistryEntry(null, null, null));
+        expectedException.expect(UnsupportedOperationException.class);
+        resourceRegistry.getResources().clear();
+    }
+
+    @Test
+    public void onExistingClassShouldReturnType() {
+        resourceRegistry.addEntry(Task.class, new RegistryEntry(null, null, null));
+        String resourceType = resourceRegistry.getResourceType(Task.class);
+        assertThat(resourceType).isEqualTo("tasks");
+    }
+
+    @Test
+    public void onUnregisteredSubclassShouldReturnParentUrl() {
+        resourceRegistry.addEntry(Task.class, new RegistryEntry(null, null, null));
+        String resourceUrl = resourceRegistry.getResourceUrl(TaskSubclass.class);
+        assertThat(resourceUrl).isEqualTo(TEST_MODELS_URL + "/tasks");
+    }
+
+    @Test
+    public void onUnregisteredSubclassShouldReturnParentEntry() {
+        RegistryEntry entry = new RegistryEntry(null, null, null);
+        resourceRegistry.addEntry(Task.class, entry);
+
+        assertThat(resourceRegistry.getEntry(TaskSubclass.class)).isSameAs(entry);
+        assertThat(resourceRegistry.getResourceType(TaskSubclass.class)).isEqualTo("tasks");
+    }
+
+    @Test
+    public void onEntryAddedAfterLookupShouldReturnEntry() {
+        try {
+            resourceRegistry.getEntry(Task.class);
+        } catch (ResourceNotFoundInitializationException e) {
+            // not registered yet
+        }
+
+        resourceRegistry.addEntry(Task.class, new RegistryEntry(null, null, null));
+        assertThat(resourceRegistry.getEntry(Task.class)).isNotNull();
+    }
+
+    private static class TaskSubclass extends Task {
+    }
 }
@@ -0,0 +1,87 @@
+package io.katharsis.resource.registry.index;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassIndexProcessorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File sourceDirectory;
+    private File outputDirectory;
+
+    @Before
+    public void prepare() throws Exception {
+        sourceDirectory = temporaryFolder.newFolder("src");
+        outputDirectory = temporaryFolder.newFolder("classes");
+    }
+
+    @Test
+    public void onIncrementalCompilationShouldKeepPreviouslyIndexedClasses() throws Exception {
+        // GIVEN
+        compile(writeResource("FirstResource", "first"));
+
+        // WHEN
+        compile(writeResource("SecondResource", "second"));
+
+        // THEN
+        assertThat(readIndex(ClassIndex.RESOURCES)).containsOnly("test.FirstResource", "test.SecondResource");
+    }
+
+    @Test
+    public void onRecompiledClassWhichNoLongerQualifiesShouldRemoveIt() throws Exception {
+        // GIVEN
+        compile(writeResource("FirstResource", "first"), writeResource("SecondResource", "second"));
+
+        // WHEN
+        compile(writeSource("FirstResource", "public class FirstResource {}"));
+
+        // THEN
+        assertThat(readIndex(ClassIndex.RESOURCES)).containsOnly("test.SecondResource");
+    }
+
+    private File writeResource(String className, String resourceType) throws Exception {
+        return writeSource(className, "@io.katharsis.resource.annotations.JsonApiResource(type = \"" + resourceType
+            + "\") public class " + className + " {}");
+    }
+
+    private File writeSource(String className, String classDeclaration) throws Exception {
+        File sourceFile = new File(sourceDirectory, className + ".java");
+        Files.write(sourceFile.toPath(), ("package test; " + classDeclaration).getBytes(ClassIndex.CHARSET));
+        return sourceFile;
+    }
+
+    private void compile(File... sourceFiles) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String classpath = System.getProperty("java.class.path") + File.pathSeparator + outputDirectory;
+        String[] arguments = new String[sourceFiles.length + 6];
+        arguments[0] = "-processor";
+        arguments[1] = ClassIndexProcessor.class.getName();
+        arguments[2] = "-classpath";
+        arguments[3] = classpath;
+        arguments[4] = "-d";
+        arguments[5] = outputDirectory.getPath();
+        for (int i = 0; i < sourceFiles.length; i++) {
+            arguments[i + 6] = sourceFiles[i].getPath();
+        }
+        assertThat(compiler.run(null, null, null, arguments)).isEqualTo(0);
+    }
+
+    private Set<String> readIndex(String indexName) throws Exception {
+        Set<String> classNames = new LinkedHashSet<>();
+        ClassIndex.readClassNames(new File(outputDirectory, indexName).toURI().toURL(), classNames);
+        return classNames;
+    }
+}
@@ -0,0 +1,87 @@
+package io.katharsis.resource.registry.index;
+
+import io.katharsis.errorhandling.handlers.SomeExceptionMapper;
+import io.katharsis.resource.exception.init.InvalidResourceException;
+import io.katharsis.resource.mock.models.Task;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassIndexTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void onIndexContentShouldSkipBlankLinesAndComments() throws Exception {
+        // GIVEN
+        InputStream inputStream = new ByteArrayInputStream("# comment\n\nfirst.Class\n second.Class \n"
+            .getBytes(ClassIndex.CHARSET));
+        Set<String> classNames = new LinkedHashSet<>();
+
+        // WHEN
+        ClassIndex.readClassNames(inputStream, classNames);
+
+        // THEN
+        assertThat(classNames).containsExactly("first.Class", "second.Class");
+    }
+
+    @Test
+    public void onMultiplePackagesShouldReturnClassesOfAllPackages() {
+        // GIVEN
+        ClassIndex sut = new ClassIndex("io.katharsis.resource.mock.models, io.katharsis.errorhandling.handlers",
+            ClassIndex.getDefaultClassLoader());
+
+        // WHEN
+        Set<Class<?>> resources = sut.getClasses(ClassIndex.RESOURCES);
+        Set<Class<?>> exceptionMappers = sut.getClasses(ClassIndex.EXCEPTION_MAPPERS);
+
+        // THEN
+        assertThat(resources).contains(Task.class);
+        assertThat(exceptionMappers).containsExactly(SomeExceptionMapper.class);
+    }
+
+    @Test
+    public void onPackagePrefixShouldNotReturnClassesOfSiblingPackages() {
+        // GIVEN
+        ClassIndex sut = new ClassIndex("io.katharsis.resource.mock.model", ClassIndex.getDefaultClassLoader());
+
+        // WHEN
+        Set<Class<?>> resources = sut.getClasses(ClassIndex.RESOURCES);
+
+        // THEN
+        assertThat(resources).isEmpty();
+    }
+
+    @Test
+    public void onNotExistingIndexedClassShouldThrowException() throws Exception {
+        // GIVEN
+        File directory = temporaryFolder.getRoot();
+        Path indexFile = directory.toPath().resolve(ClassIndex.RESOURCES);
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, "io.katharsis.NotExistingClass\n".getBytes(ClassIndex.CHARSET));
+        ClassIndex sut = new ClassIndex(null, new URLClassLoader(new URL[]{directory.toURI().toURL()}, null));
+
+        // THEN
+        expectedException.expect(InvalidResourceException.class);
+
+        // WHEN
+        sut.getClasses(ClassIndex.RESOURCES);
+    }
+}
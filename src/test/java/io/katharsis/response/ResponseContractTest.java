@@ -2,7 +2,10 @@ package io.katharsis.response;
 
 import io.katharsis.queryParams.QueryParams;
 import io.katharsis.resource.information.ResourceInformation;
+import io.katharsis.resource.mock.models.Task;
 import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.utils.accessor.BeanAccessor;
+import io.katharsis.utils.accessor.PropertyAccessor;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 import org.junit.Test;
@@ -50,6 +53,8 @@ public class ResponseContractTest {
     public void RelationshipContainerContainerEqualsContract() throws NoSuchFieldException {
         EqualsVerifier.forClass(RelationshipContainer.class)
                 .withPrefabValues(Field.class, String.class.getDeclaredField("value"), String.class.getDeclaredField("hash"))
+                .withPrefabValues(PropertyAccessor.class, BeanAccessor.of(Task.class).getAccessor("id"),
+                    BeanAccessor.of(Task.class).getAccessor("name"))
                 .usingGetClass()
                 .suppress(Warning.NONFINAL_FIELDS)
                 .verify();
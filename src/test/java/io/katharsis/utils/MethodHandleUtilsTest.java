@@ -0,0 +1,45 @@
+package io.katharsis.utils;
+
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MethodHandleUtilsTest {
+
+    @Test
+    public void onPublicMethodOfNonPublicClassShouldReturnHandle() throws Throwable {
+        // GIVEN
+        PrivateBean bean = new PrivateBean();
+
+        // WHEN
+        MethodHandle result = MethodHandleUtils.unreflect(PrivateBean.class.getMethod("getValue"));
+
+        // THEN
+        assertThat(result).isNotNull();
+        assertThat(result.invoke(bean)).isEqualTo("value");
+    }
+
+    @Test
+    public void onPrivateFieldShouldReturnGetterAndSetterHandles() throws Throwable {
+        // GIVEN
+        PrivateBean bean = new PrivateBean();
+
+        // WHEN
+        MethodHandle getter = MethodHandleUtils.unreflectGetter(PrivateBean.class.getDeclaredField("value"));
+        MethodHandle setter = MethodHandleUtils.unreflectSetter(PrivateBean.class.getDeclaredField("value"));
+        setter.invoke(bean, "changed");
+
+        // THEN
+        assertThat(getter.invoke(bean)).isEqualTo("changed");
+    }
+
+    private static class PrivateBean {
+        private String value = "value";
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
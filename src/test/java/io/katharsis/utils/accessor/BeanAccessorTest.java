@@ -0,0 +1,112 @@
+package io.katharsis.utils.accessor;
+
+import io.katharsis.utils.PropertyUtilsTest;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BeanAccessorTest {
+
+    @Test
+    public void onSameClassShouldReturnSameInstance() throws Exception {
+        // WHEN
+        BeanAccessor first = BeanAccessor.of(PropertyUtilsTest.Bean.class);
+        BeanAccessor second = BeanAccessor.of(PropertyUtilsTest.Bean.class);
+
+        // THEN
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    public void onPrivateFieldWithMutatorsShouldAccessValue() throws Exception {
+        // GIVEN
+        PropertyUtilsTest.Bean bean = new PropertyUtilsTest.Bean();
+        PropertyAccessor accessor = BeanAccessor.of(PropertyUtilsTest.Bean.class)
+            .getAccessor("privatePropertyWithMutators");
+
+        // WHEN
+        accessor.setValue(bean, "value");
+
+        // THEN
+        assertThat(accessor.getValue(bean)).isEqualTo("value");
+        assertThat(bean.getPrivatePropertyWithMutators()).isEqualTo("value");
+    }
+
+    @Test
+    public void onPrimitiveFieldShouldBoxValue() throws Exception {
+        // GIVEN
+        PropertyUtilsTest.Bean bean = new PropertyUtilsTest.Bean();
+        PropertyAccessor accessor = BeanAccessor.of(PropertyUtilsTest.Bean.class)
+            .getAccessor("booleanPrimitivePropertyWithMutators");
+
+        // WHEN
+        accessor.setValue(bean, true);
+
+        // THEN
+        assertThat(accessor.getValue(bean)).isEqualTo(true);
+    }
+
+    @Test
+    public void onGetterOnlyPropertyShouldBeReadOnly() throws Exception {
+        // WHEN
+        PropertyAccessor accessor = BeanAccessor.of(GetterOnly.class).getAccessor("property");
+
+        // THEN
+        assertThat(accessor.isReadable()).isTrue();
+        assertThat(accessor.isWritable()).isFalse();
+        assertThat(accessor.getValue(new GetterOnly())).isEqualTo("value");
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void onWritingReadOnlyPropertyShouldThrowException() throws Exception {
+        // GIVEN
+        PropertyAccessor accessor = BeanAccessor.of(GetterOnly.class).getAccessor("property");
+
+        // WHEN
+        accessor.setValue(new GetterOnly(), "value");
+    }
+
+    @Test
+    public void onListValueForSetPropertyShouldConvertValue() throws Exception {
+        // GIVEN
+        SetBean bean = new SetBean();
+        List<String> value = Collections.singletonList("value");
+
+        // WHEN
+        BeanAccessor.of(SetBean.class).getAccessor("values").setValue(bean, value);
+
+        // THEN
+        assertThat(bean.getValues()).containsOnly("value");
+    }
+
+    @Test
+    public void onNonExistingPropertyShouldReturnNull() throws Exception {
+        // WHEN
+        PropertyAccessor accessor = BeanAccessor.of(PropertyUtilsTest.Bean.class).getAccessor("nonExistingProperty");
+
+        // THEN
+        assertThat(accessor).isNull();
+    }
+
+    public static class GetterOnly {
+        public String getProperty() {
+            return "value";
+        }
+    }
+
+    public static class SetBean {
+        private Set<String> values;
+
+        public Set<String> getValues() {
+            return values;
+        }
+
+        public void setValues(Set<String> values) {
+            this.values = values;
+        }
+    }
+}
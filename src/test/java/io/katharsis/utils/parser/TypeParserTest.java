@@ -7,8 +7,10 @@ import org.junit.rules.ExpectedException;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.UUID;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -229,6 +231,87 @@ public class TypeParserTest {
         assertThat(result.iterator().next()).isEqualTo(1L);
     }
 
+    @Test
+    public void onListOfLongsShouldReturnListOfLongsInInputOrder() throws Exception {
+        Iterable<Long> result = sut.parse(Arrays.asList("3", "1", "2"), long.class);
+        assertThat(result).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void onListOfLongsShouldReturnMutableList() throws Exception {
+        // GIVEN
+        List<Long> result = (List<Long>) sut.parse(Arrays.asList("3", "1", "2"), Long.class);
+
+        // WHEN
+        Collections.sort(result);
+        result.add(4L);
+        result.remove(0);
+
+        // THEN
+        assertThat(result).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    public void onListOfIntegersShouldReturnListOfIntegers() throws Exception {
+        Iterable<Integer> result = sut.parse(Arrays.asList("3", "1"), Integer.class);
+        assertThat(result).isInstanceOf(List.class);
+        assertThat(result).containsExactly(3, 1);
+    }
+
+    @Test
+    public void onListWithBadLongShouldThrowException() throws Exception {
+        // THEN
+        expectedException.expect(ParserException.class);
+
+        // WHEN
+        sut.parse(Arrays.asList("1", "a"), Long.class);
+    }
+
+    @Test
+    public void onListOfEnumsShouldReturnListOfEnumValues() throws Exception {
+        Iterable<SampleEnum> result = sut.parse(Arrays.asList("SAMPLE_VALUE", " SAMPLE_VALUE "), SampleEnum.class);
+        assertThat(result).containsExactly(SampleEnum.SAMPLE_VALUE, SampleEnum.SAMPLE_VALUE);
+    }
+
+    @Test
+    public void onUnknownEnumValueShouldThrowException() throws Exception {
+        // THEN
+        expectedException.expect(IllegalArgumentException.class);
+
+        // WHEN
+        sut.parse("UNKNOWN_VALUE", SampleEnum.class);
+    }
+
+    @Test
+    public void onClassWithFactoryMethodShouldReturnClassInstance() throws Exception {
+        SampleFactoryClass result = sut.parse("input", SampleFactoryClass.class);
+        assertThat(result).isExactlyInstanceOf(SampleFactoryClass.class);
+        assertThat(result.value).isEqualTo("input");
+    }
+
+    @Test
+    public void onParserRegisteredAfterFirstParseShouldUseRegisteredParser() throws Exception {
+        // GIVEN
+        sut.parse("input", SampleClass.class);
+        StandardTypeParsers.parsers.put(SampleClass.class, new StandardTypeParser<SampleClass>() {
+            @Override
+            public SampleClass parse(String input) {
+                return new SampleClass("registered " + input);
+            }
+        });
+
+        try {
+            // WHEN
+            SampleClass result = sut.parse("input", SampleClass.class);
+
+            // THEN
+            assertThat(result).isEqualTo(new SampleClass("registered input"));
+        } finally {
+            StandardTypeParsers.parsers.remove(SampleClass.class);
+        }
+    }
+
     private enum SampleEnum {
         SAMPLE_VALUE
     }
@@ -254,6 +337,16 @@ public class TypeParserTest {
         }
     }
 
+    public static class SampleFactoryClass implements Serializable {
+        private String value;
+
+        public static SampleFactoryClass valueOf(String value) {
+            SampleFactoryClass instance = new SampleFactoryClass();
+            instance.value = value;
+            return instance;
+        }
+    }
+
     private static class UnknownClass implements Serializable {
     }
 }
\ No newline at end of file